@@ -1,19 +1,69 @@
 package dev.silentcraft.tools.junit.execution.listener;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
+import org.springframework.test.context.cache.ContextCacheUtils;
 
+import dev.silentcraft.tools.junit.execution.report.AccessTraceRecorder;
+import dev.silentcraft.tools.junit.execution.report.BaselineGate;
+import dev.silentcraft.tools.junit.execution.report.BudgetCheck;
+import dev.silentcraft.tools.junit.execution.report.CacheReplaySimulator;
+import dev.silentcraft.tools.junit.execution.report.ChromeTraceWriter;
+import dev.silentcraft.tools.junit.execution.report.ContextCacheReporter;
+import dev.silentcraft.tools.junit.execution.report.ContextCacheReporters;
+import dev.silentcraft.tools.junit.execution.report.ContextCacheRun;
+import dev.silentcraft.tools.junit.execution.report.DirectoryLock;
+import dev.silentcraft.tools.junit.execution.report.DirtiesContextCosts;
+import dev.silentcraft.tools.junit.execution.report.ExecutionTimeline;
+import dev.silentcraft.tools.junit.execution.report.JUnitXmlReport;
+import dev.silentcraft.tools.junit.execution.report.NdjsonEventLog;
+import dev.silentcraft.tools.junit.execution.report.RegistrySnapshotFile;
+import dev.silentcraft.tools.junit.execution.report.ReuseDistanceHistogram;
+import dev.silentcraft.tools.junit.execution.report.RunSummary;
+import dev.silentcraft.tools.junit.execution.report.SnapshotAggregator;
+import dev.silentcraft.tools.junit.execution.report.StartupOverhead;
+import dev.silentcraft.tools.spring.test.context.cache.BeanUsageRegistry;
+import dev.silentcraft.tools.spring.test.context.cache.CacheCostRollup;
+import dev.silentcraft.tools.spring.test.context.cache.CacheAwareSpringBootTest;
 import dev.silentcraft.tools.spring.test.context.cache.CacheAwareSpringBootTestBootstrapper;
+import dev.silentcraft.tools.spring.test.context.cache.ClasspathFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheBudget;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties;
 import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheStatistics;
+import dev.silentcraft.tools.spring.test.context.cache.ContextPrewarmer;
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.EarlyContextEvictor;
 import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.ObservableContextCache;
 import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestClassConfigurations;
 import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+import dev.silentcraft.tools.spring.test.context.cache.TestInstanceOverheadRegistry;
+import dev.silentcraft.tools.spring.test.context.cache.TestSlice;
 
 /**
  * Global analyzer that hooks into the JUnit Platform's {@link org.junit.platform.launcher.TestExecutionListener}
@@ -42,10 +92,80 @@ import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
  *         </ul>
  *     </li>
  * </ul>
+ * <p>
+ * When bean usage tracing is enabled ({@link ContextCacheMetricsProperties#BEAN_USAGE_ENABLED}), a
+ * <b>slice candidates</b> section follows, listing the test classes whose beans all belong to one
+ * application layer, with the slice to use and the estimated startup time saved.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#TRACE_FILE} is set, an {@link ExecutionTimeline} of test
+ * class executions and context builds is recorded and written as a Chrome trace by {@link ChromeTraceWriter}.
+ * When {@link ContextCacheMetricsProperties#EVENT_LOG_DIR} is set, every cache event is also appended to an
+ * {@link NdjsonEventLog} as it happens, so that a JVM dying before the end of the plan leaves its data behind.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#SNAPSHOT_DIR} is set, the registry of this JVM is saved as a
+ * {@link RegistrySnapshotFile} and a <b>suite-wide</b> section merges the snapshots of every JVM found so far
+ * through {@link SnapshotAggregator}, restoring across Surefire forks the aggregation ADR 0001 preserves across modules.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#PREWARM_ENABLED} is set, the configurations of the test plan are
+ * resolved up front and handed to a {@link ContextPrewarmer}; a <b>prewarming</b> line then reports the load
+ * time hidden behind test execution.
+ * When {@link ContextCacheMetricsProperties#EARLY_EVICTION_ENABLED} is set, the test classes of the plan using
+ * each configuration are counted down as they finish, and an {@link EarlyContextEvictor} closes each context
+ * as soon as its last user is done.
+ * <p>
+ * Whenever contexts were removed through {@code @DirtiesContext} or evicted, a <b>context closes</b> section
+ * reports the time spent closing them per test class. With {@link ContextCacheMetricsProperties#ASYNC_CLOSE_ENABLED},
+ * contexts still closing in the background are awaited first. A <b>{@code @DirtiesContext}</b> section then links
+ * each later rebuild back to the class that dirtied the context, through {@link DirtiesContextCosts}.
+ * <p>
+ * When contexts are pinned (see {@link dev.silentcraft.tools.spring.test.context.cache.PinnedContext}), a
+ * <b>pinned contexts</b> section reports the cache hits each of them served.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#JMX_ENABLED} is set, the {@link ContextCacheStatistics} of the cache are
+ * registered over JMX at the start of the first test plan, to watch long runs live.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#WARM_JVM_ENABLED} is set, the {@link ClasspathFingerprint} is computed
+ * at the start of each test plan; the contexts kept in the cache by a previous plan of the same JVM are reused if it
+ * is unchanged, and closed otherwise.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#CACHE_EFFICIENCY_ENABLED} is set, every lookup of the plan is recorded
+ * by an {@link AccessTraceRecorder}. A <b>cache efficiency</b> section then reports
+ * the {@link ReuseDistanceHistogram} of the lookups and compares the recorded builds with those of an optimal
+ * ({@link CacheReplaySimulator.Policy#BELADY}) cache of the same {@code maxSize}, in the recorded order and with
+ * classes grouped by configuration: the gaps tell whether the cache policy, the class ordering or the number of
+ * distinct configurations is worth working on.
+ * <p>
+ * The run is then handed, as an immutable {@link ContextCacheRun}, to the {@link ContextCacheReporter}s found by
+ * {@link ContextCacheReporters#load()}, which run in parallel. This library registers two of them: when
+ * {@link ContextCacheMetricsProperties#JSON_REPORT_FILE} is set, the whole registry, uncapped, is written as a
+ * {@link dev.silentcraft.tools.junit.execution.report.JsonReport} for dashboards; when
+ * {@link ContextCacheMetricsProperties#HTML_REPORT_FILE} is set, the same data is written as an offline
+ * {@link dev.silentcraft.tools.junit.execution.report.HtmlReport} page.
+ * <p>
+ * When {@link ContextCacheMetricsProperties#BASELINE_DIR} is set, the run is summarized as a {@link RunSummary} and
+ * checked by the {@link BaselineGate} against the summary of the previous run; a regression is logged and written as a
+ * failing {@link JUnitXmlReport}, and the baseline is replaced unless {@link ContextCacheMetricsProperties#BASELINE_UPDATE}
+ * is {@code false}. With a snapshot directory, the suite-wide summary merged from every fork is checked instead of the
+ * summary of this JVM.
+ * <p>
+ * The {@link CacheCostRollup} maintained by the registry is reported by module and down the package tree, up to
+ * {@link ContextCacheMetricsProperties#ROLLUP_PACKAGE_DEPTH}, so that the owners of each can see their share of the
+ * build time.
+ * <p>
+ * A <b>startup overhead</b> section lists the test classes whose {@link StartupOverhead} ratio — context build time
+ * over the rest of their execution time — reaches {@link ContextCacheMetricsProperties#STARTUP_OVERHEAD_MIN_RATIO}.
+ * <p>
+ * A <b>test instance overhead</b> section lists the test classes for which the time recorded by the
+ * {@link TestInstanceOverheadRegistry} — preparing test instances and running method callbacks, with a cached
+ * context — reaches {@link ContextCacheMetricsProperties#INSTANCE_OVERHEAD_MIN_PER_TEST_MILLIS} per test.
+ * <p>
+ * When {@link ContextCacheBudget} limits are declared, on test classes or as JUnit Platform configuration parameters,
+ * the plan is checked against them by {@link BudgetCheck}; exceeded budgets are logged with the test classes and
+ * configuration differences responsible, and written as failing test cases of a {@link JUnitXmlReport}.
  *
  * <h2>Design Notes</h2>
- * This implementation is intentionally internal and does not yet provide public extension points.
- * It demonstrates the potential of analyzing Spring test performance at the suite level.
+ * Apart from {@link ContextCacheReporter}, this implementation is intentionally internal and does not provide public
+ * extension points. It demonstrates the potential of analyzing Spring test performance at the suite level.
  *
  * @see ContextCacheMetricsRegistry
  * @see TestContextHistory
@@ -57,6 +177,20 @@ public class GlobalTestExecutionAnalyzer implements TestExecutionListener {
     private static final Logger log = LoggerFactory.getLogger(GlobalTestExecutionAnalyzer.class);
     private static final String ANSI_YELLOW = "\u001B[33m";
     private static final String ANSI_COLOR_END = "\u001B[0m";
+    private static final double MAX_SLICE_CLOSURE_RATIO = 0.25;
+    private static final Duration PENDING_CLOSES_TIMEOUT = Duration.ofSeconds(30);
+    private static final String DEFAULT_JUNIT_REPORT_DIR = "target/surefire-reports";
+    private static final String BUDGET_SUITE_NAME = "ContextCacheBudget";
+    private static final String BASELINE_SUITE_NAME = "ContextCacheBaseline";
+    private static volatile String classpathFingerprint;
+
+    private volatile ExecutionTimeline timeline;
+    private volatile NdjsonEventLog eventLog;
+    private final Map<String, Long> classStarts = new ConcurrentHashMap<>();
+    private final Map<String, MergedContextConfiguration> classConfigurations = new ConcurrentHashMap<>();
+    private volatile TestPlan currentPlan;
+    private volatile EarlyContextEvictor earlyEvictor;
+    private volatile AccessTraceRecorder accessTrace;
 
     /**
      * Creates a new {@code GlobalTestExecutionAnalyzer}.
@@ -68,20 +202,601 @@ public class GlobalTestExecutionAnalyzer implements TestExecutionListener {
     @Override
     public void testPlanExecutionStarted(TestPlan testPlan) {
         log.info("TestPlan Execution started!");
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.WARM_JVM_ENABLED, false)) {
+            invalidateIfClasspathChanged();
+        }
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.JMX_ENABLED, false)) {
+            ContextCacheStatistics.register(CacheAwareSpringBootTestBootstrapper.observableContextCache());
+        }
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.CACHE_EFFICIENCY_ENABLED, false)) {
+            accessTrace = new AccessTraceRecorder();
+            CacheAwareSpringBootTestBootstrapper.observableContextCache().registerListener(accessTrace);
+        }
+        if (ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.TRACE_FILE) != null) {
+            timeline = new ExecutionTimeline();
+            CacheAwareSpringBootTestBootstrapper.observableContextCache().registerListener(timeline);
+        }
+        currentPlan = testPlan;
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.PREWARM_ENABLED, false)) {
+            startPrewarming(testPlan);
+        }
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.EARLY_EVICTION_ENABLED, false)) {
+            startEarlyEviction(testPlan);
+        }
+        markForkStarted();
+        String eventLogDir = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.EVENT_LOG_DIR);
+        if (eventLogDir != null) {
+            try {
+                eventLog = NdjsonEventLog.open(Path.of(eventLogDir));
+                CacheAwareSpringBootTestBootstrapper.observableContextCache().registerListener(eventLog);
+            } catch (IOException ex) {
+                log.warn("[OCC] Could not open context cache event log in {}", eventLogDir, ex);
+            }
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (!(testIdentifier.getSource().orElse(null) instanceof ClassSource classSource)) {
+            return;
+        }
+        classStarts.put(testIdentifier.getUniqueId(), System.nanoTime());
+        ExecutionTimeline current = timeline;
+        if (current != null) {
+            current.classStarted(testIdentifier.getUniqueId(), classSource.getClassName());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (!(testIdentifier.getSource().orElse(null) instanceof ClassSource classSource)) {
+            return;
+        }
+        release(testIdentifier);
+        Long start = classStarts.remove(testIdentifier.getUniqueId());
+        if (start != null && !classSource.getClassName().contains("$")) {
+            TestClassDurations.record(classSource.getClassName(), Duration.ofNanos(System.nanoTime() - start));
+        }
+        ExecutionTimeline current = timeline;
+        if (current != null) {
+            current.classFinished(testIdentifier.getUniqueId(), testExecutionResult.getStatus().name());
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        release(testIdentifier);
+        TestPlan plan = currentPlan;
+        if (plan != null && earlyEvictor != null) {
+            plan.getDescendants(testIdentifier).forEach(this::release);
+        }
     }
 
     @Override
     public void testPlanExecutionFinished(TestPlan testPlan) {
         log.info("TestPlan Execution finished!");
+        ExecutionTimeline recorded = timeline;
+        timeline = null;
+        if (recorded != null) {
+            CacheAwareSpringBootTestBootstrapper.observableContextCache().unregisterListener(recorded);
+        }
+        closeEventLog();
+        AccessTraceRecorder recordedAccesses = accessTrace;
+        accessTrace = null;
+        if (recordedAccesses != null) {
+            CacheAwareSpringBootTestBootstrapper.observableContextCache().unregisterListener(recordedAccesses);
+        }
+        currentPlan = null;
+        EarlyContextEvictor evictor = earlyEvictor;
+        earlyEvictor = null;
+        classConfigurations.clear();
+        if (evictor != null) {
+            evictor.close();
+        }
+        ContextPrewarmer prewarmer = CacheAwareSpringBootTestBootstrapper.observableContextCache().prewarmWith(null);
+        if (prewarmer != null) {
+            prewarmer.close();
+        }
         if (!CacheAwareSpringBootTestBootstrapper.isActivated()) {
             return;
         }
-        analyzeResults();
+        if (prewarmer != null) {
+            reportPrewarming(prewarmer.stats());
+        }
+        if (evictor != null) {
+            log.info("[OCC] {} Early eviction: {} contexts closed as soon as their last test class finished {}", ANSI_YELLOW,
+                    evictor.evictedCount(), ANSI_COLOR_END);
+        }
+        if (recorded != null) {
+            writeTrace(recorded);
+        }
+        reportRemovals();
+        reportPinnedContexts();
+        Map<TestContextKey, TestContextHistory> snapshot = ContextCacheMetricsRegistry.snapshot();
+        analyzeResults(snapshot);
+        reportDirtiesContextCosts(snapshot);
+        reportRollup(ContextCacheMetricsRegistry.rollup());
+        reportStartupOverhead(snapshot);
+        reportInstanceOverhead();
+        if (recordedAccesses != null) {
+            reportCacheEfficiency(recordedAccesses.trace());
+        }
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.BEAN_USAGE_ENABLED, false)) {
+            reportSliceCandidates(snapshot);
+        }
+        String snapshotDir = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.SNAPSHOT_DIR);
+        SnapshotAggregator.AggregatedSnapshot aggregated = snapshotDir == null ? null
+                : reportSuiteWide(testPlan, snapshot, Path.of(snapshotDir));
+        ContextCacheRun run = ContextCacheRun.of(snapshot, ContextCacheMetricsRegistry.removals(), TestClassDurations.snapshot());
+        runReporters(run);
+        if (snapshotDir == null || ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.SNAPSHOT_RUN_ID) == null) {
+            checkRun(testPlan, run.summary(), byClassName(snapshot), null);
+        }
     }
 
-    private void analyzeResults() {
-        Map<TestContextKey, TestContextHistory> snapshot = ContextCacheMetricsRegistry.snapshot();
+    /**
+     * Checks a run against the baseline and the budgets: the run of this JVM, or the whole suite once the fork
+     * completing a run with shared snapshots merged them.
+     */
+    private static void checkRun(TestPlan testPlan, RunSummary summary, Map<String, TestContextHistory> histories, String runId) {
+        String baselineDir = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.BASELINE_DIR);
+        if (baselineDir != null) {
+            checkBaseline(summary, Path.of(baselineDir), runId);
+        }
+        checkBudgets(testPlan, histories, runId);
+    }
+
+    /**
+     * Checks the budgets on the given histories and writes them as the {@code ContextCacheBudget} JUnit XML suite,
+     * replacing the report of a previous run, or deleting it when no budget is declared. With forks sharing their
+     * snapshots, only the fork completing the run checks them, on the histories merged from every fork, so that the
+     * limits are not multiplied by the number of forks.
+     */
+    private static void checkBudgets(TestPlan testPlan, Map<String, TestContextHistory> histories, String runId) {
+        BudgetCheck.Budget budget = new BudgetCheck.Budget(
+                budgetParameter(testPlan, ContextCacheMetricsProperties.BUDGET_MAX_CONTEXTS),
+                budgetParameter(testPlan, ContextCacheMetricsProperties.BUDGET_MAX_BUILD_SECONDS),
+                budgetParameter(testPlan, ContextCacheMetricsProperties.BUDGET_MAX_REBUILDS_PER_CLASS));
+        Map<String, Integer> maxRebuildsByClass = new HashMap<>();
+        for (String testClass : histories.keySet()) {
+            ContextCacheBudget declared = declaredBudget(testClass);
+            if (declared == null) {
+                continue;
+            }
+            budget = budget.stricter(new BudgetCheck.Budget(declared.maxContexts(), declared.maxBuildSeconds(), ContextCacheBudget.UNLIMITED));
+            if (declared.maxRebuilds() != ContextCacheBudget.UNLIMITED) {
+                maxRebuildsByClass.put(testClass, declared.maxRebuilds());
+            }
+        }
+        List<JUnitXmlReport.Check> checks = BudgetCheck.checkClassNames(histories, budget, maxRebuildsByClass);
+        if (checks.isEmpty()) {
+            try {
+                JUnitXmlReport.delete(junitReportDir(), BUDGET_SUITE_NAME);
+            } catch (IOException ex) {
+                log.warn("[OCC] Could not delete context cache budget report from {}", junitReportDir(), ex);
+            }
+            return;
+        }
+        checks.stream().filter(JUnitXmlReport.Check::failed).forEach(check -> {
+            log.error("[OCC] {} Budget {} exceeded: {} {}", ANSI_YELLOW, check.name(), check.failures().getFirst(), ANSI_COLOR_END);
+            check.failures().stream().skip(1).forEach(failure -> log.error("[OCC] {} {} {}", ANSI_YELLOW, failure, ANSI_COLOR_END));
+        });
+        if (checks.stream().noneMatch(JUnitXmlReport.Check::failed)) {
+            log.info("[OCC] {} Budget: context cache usage within the {} declared limits {}", ANSI_YELLOW, checks.size(), ANSI_COLOR_END);
+        }
+        try {
+            JUnitXmlReport.write(junitReportDir(), BUDGET_SUITE_NAME, runId, checks);
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not write context cache budget report to {}", junitReportDir(), ex);
+        }
+    }
+
+    private static int budgetParameter(TestPlan testPlan, String name) {
+        try {
+            if (testPlan == null) {
+                return ContextCacheMetricsProperties.getInt(name, ContextCacheBudget.UNLIMITED);
+            }
+            return testPlan.getConfigurationParameters().get(name, value -> Integer.parseInt(value.trim()))
+                    .orElseGet(() -> ContextCacheMetricsProperties.getInt(name, ContextCacheBudget.UNLIMITED));
+        } catch (IllegalArgumentException ex) {
+            log.warn("[OCC] Ignoring budget {}: {}", name, ex.getMessage());
+            return ContextCacheBudget.UNLIMITED;
+        }
+    }
+
+    private static ContextCacheBudget declaredBudget(String testClassName) {
+        try {
+            return declaredBudget(Class.forName(testClassName, false, Thread.currentThread().getContextClassLoader()));
+        } catch (ClassNotFoundException | LinkageError ex) {
+            log.debug("[OCC] Could not load {} to read its declared budget", testClassName, ex);
+            return null;
+        }
+    }
 
+    private static ContextCacheBudget declaredBudget(Class<?> testClass) {
+        ContextCacheBudget declared = TestContextAnnotationUtils.findMergedAnnotation(testClass, ContextCacheBudget.class);
+        if (declared != null) {
+            return declared;
+        }
+        CacheAwareSpringBootTest cacheAware = TestContextAnnotationUtils.findMergedAnnotation(testClass, CacheAwareSpringBootTest.class);
+        return cacheAware == null ? null : cacheAware.budget();
+    }
+
+    private static Map<String, TestContextHistory> byClassName(Map<TestContextKey, TestContextHistory> snapshot) {
+        Map<String, TestContextHistory> histories = new HashMap<>();
+        snapshot.forEach((key, history) -> histories.put(key.testClass().getName(), history));
+        return histories;
+    }
+
+    private static Path junitReportDir() {
+        String reportDir = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.JUNIT_REPORT_DIR);
+        return Path.of(reportDir == null ? DEFAULT_JUNIT_REPORT_DIR : reportDir);
+    }
+
+    /**
+     * Checks a run against the baseline of the previous run. With a run id, the baseline directory is locked while
+     * the baseline is replaced: the first check of a run moves the previous baseline aside, and a later one of the
+     * same run, made by a fork started after the run looked complete, compares with it again.
+     */
+    private static void checkBaseline(RunSummary current, Path baselineDir, String runId) {
+        Path baselineFile = baselineDir.resolve(RunSummary.FILE_NAME);
+        Path previousFile = baselineDir.resolve(RunSummary.PREVIOUS_FILE_NAME);
+        try (DirectoryLock lock = DirectoryLock.acquire(baselineDir)) {
+            boolean writtenByThisRun = runId != null && Files.exists(baselineFile) && runId.equals(RunSummary.readRunId(baselineFile));
+            Path reference = writtenByThisRun ? previousFile : baselineFile;
+            boolean regressed = false;
+            if (Files.exists(reference)) {
+                BaselineGate.Verdict verdict = BaselineGate.compare(RunSummary.read(reference), current,
+                        ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.BASELINE_MAX_NEW_CONTEXTS, 0),
+                        Duration.ofSeconds(ContextCacheMetricsProperties.getInt(
+                                ContextCacheMetricsProperties.BASELINE_MAX_ADDED_BUILD_SECONDS, 10)));
+                regressed = verdict.regressed();
+                reportBaseline(verdict, runId);
+            } else {
+                JUnitXmlReport.delete(junitReportDir(), BASELINE_SUITE_NAME);
+            }
+            if (!regressed || ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.BASELINE_UPDATE, true)) {
+                if (runId != null && !writtenByThisRun && Files.exists(baselineFile)) {
+                    Files.move(baselineFile, previousFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                current.write(baselineFile, runId);
+                log.info("[OCC] Context cache baseline written to {}", baselineFile.toAbsolutePath());
+            }
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not check context cache baseline {}", baselineFile, ex);
+        }
+    }
+
+    private static void reportBaseline(BaselineGate.Verdict verdict, String runId) throws IOException {
+        List<String> failures = new ArrayList<>();
+        if (verdict.regressed()) {
+            verdict.failures().forEach(failure -> log.error("[OCC] {} Baseline regression: {} {}", ANSI_YELLOW, failure, ANSI_COLOR_END));
+            verdict.causes().forEach(cause -> log.error("[OCC] {} {} {}", ANSI_YELLOW, cause, ANSI_COLOR_END));
+            failures.addAll(verdict.failures());
+            failures.addAll(verdict.causes());
+        } else {
+            log.info("[OCC] {} Baseline: no new context nor build time above the thresholds {}", ANSI_YELLOW, ANSI_COLOR_END);
+        }
+        JUnitXmlReport.write(junitReportDir(), BASELINE_SUITE_NAME, runId, List.of(new JUnitXmlReport.Check("contextCacheBaseline", failures)));
+    }
+
+    private static void invalidateIfClasspathChanged() {
+        List<String> ignoredPaths = ContextCacheMetricsProperties.getList(ContextCacheMetricsProperties.WARM_JVM_IGNORED_PATHS);
+        String current = ClasspathFingerprint.ofCurrentClasspath(
+                ignoredPaths.isEmpty() ? ClasspathFingerprint.DEFAULT_IGNORED_PATHS : ignoredPaths);
+        String previous = classpathFingerprint;
+        classpathFingerprint = current;
+        ObservableContextCache cache = CacheAwareSpringBootTestBootstrapper.observableContextCache();
+        if (previous == null) {
+            return;
+        }
+        if (previous.equals(current)) {
+            log.info("[OCC] {} Warm JVM: classpath unchanged, {} cached contexts kept from the previous test plan {}", ANSI_YELLOW,
+                    cache.size(), ANSI_COLOR_END);
+        } else {
+            log.info("[OCC] {} Warm JVM: classpath changed, {} cached contexts closed {}", ANSI_YELLOW, cache.invalidateAll(),
+                    ANSI_COLOR_END);
+        }
+    }
+
+    private void startEarlyEviction(TestPlan testPlan) {
+        Map<String, MergedContextConfiguration> configurations = new LinkedHashMap<>();
+        testPlan.getRoots().forEach(root -> collectConfigurations(testPlan, root, configurations));
+        Map<MergedContextConfiguration, Integer> users = new HashMap<>();
+        configurations.values().forEach(config -> users.merge(config, 1, Integer::sum));
+        classConfigurations.putAll(configurations);
+        earlyEvictor = new EarlyContextEvictor(CacheAwareSpringBootTestBootstrapper.observableContextCache(), users);
+    }
+
+    private void release(TestIdentifier testIdentifier) {
+        EarlyContextEvictor evictor = earlyEvictor;
+        MergedContextConfiguration config = classConfigurations.remove(testIdentifier.getUniqueId());
+        if (evictor != null && config != null) {
+            evictor.release(config);
+        }
+    }
+
+    private static void startPrewarming(TestPlan testPlan) {
+        Map<String, MergedContextConfiguration> configurations = new LinkedHashMap<>();
+        testPlan.getRoots().forEach(root -> collectConfigurations(testPlan, root, configurations));
+        if (configurations.isEmpty()) {
+            return;
+        }
+        List<MergedContextConfiguration> plan = new ArrayList<>(configurations.values());
+        ContextPrewarmer prewarmer = new ContextPrewarmer(plan,
+                ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.PREWARM_CONCURRENCY, 1),
+                ContextCacheMetricsProperties.getDouble(ContextCacheMetricsProperties.PREWARM_MAX_HEAP_USAGE, 0.7));
+        ObservableContextCache cache = CacheAwareSpringBootTestBootstrapper.observableContextCache();
+        ContextPrewarmer previous = cache.prewarmWith(prewarmer);
+        if (previous != null) {
+            previous.close();
+        }
+        prewarmer.advance(null, cache::contains);
+    }
+
+    private static void collectConfigurations(TestPlan testPlan, TestIdentifier identifier,
+                                              Map<String, MergedContextConfiguration> configurations) {
+        if (identifier.getSource().orElse(null) instanceof ClassSource classSource
+                && TestContextAnnotationUtils.findMergedAnnotation(classSource.getJavaClass(), CacheAwareSpringBootTest.class) != null) {
+            MergedContextConfiguration config = TestClassConfigurations.resolve(classSource.getJavaClass());
+            if (config != null) {
+                configurations.put(identifier.getUniqueId(), config);
+            }
+        }
+        testPlan.getChildren(identifier).forEach(child -> collectConfigurations(testPlan, child, configurations));
+    }
+
+    private static void reportRemovals() {
+        if (!CacheAwareSpringBootTestBootstrapper.observableContextCache().awaitPendingCloses(PENDING_CLOSES_TIMEOUT)) {
+            log.warn("[OCC] Some contexts were still closing after {} s, their close time is not reported",
+                    PENDING_CLOSES_TIMEOUT.toSeconds());
+        }
+        Map<TestContextKey, List<ContextRemoval>> removals = ContextCacheMetricsRegistry.removals();
+        if (removals.isEmpty()) {
+            return;
+        }
+        Duration total = closeDuration(removals.values().stream().flatMap(List::stream).toList());
+        log.info("[OCC] {} Context closes: {} ms spent closing removed or evicted contexts - following the 5 most expensive test classes {}",
+                ANSI_YELLOW, total.toMillis(), ANSI_COLOR_END);
+        removals.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByValue((r1, r2) -> closeDuration(r2).compareTo(closeDuration(r1))))
+                .limit(5)
+                .forEach(entry -> log.info("[OCC] {} {} {} - {} contexts closed ({} dirtied, {} evicted, {} early evicted) in {} ms",
+                        ANSI_YELLOW, entry.getKey().testClass().getSimpleName(), ANSI_COLOR_END, entry.getValue().size(),
+                        count(entry.getValue(), ContextRemoval.Cause.REMOVED), count(entry.getValue(), ContextRemoval.Cause.EVICTED),
+                        count(entry.getValue(), ContextRemoval.Cause.EARLY_EVICTED), closeDuration(entry.getValue()).toMillis()));
+    }
+
+    private static long count(List<ContextRemoval> removals, ContextRemoval.Cause cause) {
+        return removals.stream().filter(removal -> removal.cause() == cause).count();
+    }
+
+    private static void reportPinnedContexts() {
+        Map<String, Integer> pinnedHits = CacheAwareSpringBootTestBootstrapper.observableContextCache().pinnedHits();
+        if (pinnedHits.isEmpty()) {
+            return;
+        }
+        log.info("[OCC] {} Pinned contexts: {} pinned, {} cache hits served by pinned contexts {}", ANSI_YELLOW, pinnedHits.size(),
+                pinnedHits.values().stream().mapToInt(Integer::intValue).sum(), ANSI_COLOR_END);
+        pinnedHits.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> log.info("[OCC] {} Pinned context {} - {} hits {}", ANSI_YELLOW, entry.getKey(), entry.getValue(),
+                        ANSI_COLOR_END));
+    }
+
+    private static void reportDirtiesContextCosts(Map<TestContextKey, TestContextHistory> snapshot) {
+        List<DirtiesContextCosts.Cost> costs = DirtiesContextCosts.attribute(snapshot, ContextCacheMetricsRegistry.removals())
+                .stream()
+                .filter(cost -> cost.rebuilds() > 0)
+                .toList();
+        if (costs.isEmpty()) {
+            return;
+        }
+        log.warn("[OCC] {} @DirtiesContext: {} test classes caused {} downstream rebuilds {}", ANSI_YELLOW, costs.size(),
+                costs.stream().mapToInt(DirtiesContextCosts.Cost::rebuilds).sum(), ANSI_COLOR_END);
+        costs.stream().limit(5).forEach(cost -> log.warn("[OCC] {} {} {}", ANSI_YELLOW, cost.describe(), ANSI_COLOR_END));
+    }
+
+    private static void reportRollup(CacheCostRollup.Rollup rollup) {
+        if (rollup.modules().isEmpty()) {
+            return;
+        }
+        log.info("[OCC] {} Context build cost by module: {}", ANSI_YELLOW, ANSI_COLOR_END);
+        rollup.modules().forEach(module -> log.info("[OCC] {}   {} {}", ANSI_YELLOW, describe(rollup, module), ANSI_COLOR_END));
+        int depth = ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.ROLLUP_PACKAGE_DEPTH, 3);
+        if (depth <= 0) {
+            return;
+        }
+        log.info("[OCC] {} Context build cost by package: {}", ANSI_YELLOW, ANSI_COLOR_END);
+        List<CacheCostRollup.Totals> packages = rollup.packages().stream()
+                .filter(packageTotals -> packageTotals.depth() <= depth)
+                .toList();
+        for (int i = 0; i < packages.size(); i++) {
+            CacheCostRollup.Totals packageTotals = packages.get(i);
+            // a package whose whole cost is that of its first subpackage tells nothing more
+            if (i + 1 < packages.size() && isSubpackageWithSameCost(packages.get(i + 1), packageTotals)) {
+                continue;
+            }
+            log.info("[OCC] {} {} {} {}", ANSI_YELLOW, "  ".repeat(packageTotals.depth()), describe(rollup, packageTotals),
+                    ANSI_COLOR_END);
+        }
+    }
+
+    private static boolean isSubpackageWithSameCost(CacheCostRollup.Totals candidate, CacheCostRollup.Totals parent) {
+        return candidate.name().startsWith(parent.name() + ".") && candidate.builds() == parent.builds()
+                && candidate.buildDuration().equals(parent.buildDuration()) && candidate.distinctContexts() == parent.distinctContexts();
+    }
+
+    private static String describe(CacheCostRollup.Rollup rollup, CacheCostRollup.Totals totals) {
+        return String.format(Locale.ROOT, "%s - %d distinct contexts, %d builds, %.1f s (%.0f%%)", totals.name(),
+                totals.distinctContexts(), totals.builds(), totals.buildDuration().toMillis() / 1000.0, rollup.share(totals) * 100);
+    }
+
+    private static void reportStartupOverhead(Map<TestContextKey, TestContextHistory> snapshot) {
+        double minRatio = ContextCacheMetricsProperties.getDouble(ContextCacheMetricsProperties.STARTUP_OVERHEAD_MIN_RATIO, 10);
+        Duration minBuildDuration = Duration.ofSeconds(
+                ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.STARTUP_OVERHEAD_MIN_BUILD_SECONDS, 1));
+        List<StartupOverhead.Ratio> dominated = StartupOverhead.of(snapshot, TestClassDurations.snapshot()).stream()
+                .filter(ratio -> ratio.dominatedBy(minRatio, minBuildDuration))
+                .toList();
+        if (dominated.isEmpty()) {
+            return;
+        }
+        log.warn("[OCC] {} Startup overhead: {} test classes spend at least {} times longer building contexts than running tests "
+                + "- candidates for a shared context or a test slice {}", ANSI_YELLOW, dominated.size(), minRatio, ANSI_COLOR_END);
+        dominated.stream().limit(5).forEach(ratio -> log.warn("[OCC] {} {} {}", ANSI_YELLOW, ratio.describe(), ANSI_COLOR_END));
+    }
+
+    private static void reportInstanceOverhead() {
+        Duration minPerTest = Duration.ofMillis(
+                ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.INSTANCE_OVERHEAD_MIN_PER_TEST_MILLIS, 50));
+        List<Map.Entry<TestContextKey, TestInstanceOverheadRegistry.TestInstanceOverhead>> overheads =
+                TestInstanceOverheadRegistry.snapshot().entrySet().stream()
+                        .filter(entry -> entry.getValue().perTest().compareTo(minPerTest) >= 0)
+                        .sorted(Map.Entry.comparingByValue(
+                                Comparator.comparing(TestInstanceOverheadRegistry.TestInstanceOverhead::total).reversed()))
+                        .toList();
+        if (overheads.isEmpty()) {
+            return;
+        }
+        log.warn("[OCC] {} Test instance overhead: {} test classes spend at least {} ms per test preparing test instances "
+                + "and in method callbacks, with a cached context {}", ANSI_YELLOW, overheads.size(), minPerTest.toMillis(), ANSI_COLOR_END);
+        overheads.stream().limit(5).forEach(entry -> {
+            TestInstanceOverheadRegistry.TestInstanceOverhead overhead = entry.getValue();
+            log.warn("[OCC] {} {}: {} ms per test - {} instances prepared in {} ms, {} tests with {} ms before and {} ms after {}",
+                    ANSI_YELLOW, entry.getKey().testClass().getSimpleName(), overhead.perTest().toMillis(), overhead.preparedInstances(),
+                    overhead.preparation().toMillis(), overhead.testMethods(), overhead.beforeMethods().toMillis(),
+                    overhead.afterMethods().toMillis(), ANSI_COLOR_END);
+        });
+    }
+
+    private static void reportCacheEfficiency(CacheReplaySimulator.AccessTrace trace) {
+        if (trace.accesses().isEmpty()) {
+            return;
+        }
+        List<CacheReplaySimulator.AccessTrace> traces = List.of(trace);
+        int maxSize = ContextCacheUtils.retrieveMaxCacheSize();
+        ReuseDistanceHistogram histogram = ReuseDistanceHistogram.of(traces);
+        CacheReplaySimulator.Scenario optimal = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.BELADY,
+                CacheReplaySimulator.Ordering.RECORDED, maxSize);
+        CacheReplaySimulator.Scenario optimalGrouped = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.BELADY,
+                CacheReplaySimulator.Ordering.GROUPED, maxSize);
+        log.info("[OCC] {} {} {}", ANSI_YELLOW, histogram.describe(), ANSI_COLOR_END);
+        log.info("[OCC] {} Context builds at maxSize={}: {} recorded, {} with an optimal (Belady) cache, {} with an optimal cache "
+                        + "and classes grouped by configuration, {} distinct configurations {}", ANSI_YELLOW, maxSize,
+                trace.recordedBuilds(), optimal.builds(), optimalGrouped.builds(), histogram.coldLookups(), ANSI_COLOR_END);
+    }
+
+    private static Duration closeDuration(List<ContextRemoval> removals) {
+        return removals.stream().map(ContextRemoval::closeDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    private static void reportPrewarming(ContextPrewarmer.Stats stats) {
+        log.info("[OCC] {} Prewarming: {} ms of context load time hidden behind test execution - {} of {} prewarmed contexts used, "
+                        + "{} failed, {} skipped by the memory ceiling {}", ANSI_YELLOW, stats.hidden().toMillis(), stats.taken(),
+                stats.started(), stats.failed(), stats.skippedForMemory(), ANSI_COLOR_END);
+    }
+
+    private void closeEventLog() {
+        NdjsonEventLog current = eventLog;
+        eventLog = null;
+        if (current == null) {
+            return;
+        }
+        CacheAwareSpringBootTestBootstrapper.observableContextCache().unregisterListener(current);
+        try {
+            current.close();
+            log.info("[OCC] Context cache events written to {}", current.file().toAbsolutePath());
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not complete context cache event log {}", current.file(), ex);
+        }
+    }
+
+    /**
+     * Shares the snapshot of this JVM and reports the suite-wide one merged from every fork. The snapshot directory
+     * stays locked until the baseline and budgets are checked, so that exactly one fork sees the run complete.
+     */
+    private static SnapshotAggregator.AggregatedSnapshot reportSuiteWide(TestPlan testPlan,
+                                                                         Map<TestContextKey, TestContextHistory> snapshot,
+                                                                         Path snapshotDir) {
+        String runId = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.SNAPSHOT_RUN_ID);
+        try (DirectoryLock lock = DirectoryLock.acquire(snapshotDir)) {
+            RegistrySnapshotFile.write(snapshot, TestClassDurations.snapshot(), snapshotDir, runId);
+            if (runId != null) {
+                int stale = SnapshotAggregator.deleteStale(snapshotDir, runId);
+                if (stale > 0) {
+                    log.info("[OCC] Deleted {} context cache snapshots of earlier runs from {}", stale, snapshotDir);
+                }
+            }
+            SnapshotAggregator.AggregatedSnapshot aggregated = SnapshotAggregator.aggregate(snapshotDir, runId);
+            if (aggregated.snapshotCount() > 1) {
+                aggregated.report().forEach(line -> log.warn("[OCC] {} {} {}", ANSI_YELLOW, line, ANSI_COLOR_END));
+            }
+            if (runId != null) {
+                int pending = SnapshotAggregator.pendingForks(snapshotDir, runId);
+                if (pending == 0) {
+                    checkRun(testPlan, RunSummary.ofClassNames(aggregated.histories()), aggregated.histories(), runId);
+                } else {
+                    log.info("[OCC] Context cache baseline and budgets left to the last of the {} forks of run {} still running",
+                            pending, runId);
+                }
+            }
+            return aggregated;
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not aggregate context cache snapshots in {}", snapshotDir, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Marks this fork as started in the shared snapshot directory, so that the fork completing the run waits for its
+     * snapshot before checking the suite-wide budgets.
+     */
+    private static void markForkStarted() {
+        String snapshotDir = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.SNAPSHOT_DIR);
+        String runId = ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.SNAPSHOT_RUN_ID);
+        if (snapshotDir == null || runId == null) {
+            return;
+        }
+        try (DirectoryLock lock = DirectoryLock.acquire(Path.of(snapshotDir))) {
+            RegistrySnapshotFile.markStarted(Path.of(snapshotDir), runId);
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not mark the fork as started in {}", snapshotDir, ex);
+        }
+    }
+
+    private static void runReporters(ContextCacheRun run) {
+        List<ContextCacheReporter> reporters = ContextCacheReporters.load();
+        if (reporters.isEmpty()) {
+            return;
+        }
+        int parallelism = ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.REPORTERS_PARALLELISM, 2);
+        Duration timeout = Duration.ofSeconds(ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.REPORTERS_TIMEOUT_SECONDS, 60));
+        for (ContextCacheReporters.Outcome outcome : ContextCacheReporters.run(reporters, run, parallelism, timeout)) {
+            if (outcome.succeeded()) {
+                log.debug("[OCC] Reporter {} completed in {} ms", outcome.name(), outcome.duration().toMillis());
+            } else if (outcome.failure() instanceof TimeoutException) {
+                log.warn("[OCC] Reporter {} did not complete within {} s and was interrupted", outcome.name(), timeout.toSeconds());
+            } else {
+                log.warn("[OCC] Reporter {} failed", outcome.name(), outcome.failure());
+            }
+        }
+    }
+
+    private static void writeTrace(ExecutionTimeline recorded) {
+        Path target = Path.of(ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.TRACE_FILE));
+        try {
+            ChromeTraceWriter.write(recorded, target);
+            log.info("[OCC] {} Execution timeline written to {} - open it in https://ui.perfetto.dev {}", ANSI_YELLOW,
+                    target.toAbsolutePath(), ANSI_COLOR_END);
+        } catch (IOException ex) {
+            log.warn("[OCC] Could not write execution timeline to {}", target, ex);
+        }
+    }
+
+    private void analyzeResults(Map<TestContextKey, TestContextHistory> snapshot) {
         if (contextWasBuiltOnlyOnce(snapshot)) {
             log.info("[OCC] {} Perfect! No cache misses detected, all your tests share the same configuration. {}", ANSI_YELLOW, ANSI_COLOR_END);
             return;
@@ -114,6 +829,50 @@ public class GlobalTestExecutionAnalyzer implements TestExecutionListener {
 
     }
 
+    private void reportSliceCandidates(Map<TestContextKey, TestContextHistory> snapshot) {
+        List<Map.Entry<TestContextKey, BeanUsageRegistry.BeanUsage>> candidates = BeanUsageRegistry.snapshot().entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().slice() != TestSlice.NONE)
+                .filter(entry -> entry.getValue().closureRatio() <= MAX_SLICE_CLOSURE_RATIO)
+                .sorted(Map.Entry.comparingByValue((u1, u2) -> Double.compare(u1.closureRatio(), u2.closureRatio())))
+                .toList();
+
+        if (candidates.isEmpty()) {
+            log.info("[OCC] {} Bean usage: no test class could run on a narrower slice. {}", ANSI_YELLOW, ANSI_COLOR_END);
+            return;
+        }
+
+        log.warn("[OCC] {} Slice candidates: {} test classes use a small part of their application context {}", ANSI_YELLOW,
+                candidates.size(), ANSI_COLOR_END);
+        candidates.forEach(entry -> {
+            BeanUsageRegistry.BeanUsage usage = entry.getValue();
+            Duration saved = estimatedLoadDuration(entry.getKey(), snapshot)
+                    .multipliedBy(Math.round((1 - usage.closureRatio()) * 100))
+                    .dividedBy(100);
+            log.warn("[OCC] {} {} {} - resolves {} beans needing {} of {} - consider {}, estimated {} ms saved per context build",
+                    ANSI_YELLOW, entry.getKey().testClass().getSimpleName(), ANSI_COLOR_END, usage.resolvedBeans().size(),
+                    usage.beanClosure().size(), usage.beanDefinitionCount(), usage.slice().annotation(), saved.toMillis());
+        });
+    }
+
+    private static Duration estimatedLoadDuration(TestContextKey key, Map<TestContextKey, TestContextHistory> snapshot) {
+        TestContextHistory history = snapshot.get(key);
+        if (history == null || history.events().isEmpty()) {
+            return Duration.ZERO;
+        }
+        List<TestContextHistory.Events> events = history.events();
+        TestContextHistory.Events latest = events.get(events.size() - 1);
+
+        return snapshot.values().stream()
+                .map(TestContextHistory::events)
+                .flatMap(List::stream)
+                .filter(TestContextHistory.Events::isLoad)
+                .filter(event -> event.fingerprint().equals(latest.fingerprint()))
+                .map(TestContextHistory.Events::duration)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
     private static String collectRebuildEventsActiveProfiles(Map.Entry<TestContextKey, TestContextHistory> entry) {
         return entry.getValue().rebuildEvents()
                 .stream()
@@ -0,0 +1,49 @@
+package dev.silentcraft.tools.junit.execution.listener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the wall-clock execution time of each top-level test class, including the time spent
+ * building its {@code ApplicationContext}.
+ * <p>
+ * Populated by {@link GlobalTestExecutionAnalyzer} for every test class of the JUnit Platform, whether or
+ * not it uses Spring. Like {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry},
+ * it is never cleared automatically, so that the durations of several modules running in the same JVM add up.
+ *
+ * @see dev.silentcraft.tools.junit.execution.report.ForkPartitioner
+ */
+public final class TestClassDurations {
+
+    private static final Map<String, Duration> DURATIONS = new ConcurrentHashMap<>();
+
+    private TestClassDurations() {
+    }
+
+    /**
+     * Records the execution time of a test class, adding it to any time already recorded for that class.
+     *
+     * @param className the fully qualified name of the test class
+     * @param duration  the time the class took to run
+     */
+    public static void record(String className, Duration duration) {
+        DURATIONS.merge(className, duration, Duration::plus);
+    }
+
+    /**
+     * Returns an immutable snapshot of the recorded durations.
+     *
+     * @return the execution time of each test class, by class name
+     */
+    public static Map<String, Duration> snapshot() {
+        return Map.copyOf(DURATIONS);
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public static void clear() {
+        DURATIONS.clear();
+    }
+}
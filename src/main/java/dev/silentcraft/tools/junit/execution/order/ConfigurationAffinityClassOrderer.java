@@ -0,0 +1,51 @@
+package dev.silentcraft.tools.junit.execution.order;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+
+/**
+ * {@link ClassOrderer} running the test classes that share a configuration one after the other.
+ * <p>
+ * Classes are grouped by {@link ConfigurationFingerprint#ofTestClass(Class)}; groups keep the position of
+ * their first class, and classes keep their relative order within a group. Classes without a Spring
+ * configuration stay where they are. Each context is therefore built when its group starts and reused by
+ * the rest of the group, instead of being evicted by unrelated contexts in between.
+ * <p>
+ * Enable it for the whole suite in {@code junit-platform.properties}:
+ *
+ * <pre>
+ * junit.jupiter.testclass.order.default=dev.silentcraft.tools.junit.execution.order.ConfigurationAffinityClassOrderer
+ * </pre>
+ *
+ * @see ConfigurationAffinityLocks
+ */
+public class ConfigurationAffinityClassOrderer implements ClassOrderer {
+
+    /**
+     * Creates a new {@code ConfigurationAffinityClassOrderer}.
+     * Instantiated by JUnit Jupiter from the {@code junit.jupiter.testclass.order.default} configuration parameter.
+     */
+    public ConfigurationAffinityClassOrderer() {
+    }
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        List<? extends ClassDescriptor> descriptors = context.getClassDescriptors();
+        Map<String, Integer> groupPositions = new HashMap<>();
+        Map<ClassDescriptor, Integer> positions = new HashMap<>();
+        for (int i = 0; i < descriptors.size(); i++) {
+            ClassDescriptor descriptor = descriptors.get(i);
+            String fingerprint = ConfigurationFingerprint.ofTestClass(descriptor.getTestClass());
+            positions.put(descriptor, fingerprint == null ? i : groupPositions.computeIfAbsent(fingerprint, group -> positions.size()));
+        }
+        descriptors.sort(Comparator.comparingInt(positions::get));
+    }
+}
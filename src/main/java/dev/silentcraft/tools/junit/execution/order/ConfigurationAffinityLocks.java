@@ -0,0 +1,66 @@
+package dev.silentcraft.tools.junit.execution.order;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties;
+
+/**
+ * {@link ResourceLocksProvider} turning each Spring configuration into an exclusive resource, so that in
+ * a parallel run the test classes sharing a configuration form a lane: they run one at a time, while
+ * classes of other configurations run on the other workers.
+ * <p>
+ * Without lanes, {@code junit.jupiter.execution.parallel.mode.classes.default=concurrent} starts classes
+ * sharing a context on several workers at once; all but one of them wait for the first build, then
+ * compete with other configurations for the cache. With lanes, the workers pick up classes of other
+ * configurations instead.
+ * <p>
+ * {@link dev.silentcraft.tools.spring.test.context.cache.CacheAwareSpringBootTest} declares this provider,
+ * which only contributes locks when {@link ContextCacheMetricsProperties#AFFINITY_LOCKS_ENABLED} is set.
+ * Other test classes can declare it with {@code @ResourceLock(providers = ConfigurationAffinityLocks.class)}.
+ *
+ * <h2>Limitations</h2>
+ * <ul>
+ *     <li>JUnit runs the methods of a class holding an exclusive resource on the same thread.</li>
+ *     <li>Spring's {@code DefaultCacheAwareContextLoaderDelegate} loads contexts while holding a lock on the
+ *     whole cache, so two configurations are never built at the same time, whatever the lanes.</li>
+ * </ul>
+ *
+ * @see ConfigurationAffinityClassOrderer
+ */
+public class ConfigurationAffinityLocks implements ResourceLocksProvider {
+
+    /**
+     * Prefix of the lock keys, followed by the configuration fingerprint.
+     */
+    public static final String LOCK_PREFIX = "dev.silentcraft.context-cache.configuration:";
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new {@code ConfigurationAffinityLocks}.
+     * Instantiated by JUnit Jupiter from {@code @ResourceLock(providers = ...)}.
+     */
+    public ConfigurationAffinityLocks() {
+        this(ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.AFFINITY_LOCKS_ENABLED, false));
+    }
+
+    ConfigurationAffinityLocks(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Set<Lock> provideForClass(Class<?> testClass) {
+        if (!enabled) {
+            return Set.of();
+        }
+        String fingerprint = ConfigurationFingerprint.ofTestClass(testClass);
+        if (fingerprint == null) {
+            return Set.of();
+        }
+        return Set.of(new Lock(LOCK_PREFIX + fingerprint, ResourceAccessMode.READ_WRITE));
+    }
+}
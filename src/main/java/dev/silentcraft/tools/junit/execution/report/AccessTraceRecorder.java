@@ -0,0 +1,93 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.test.context.MergedContextConfiguration;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMissesListener;
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+
+/**
+ * Records the access stream of the context cache in memory, as an {@link CacheReplaySimulator.AccessTrace}.
+ * <p>
+ * Every lookup, hit or miss, and every {@code @DirtiesContext} removal is appended in the order the cache sees it;
+ * context loads only contribute their build time. Evictions are not recorded, since they are a consequence of the
+ * cache policy rather than of the test plan.
+ * <p>
+ * Registered for the whole test plan by
+ * {@link dev.silentcraft.tools.junit.execution.listener.GlobalTestExecutionAnalyzer}, which replays the trace to
+ * compute a {@link ReuseDistanceHistogram} and the {@link CacheReplaySimulator.Policy#BELADY} lower bound.
+ */
+public final class AccessTraceRecorder implements ContextCacheMissesListener {
+
+    private final List<CacheReplaySimulator.Access> accesses = new ArrayList<>();
+    private final Map<String, Duration> buildTotals = new HashMap<>();
+    private final Map<String, Integer> buildCounts = new HashMap<>();
+    private int builds;
+    private Duration buildDuration = Duration.ZERO;
+
+    /**
+     * Creates an empty recorder.
+     */
+    public AccessTraceRecorder() {
+    }
+
+    @Override
+    public void onCacheMiss(MergedContextConfiguration key) {
+        lookup(key);
+    }
+
+    @Override
+    public void onCacheHit(MergedContextConfiguration key) {
+        lookup(key);
+    }
+
+    @Override
+    public synchronized void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+        String fingerprint = ConfigurationFingerprint.of(key);
+        buildTotals.merge(fingerprint, loadDuration, Duration::plus);
+        buildCounts.merge(fingerprint, 1, Integer::sum);
+        builds++;
+        buildDuration = buildDuration.plus(loadDuration);
+    }
+
+    /**
+     * Records the full build time of a prewarmed context, which a replay without prewarming would spend.
+     */
+    @Override
+    public void onContextPrewarmed(MergedContextConfiguration key, Duration buildDuration, Duration waited) {
+        onContextLoaded(key, buildDuration);
+    }
+
+    @Override
+    public synchronized void onContextRemoved(ContextRemoval removal) {
+        if (removal.cause() == ContextRemoval.Cause.REMOVED) {
+            accesses.add(new CacheReplaySimulator.Access(removal.timestamp(), removal.testClass().getName(),
+                    removal.fingerprint(), true));
+        }
+    }
+
+    /**
+     * Returns the accesses recorded so far.
+     *
+     * @return the recorded trace, ordered by timestamp
+     */
+    public synchronized CacheReplaySimulator.AccessTrace trace() {
+        List<CacheReplaySimulator.Access> ordered = new ArrayList<>(accesses);
+        ordered.sort((a1, a2) -> a1.timestamp().compareTo(a2.timestamp()));
+        Map<String, Duration> means = new HashMap<>();
+        buildTotals.forEach((fingerprint, total) -> means.put(fingerprint, total.dividedBy(buildCounts.get(fingerprint))));
+        return new CacheReplaySimulator.AccessTrace(null, ordered, means, builds, buildDuration);
+    }
+
+    private synchronized void lookup(MergedContextConfiguration key) {
+        accesses.add(new CacheReplaySimulator.Access(Instant.now(), key.getTestClass().getName(),
+                ConfigurationFingerprint.of(key), false));
+    }
+}
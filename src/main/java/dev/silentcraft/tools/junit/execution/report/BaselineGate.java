@@ -0,0 +1,109 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the {@link RunSummary} of a run with the baseline of a previous run and tells whether the context
+ * cache regressed.
+ * <p>
+ * A run regresses when it builds more distinct configurations than the baseline, beyond {@code maxNewContexts},
+ * or when it spends more than {@code maxAddedBuildDuration} of additional time building contexts. Configurations
+ * are identified by their {@link dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint}, which is
+ * the same in every JVM; still, a configuration replacing another one, e.g. after a property changed, is not a new
+ * context, so the gate counts distinct configurations rather than fingerprints unknown to the baseline. Either way
+ * the {@link Verdict} names the configurations unknown to the baseline with the test classes using them and the
+ * test classes whose rebuilds increased, since those are the changes to look at.
+ *
+ * <pre>{@code
+ * BaselineGate.Verdict verdict = BaselineGate.compare(RunSummary.read(baselineFile), current, 0, Duration.ofSeconds(10));
+ * if (verdict.regressed()) {
+ *     verdict.failures().forEach(System.err::println);
+ * }
+ * }</pre>
+ */
+public final class BaselineGate {
+
+    private BaselineGate() {
+    }
+
+    /**
+     * Compares a run with its baseline.
+     *
+     * @param baseline              the summary of the reference run
+     * @param current               the summary of the run to check
+     * @param maxNewContexts        the number of configurations unknown to the baseline tolerated
+     * @param maxAddedBuildDuration the additional build time tolerated
+     * @return the outcome of the comparison
+     */
+    public static Verdict compare(RunSummary baseline, RunSummary current, int maxNewContexts, Duration maxAddedBuildDuration) {
+        Map<String, RunSummary.ConfigurationBuilds> newConfigurations = new TreeMap<>();
+        current.configurations().forEach((fingerprint, builds) -> {
+            if (builds.builds() > 0 && !baseline.configurations().containsKey(fingerprint)) {
+                newConfigurations.put(fingerprint, builds);
+            }
+        });
+        long addedContexts = current.distinctContexts() - baseline.distinctContexts();
+        Duration addedBuildDuration = current.buildDuration().minus(baseline.buildDuration());
+
+        List<String> failures = new ArrayList<>();
+        if (addedContexts > maxNewContexts) {
+            failures.add("%d new distinct contexts (%d tolerated): %d contexts built instead of %d".formatted(
+                    addedContexts, maxNewContexts, current.contextsBuilt(), baseline.contextsBuilt()));
+        }
+        if (addedBuildDuration.compareTo(maxAddedBuildDuration) > 0) {
+            failures.add(String.format(Locale.ROOT, "%.1f s more spent building contexts (%.1f s tolerated): %.1f s instead of %.1f s",
+                    seconds(addedBuildDuration), seconds(maxAddedBuildDuration), seconds(current.buildDuration()),
+                    seconds(baseline.buildDuration())));
+        }
+
+        List<String> causes = new ArrayList<>();
+        newConfigurations.forEach((fingerprint, builds) -> causes.add(String.format(Locale.ROOT,
+                "new context %s built %d times in %.1f s, used by %s", fingerprint, builds.builds(),
+                seconds(builds.buildDuration()), builds.testClasses().stream().sorted().toList())));
+        new TreeMap<>(current.rebuilds()).forEach((testClass, rebuilds) -> {
+            int previous = baseline.rebuilds().getOrDefault(testClass, 0);
+            if (rebuilds > previous) {
+                causes.add("%s triggers %d rebuilds instead of %d".formatted(testClass, rebuilds, previous));
+            }
+        });
+        return new Verdict(failures, causes);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    /**
+     * The outcome of a comparison with the baseline.
+     *
+     * @param failures the thresholds exceeded, empty if the run did not regress
+     * @param causes   the new configurations and the test classes whose rebuilds increased
+     */
+    public record Verdict(List<String> failures, List<String> causes) {
+
+        /**
+         * Creates a verdict.
+         *
+         * @param failures the thresholds exceeded
+         * @param causes   the changes explaining them
+         */
+        public Verdict {
+            failures = List.copyOf(failures);
+            causes = List.copyOf(causes);
+        }
+
+        /**
+         * Tells whether a threshold was exceeded.
+         *
+         * @return {@code true} if the run regressed
+         */
+        public boolean regressed() {
+            return !failures.isEmpty();
+        }
+    }
+}
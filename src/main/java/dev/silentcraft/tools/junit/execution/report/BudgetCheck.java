@@ -0,0 +1,173 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheBudget;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Checks the context cache usage of a test plan against hard {@link ContextCacheBudget} limits.
+ * <p>
+ * Each limit that is set gives one {@link JUnitXmlReport.Check}. A failed check names what is responsible: the test
+ * classes using each configuration, and the {@link ConfigurationDelta} of each configuration from the
+ * {@linkplain RunSummary#referenceFingerprint() reference} one, the configuration shared by most test classes.
+ * Aligning a class on the reference configuration is usually the way to get back under budget.
+ *
+ * <pre>{@code
+ * List<JUnitXmlReport.Check> checks = BudgetCheck.check(ContextCacheMetricsRegistry.snapshot(),
+ *         new BudgetCheck.Budget(2, 30, 0), Map.of());
+ * }</pre>
+ */
+public final class BudgetCheck {
+
+    private static final int MAX_LISTED_CONFIGURATIONS = 5;
+
+    private BudgetCheck() {
+    }
+
+    /**
+     * Checks a test plan against its budget.
+     *
+     * @param snapshot           the recorded histories, by test class
+     * @param budget             the limits of the test plan
+     * @param maxRebuildsByClass the rebuild limits declared on individual test classes, by class name, overriding
+     *                           {@link Budget#maxRebuildsPerClass()}
+     * @return one check per limit set, failed when the limit is exceeded
+     */
+    public static List<JUnitXmlReport.Check> check(Map<TestContextKey, TestContextHistory> snapshot, Budget budget,
+                                                   Map<String, Integer> maxRebuildsByClass) {
+        Map<String, TestContextHistory> histories = new HashMap<>();
+        snapshot.forEach((key, history) -> histories.put(key.testClass().getName(), history));
+        return checkClassNames(histories, budget, maxRebuildsByClass);
+    }
+
+    /**
+     * Checks a whole test suite against its budget, such as the
+     * {@link SnapshotAggregator.AggregatedSnapshot#histories() suite-wide histories} merged from every fork.
+     *
+     * @param histories          the recorded histories, by test class name
+     * @param budget             the limits of the test suite
+     * @param maxRebuildsByClass the rebuild limits declared on individual test classes, by class name, overriding
+     *                           {@link Budget#maxRebuildsPerClass()}
+     * @return one check per limit set, failed when the limit is exceeded
+     */
+    public static List<JUnitXmlReport.Check> checkClassNames(Map<String, TestContextHistory> histories, Budget budget,
+                                                             Map<String, Integer> maxRebuildsByClass) {
+        RunSummary summary = RunSummary.ofClassNames(histories);
+        Map<String, TestContextHistory.Events> configurations = RunSummary.configurationEvents(histories.values());
+        String reference = summary.referenceFingerprint();
+        List<Map.Entry<String, RunSummary.ConfigurationBuilds>> built = summary.configurations().entrySet().stream()
+                .filter(entry -> entry.getValue().builds() > 0)
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(RunSummary.ConfigurationBuilds::buildDuration).reversed()))
+                .toList();
+
+        List<JUnitXmlReport.Check> checks = new ArrayList<>();
+        if (budget.maxContexts() != ContextCacheBudget.UNLIMITED) {
+            List<String> failures = new ArrayList<>();
+            if (built.size() > budget.maxContexts()) {
+                failures.add("%d distinct contexts built, budget %d".formatted(built.size(), budget.maxContexts()));
+                built.stream()
+                        .sorted(Map.Entry.comparingByKey(Comparator.comparing((String fingerprint) -> !fingerprint.equals(reference))))
+                        .forEach(entry -> failures.add("context %s used by %s%s".formatted(entry.getKey(),
+                                sorted(entry.getValue().testClasses()), delta(configurations, entry.getKey(), reference))));
+            }
+            checks.add(new JUnitXmlReport.Check("maxContexts", failures));
+        }
+        if (budget.maxBuildSeconds() != ContextCacheBudget.UNLIMITED) {
+            List<String> failures = new ArrayList<>();
+            if (summary.buildDuration().compareTo(Duration.ofSeconds(budget.maxBuildSeconds())) > 0) {
+                failures.add(String.format(Locale.ROOT, "%.1f s spent building contexts, budget %d s",
+                        summary.buildDuration().toMillis() / 1000.0, budget.maxBuildSeconds()));
+                built.stream().limit(MAX_LISTED_CONFIGURATIONS).forEach(entry -> failures.add(String.format(Locale.ROOT,
+                        "context %s built %d times in %.1f s, used by %s%s", entry.getKey(), entry.getValue().builds(),
+                        entry.getValue().buildDuration().toMillis() / 1000.0, sorted(entry.getValue().testClasses()),
+                        delta(configurations, entry.getKey(), reference))));
+            }
+            checks.add(new JUnitXmlReport.Check("maxBuildSeconds", failures));
+        }
+        if (budget.maxRebuildsPerClass() != ContextCacheBudget.UNLIMITED || !maxRebuildsByClass.isEmpty()) {
+            List<String> failures = new ArrayList<>();
+            new TreeMap<>(summary.rebuilds()).forEach((testClass, rebuilds) -> {
+                int limit = maxRebuildsByClass.getOrDefault(testClass, budget.maxRebuildsPerClass());
+                if (limit != ContextCacheBudget.UNLIMITED && rebuilds > limit) {
+                    failures.add("%s triggers %d rebuilds, budget %d%s".formatted(testClass, rebuilds, limit,
+                            delta(configurations, rebuildFingerprint(histories.get(testClass)), reference)));
+                }
+            });
+            if (!failures.isEmpty()) {
+                failures.addFirst("%d test classes exceed their rebuild budget".formatted(failures.size()));
+            }
+            checks.add(new JUnitXmlReport.Check("maxRebuilds", failures));
+        }
+        return checks;
+    }
+
+    private static String rebuildFingerprint(TestContextHistory history) {
+        return history.rebuildEvents().stream()
+                .map(TestContextHistory.Events::fingerprint)
+                .reduce((first, last) -> last)
+                .orElse("");
+    }
+
+    private static String delta(Map<String, TestContextHistory.Events> configurations, String fingerprint, String reference) {
+        if (fingerprint.equals(reference)) {
+            return " (reference configuration)";
+        }
+        TestContextHistory.Events config = configurations.get(fingerprint);
+        TestContextHistory.Events referenceConfig = configurations.get(reference);
+        if (config == null || referenceConfig == null) {
+            return "";
+        }
+        return " - differs from %s by %s".formatted(reference, ConfigurationDelta.between(config, referenceConfig).describe());
+    }
+
+    private static List<String> sorted(Set<String> testClasses) {
+        return testClasses.stream().sorted().toList();
+    }
+
+    /**
+     * The limits of a test plan, each {@link ContextCacheBudget#UNLIMITED} when not set.
+     *
+     * @param maxContexts         the maximum number of distinct contexts built
+     * @param maxBuildSeconds     the maximum number of seconds spent building contexts
+     * @param maxRebuildsPerClass the maximum number of rebuilds each test class may trigger
+     */
+    public record Budget(int maxContexts, int maxBuildSeconds, int maxRebuildsPerClass) {
+
+        /**
+         * A budget without any limit.
+         */
+        public static final Budget UNLIMITED = new Budget(ContextCacheBudget.UNLIMITED, ContextCacheBudget.UNLIMITED,
+                ContextCacheBudget.UNLIMITED);
+
+        /**
+         * Combines this budget with another one, keeping the strictest limit of each.
+         *
+         * @param other the other budget
+         * @return the combined budget
+         */
+        public Budget stricter(Budget other) {
+            return new Budget(stricter(maxContexts, other.maxContexts), stricter(maxBuildSeconds, other.maxBuildSeconds),
+                    stricter(maxRebuildsPerClass, other.maxRebuildsPerClass));
+        }
+
+        private static int stricter(int limit, int other) {
+            if (limit == ContextCacheBudget.UNLIMITED) {
+                return other;
+            }
+            if (other == ContextCacheBudget.UNLIMITED) {
+                return limit;
+            }
+            return Math.min(limit, other);
+        }
+    }
+}
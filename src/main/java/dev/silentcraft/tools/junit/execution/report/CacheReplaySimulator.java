@@ -0,0 +1,458 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays the context cache accesses recorded by {@link NdjsonEventLog} under other cache sizes, eviction
+ * policies and class orderings, to predict how many contexts each scenario would build and how long it would take.
+ * <p>
+ * Each cache lookup ({@code HIT} or {@code MISS}) of the log is an access to the configuration fingerprint it
+ * carries, and each {@code REMOVED} event a {@code @DirtiesContext} removal. The build time of a configuration is
+ * the mean of its recorded {@code LOADED} durations, or the mean of all loads for configurations never built in the
+ * log. Evictions recorded in the log are ignored, since the simulated cache decides its own.
+ * <p>
+ * Besides Spring's LRU policy, the simulator replays FIFO eviction and the {@link Policy#BELADY} oracle, which
+ * bounds what any eviction policy could achieve.
+ * <p>
+ * Every log describes the cache of one JVM: the logs of Surefire forks are replayed separately and their
+ * predictions summed.
+ *
+ * <h2>Orderings</h2>
+ * <ul>
+ *     <li>{@link Ordering#RECORDED} — accesses in the order they happened.</li>
+ *     <li>{@link Ordering#GROUPED} — test classes reordered so that the classes sharing a configuration run back to
+ *     back, as {@link dev.silentcraft.tools.junit.execution.order.ConfigurationAffinityClassOrderer} does.</li>
+ * </ul>
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; dev.silentcraft.tools.junit.execution.report.CacheReplaySimulator target/context-cache-events 1 2 4 8 32
+ * </pre>
+ */
+public final class CacheReplaySimulator {
+    private static final Logger log = LoggerFactory.getLogger(CacheReplaySimulator.class);
+
+    /**
+     * Cache sizes simulated when none is given, Spring's default size being {@code 32}.
+     */
+    public static final List<Integer> DEFAULT_MAX_SIZES = List.of(1, 2, 4, 8, 16, 32);
+
+    private CacheReplaySimulator() {
+    }
+
+    /**
+     * Prints the predictions of every policy, ordering and cache size for the event logs of the given directory.
+     *
+     * @param args the event log directory or file, followed by the cache sizes to simulate
+     * @throws IOException if an event log cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: CacheReplaySimulator <event log directory or file> [maxSize...]");
+            System.exit(2);
+        }
+        List<Integer> maxSizes = args.length == 1 ? DEFAULT_MAX_SIZES
+                : Stream.of(args).skip(1).map(Integer::valueOf).toList();
+        report(load(Path.of(args[0])), maxSizes).forEach(System.out::println);
+    }
+
+    /**
+     * Reads the access traces of the given event log, or of every event log of the given directory.
+     *
+     * @param path an event log file, or a directory of event logs
+     * @return one trace per event log, empty if the path does not exist
+     * @throws IOException if an event log cannot be read
+     */
+    public static List<AccessTrace> load(Path path) throws IOException {
+        if (Files.isRegularFile(path)) {
+            return List.of(AccessTrace.read(path));
+        }
+        if (!Files.isDirectory(path)) {
+            return List.of();
+        }
+        List<AccessTrace> traces = new ArrayList<>();
+        try (Stream<Path> files = Files.list(path)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(".ndjson")).sorted().toList()) {
+                traces.add(AccessTrace.read(file));
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Replays the given traces in one scenario and sums the predictions.
+     *
+     * @param traces   the traces to replay, one per JVM
+     * @param policy   the eviction policy of the simulated cache
+     * @param ordering the order in which the test classes run
+     * @param maxSize  the maximum number of cached contexts
+     * @return the predicted builds and build time
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public static Scenario simulate(List<AccessTrace> traces, Policy policy, Ordering ordering, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        int builds = 0;
+        Duration buildDuration = Duration.ZERO;
+        for (AccessTrace trace : traces) {
+            List<Access> accesses = trace.ordered(ordering);
+            int[] nextUses = policy == Policy.BELADY ? nextUses(accesses) : null;
+            Map<String, Integer> cache = new LinkedHashMap<>(16, 0.75f, policy == Policy.LRU);
+            for (int i = 0; i < accesses.size(); i++) {
+                Access access = accesses.get(i);
+                if (access.removal()) {
+                    cache.remove(access.fingerprint());
+                    continue;
+                }
+                int nextUse = nextUses == null ? 0 : nextUses[i];
+                if (cache.get(access.fingerprint()) != null) {
+                    cache.put(access.fingerprint(), nextUse);
+                    continue;
+                }
+                builds++;
+                buildDuration = buildDuration.plus(trace.buildDuration(access.fingerprint()));
+                cache.put(access.fingerprint(), nextUse);
+                if (cache.size() > maxSize) {
+                    cache.remove(policy == Policy.BELADY ? farthestNextUse(cache) : cache.keySet().iterator().next());
+                }
+            }
+        }
+        return new Scenario(policy, ordering, maxSize, builds, buildDuration);
+    }
+
+    /**
+     * Returns, for each lookup of the given accesses, the index of the next lookup of the same configuration, or
+     * {@link Integer#MAX_VALUE} if the configuration is removed or never looked up again.
+     */
+    private static int[] nextUses(List<Access> accesses) {
+        int[] nextUses = new int[accesses.size()];
+        Map<String, Integer> next = new HashMap<>();
+        for (int i = accesses.size() - 1; i >= 0; i--) {
+            Access access = accesses.get(i);
+            if (access.removal()) {
+                next.put(access.fingerprint(), Integer.MAX_VALUE);
+            } else {
+                nextUses[i] = next.getOrDefault(access.fingerprint(), Integer.MAX_VALUE);
+                next.put(access.fingerprint(), i);
+            }
+        }
+        return nextUses;
+    }
+
+    private static String farthestNextUse(Map<String, Integer> cache) {
+        return cache.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+    }
+
+    /**
+     * Simulates every policy and ordering for each of the given cache sizes, and describes the predictions.
+     *
+     * @param traces   the traces to replay, one per JVM
+     * @param maxSizes the cache sizes to simulate
+     * @return the report lines, the first ones summarising the recorded run
+     */
+    public static List<String> report(List<AccessTrace> traces, List<Integer> maxSizes) {
+        List<String> lines = new ArrayList<>();
+        int recordedBuilds = traces.stream().mapToInt(AccessTrace::recordedBuilds).sum();
+        Duration recordedDuration = traces.stream().map(AccessTrace::recordedBuildDuration).reduce(Duration.ZERO, Duration::plus);
+        lines.add(String.format(Locale.ROOT, "Replayed %d event logs: %d accesses to %d configurations, %d builds / %.1f s recorded",
+                traces.size(), traces.stream().mapToInt(trace -> trace.accesses().size()).sum(),
+                traces.stream().flatMap(trace -> trace.buildDurations().keySet().stream()).distinct().count(),
+                recordedBuilds, recordedDuration.toMillis() / 1000.0));
+        for (Policy policy : Policy.values()) {
+            for (Ordering ordering : Ordering.values()) {
+                for (int maxSize : maxSizes) {
+                    lines.add(simulate(traces, policy, ordering, maxSize).describe());
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Eviction policy of the simulated cache.
+     */
+    public enum Policy {
+
+        /**
+         * Evicts the least recently used context, as Spring's {@code DefaultContextCache} does.
+         */
+        LRU,
+
+        /**
+         * Evicts the context built first, however often it was used since.
+         */
+        FIFO,
+
+        /**
+         * Evicts the context whose next use is the farthest in the future. This oracle policy cannot be implemented
+         * by a real cache; it gives the minimum number of builds any policy could reach for the ordering and size.
+         */
+        BELADY
+    }
+
+    /**
+     * Order in which the test classes of a trace are replayed.
+     */
+    public enum Ordering {
+
+        /**
+         * Accesses in the order they were recorded.
+         */
+        RECORDED,
+
+        /**
+         * Test classes grouped by the first configuration they access, in order of first use of each configuration.
+         */
+        GROUPED
+    }
+
+    /**
+     * One access to the context cache.
+     *
+     * @param timestamp   when the access happened
+     * @param testClass   the test class performing the access
+     * @param fingerprint the configuration fingerprint accessed
+     * @param removal     {@code true} for a {@code @DirtiesContext} removal, {@code false} for a lookup
+     */
+    public record Access(Instant timestamp, String testClass, String fingerprint, boolean removal) {
+    }
+
+    /**
+     * The predictions of one scenario.
+     *
+     * @param policy        the simulated eviction policy
+     * @param ordering      the simulated class ordering
+     * @param maxSize       the simulated cache size
+     * @param builds        the predicted number of context builds
+     * @param buildDuration the predicted time spent building contexts
+     */
+    public record Scenario(Policy policy, Ordering ordering, int maxSize, int builds, Duration buildDuration) {
+
+        /**
+         * Describes this scenario as a report line.
+         *
+         * @return e.g. {@code "LRU   RECORDED maxSize=4   -> 12 builds / 48.3 s"}
+         */
+        public String describe() {
+            return String.format(Locale.ROOT, "%-5s %-8s maxSize=%-3d -> %d builds / %.1f s", policy, ordering, maxSize,
+                    builds, buildDuration.toMillis() / 1000.0);
+        }
+    }
+
+    /**
+     * The ordered cache accesses of one JVM, with the build time of each configuration.
+     *
+     * @param source                the event log the trace was read from, {@code null} for a trace recorded in memory
+     * @param accesses              the lookups and removals, ordered by timestamp
+     * @param buildDurations        the mean recorded build time, by configuration fingerprint
+     * @param recordedBuilds        the number of builds recorded in the log
+     * @param recordedBuildDuration the time spent in those builds
+     */
+    public record AccessTrace(Path source, List<Access> accesses, Map<String, Duration> buildDurations, int recordedBuilds,
+                              Duration recordedBuildDuration) {
+
+        /**
+         * Creates a trace.
+         *
+         * @param source                the event log the trace was read from, {@code null} for a trace recorded in memory
+         * @param accesses              the lookups and removals, ordered by timestamp
+         * @param buildDurations        the mean recorded build time, by configuration fingerprint
+         * @param recordedBuilds        the number of builds recorded in the log
+         * @param recordedBuildDuration the time spent in those builds
+         */
+        public AccessTrace {
+            accesses = List.copyOf(accesses);
+            buildDurations = Map.copyOf(buildDurations);
+        }
+
+        /**
+         * Reads the trace of one {@link NdjsonEventLog} file.
+         * <p>
+         * A last line that is not a JSON object, left truncated by a JVM that died while writing it, is skipped with a
+         * warning.
+         *
+         * @param file the event log
+         * @return the trace
+         * @throws IOException if the file cannot be read or a line other than the last one is not a JSON object
+         */
+        public static AccessTrace read(Path file) throws IOException {
+            List<Access> accesses = new ArrayList<>();
+            Map<String, Duration> totals = new HashMap<>();
+            Map<String, Integer> counts = new HashMap<>();
+            int builds = 0;
+            Duration buildDuration = Duration.ZERO;
+            try (Stream<String> lines = Files.lines(file)) {
+                Iterator<String> nonBlank = lines.filter(line -> !line.isBlank()).iterator();
+                while (nonBlank.hasNext()) {
+                    String line = nonBlank.next();
+                    Map<String, String> event;
+                    try {
+                        event = parseObject(line, file);
+                    } catch (IOException ex) {
+                        if (nonBlank.hasNext()) {
+                            throw ex;
+                        }
+                        log.warn("[OCC] Ignoring the truncated last line of {}: {}", file, ex.getMessage());
+                        break;
+                    }
+                    String fingerprint = event.getOrDefault("fingerprint", "");
+                    switch (event.getOrDefault("event", "")) {
+                        case "HIT", "MISS" -> accesses.add(access(event, fingerprint, false));
+                        case "REMOVED" -> accesses.add(access(event, fingerprint, true));
+                        case "LOADED" -> {
+                            Duration duration = Duration.ofMillis(Long.parseLong(event.getOrDefault("durationMs", "0")));
+                            totals.merge(fingerprint, duration, Duration::plus);
+                            counts.merge(fingerprint, 1, Integer::sum);
+                            builds++;
+                            buildDuration = buildDuration.plus(duration);
+                        }
+                        default -> {
+                            // evictions and unknown events do not drive the simulated cache
+                        }
+                    }
+                }
+            }
+            accesses.sort(Comparator.comparing(Access::timestamp));
+            Map<String, Duration> means = new HashMap<>();
+            totals.forEach((fingerprint, total) -> means.put(fingerprint, total.dividedBy(counts.get(fingerprint))));
+            return new AccessTrace(file, accesses, means, builds, buildDuration);
+        }
+
+        /**
+         * Returns the build time of the given configuration, or the mean build time of the trace if it was never built.
+         *
+         * @param fingerprint the configuration fingerprint
+         * @return the estimated build time
+         */
+        public Duration buildDuration(String fingerprint) {
+            Duration duration = buildDurations.get(fingerprint);
+            if (duration != null) {
+                return duration;
+            }
+            return recordedBuilds == 0 ? Duration.ZERO : recordedBuildDuration.dividedBy(recordedBuilds);
+        }
+
+        /**
+         * Returns the accesses of this trace in the given ordering.
+         *
+         * @param ordering the order in which the test classes run
+         * @return the reordered accesses
+         */
+        public List<Access> ordered(Ordering ordering) {
+            if (ordering == Ordering.RECORDED) {
+                return accesses;
+            }
+            Map<String, List<Access>> byClass = new LinkedHashMap<>();
+            accesses.forEach(access -> byClass.computeIfAbsent(access.testClass(), testClass -> new ArrayList<>()).add(access));
+            Map<String, Integer> firstUse = new HashMap<>();
+            byClass.values().forEach(classAccesses -> firstUse.putIfAbsent(classAccesses.getFirst().fingerprint(), firstUse.size()));
+            return byClass.values().stream()
+                    .sorted(Comparator.comparingInt(classAccesses -> firstUse.get(classAccesses.getFirst().fingerprint())))
+                    .flatMap(List::stream)
+                    .toList();
+        }
+
+        private static Access access(Map<String, String> event, String fingerprint, boolean removal) {
+            return new Access(Instant.parse(event.get("timestamp")), event.getOrDefault("testClass", ""), fingerprint, removal);
+        }
+    }
+
+    private static Map<String, String> parseObject(String line, Path file) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        int[] position = {skipWhitespace(line, 0)};
+        expect(line, position, '{', file);
+        while (true) {
+            position[0] = skipWhitespace(line, position[0]);
+            if (position[0] < line.length() && line.charAt(position[0]) == '}') {
+                return values;
+            }
+            String name = parseString(line, position, file);
+            position[0] = skipWhitespace(line, position[0]);
+            expect(line, position, ':', file);
+            position[0] = skipWhitespace(line, position[0]);
+            String value;
+            if (position[0] < line.length() && line.charAt(position[0]) == '"') {
+                value = parseString(line, position, file);
+            } else {
+                int start = position[0];
+                while (position[0] < line.length() && ",} \t".indexOf(line.charAt(position[0])) < 0) {
+                    position[0]++;
+                }
+                value = line.substring(start, position[0]);
+            }
+            values.put(name, value);
+            position[0] = skipWhitespace(line, position[0]);
+            if (position[0] < line.length() && line.charAt(position[0]) == ',') {
+                position[0]++;
+            }
+        }
+    }
+
+    private static String parseString(String line, int[] position, Path file) throws IOException {
+        expect(line, position, '"', file);
+        StringBuilder value = new StringBuilder();
+        while (position[0] < line.length()) {
+            char c = line.charAt(position[0]++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c == '\\' && position[0] < line.length()) {
+                char escaped = line.charAt(position[0]++);
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> value.append(parseUnicodeEscape(line, position, file));
+                    default -> value.append(escaped);
+                }
+            } else {
+                value.append(c);
+            }
+        }
+        throw new IOException("Unterminated string in " + file + ": " + line);
+    }
+
+    private static char parseUnicodeEscape(String line, int[] position, Path file) throws IOException {
+        int code = 0;
+        for (int end = position[0] + 4; position[0] < end; position[0]++) {
+            int digit = position[0] < line.length() ? Character.digit(line.charAt(position[0]), 16) : -1;
+            if (digit < 0) {
+                throw new IOException("Invalid unicode escape at " + position[0] + " in " + file + ": " + line);
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    private static void expect(String line, int[] position, char expected, Path file) throws IOException {
+        if (position[0] >= line.length() || line.charAt(position[0]) != expected) {
+            throw new IOException("Expected '" + expected + "' at " + position[0] + " in " + file + ": " + line);
+        }
+        position[0]++;
+    }
+
+    private static int skipWhitespace(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
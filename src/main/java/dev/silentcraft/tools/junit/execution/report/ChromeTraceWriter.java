@@ -0,0 +1,93 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes an {@link ExecutionTimeline} in the Trace Event Format understood by
+ * {@code chrome://tracing} and <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * <p>
+ * Each worker thread becomes a track, named after the thread. Test class executions and context
+ * builds are complete events ({@code "ph": "X"}); cache hits are thread-scoped instant events
+ * ({@code "ph": "i"}). Timestamps are microseconds since the origin of the timeline.
+ */
+public final class ChromeTraceWriter {
+
+    private static final int PROCESS_ID = 1;
+
+    private ChromeTraceWriter() {
+    }
+
+    /**
+     * Writes the given timeline to a trace file, replacing any existing file.
+     *
+     * @param timeline the recorded timeline
+     * @param target   the trace file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(ExecutionTimeline timeline, Path target) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (JsonWriter json = new JsonWriter(Files.newBufferedWriter(target, StandardCharsets.UTF_8))) {
+            json.beginObject().name("displayTimeUnit").value("ms").name("traceEvents").beginArray();
+
+            Map<Long, String> threads = new TreeMap<>();
+            timeline.spans().forEach(span -> threads.putIfAbsent(span.threadId(), span.threadName()));
+            timeline.markers().forEach(marker -> threads.putIfAbsent(marker.threadId(), marker.threadName()));
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+                json.beginObject()
+                        .name("name").value("thread_name")
+                        .name("ph").value("M")
+                        .name("pid").value(PROCESS_ID)
+                        .name("tid").value(thread.getKey())
+                        .name("args").beginObject().name("name").value(thread.getValue()).endObject()
+                        .endObject();
+            }
+
+            for (ExecutionTimeline.Span span : timeline.spans()) {
+                json.beginObject()
+                        .name("name").value(span.name())
+                        .name("cat").value(span.category())
+                        .name("ph").value("X")
+                        .name("ts").value(micros(span.startNanos(), timeline))
+                        .name("dur").value((span.endNanos() - span.startNanos()) / 1_000)
+                        .name("pid").value(PROCESS_ID)
+                        .name("tid").value(span.threadId());
+                writeArgs(json, span.args());
+                json.endObject();
+            }
+
+            for (ExecutionTimeline.Marker marker : timeline.markers()) {
+                json.beginObject()
+                        .name("name").value(marker.name())
+                        .name("cat").value(marker.category())
+                        .name("ph").value("i")
+                        .name("s").value("t")
+                        .name("ts").value(micros(marker.atNanos(), timeline))
+                        .name("pid").value(PROCESS_ID)
+                        .name("tid").value(marker.threadId());
+                writeArgs(json, marker.args());
+                json.endObject();
+            }
+
+            json.endArray().endObject();
+        }
+    }
+
+    private static long micros(long nanos, ExecutionTimeline timeline) {
+        return (nanos - timeline.originNanos()) / 1_000;
+    }
+
+    private static void writeArgs(JsonWriter json, Map<String, String> args) throws IOException {
+        json.name("args").beginObject();
+        for (Map.Entry<String, String> arg : new TreeMap<>(args).entrySet()) {
+            json.name(arg.getKey()).value(arg.getValue());
+        }
+        json.endObject();
+    }
+}
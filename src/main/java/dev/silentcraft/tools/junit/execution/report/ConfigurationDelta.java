@@ -0,0 +1,86 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+
+/**
+ * Difference between the configuration of a context and a reference configuration, as far as the recorded
+ * {@link TestContextHistory.Events} tell: configuration classes and active profiles.
+ * <p>
+ * Two configurations with different fingerprints but no difference here differ by something events do not
+ * record, such as inline properties, context customizers ({@code @MockitoBean}, {@code @DynamicPropertySource}...)
+ * or the context hierarchy.
+ *
+ * @param addedClasses    the configuration classes missing from the reference configuration
+ * @param removedClasses  the configuration classes of the reference configuration missing here
+ * @param addedProfiles   the active profiles missing from the reference configuration
+ * @param removedProfiles the active profiles of the reference configuration missing here
+ */
+public record ConfigurationDelta(List<String> addedClasses, List<String> removedClasses, List<String> addedProfiles,
+                                 List<String> removedProfiles) {
+
+    /**
+     * Creates a delta.
+     *
+     * @param addedClasses    the configuration classes missing from the reference configuration
+     * @param removedClasses  the configuration classes of the reference configuration missing here
+     * @param addedProfiles   the active profiles missing from the reference configuration
+     * @param removedProfiles the active profiles of the reference configuration missing here
+     */
+    public ConfigurationDelta {
+        addedClasses = List.copyOf(addedClasses);
+        removedClasses = List.copyOf(removedClasses);
+        addedProfiles = List.copyOf(addedProfiles);
+        removedProfiles = List.copyOf(removedProfiles);
+    }
+
+    /**
+     * Computes the difference between two recorded configurations.
+     *
+     * @param config    an event of the configuration to describe
+     * @param reference an event of the reference configuration
+     * @return the difference, {@link #isEmpty() empty} when the recorded attributes are the same
+     */
+    public static ConfigurationDelta between(TestContextHistory.Events config, TestContextHistory.Events reference) {
+        return new ConfigurationDelta(difference(config.classes(), reference.classes()),
+                difference(reference.classes(), config.classes()),
+                difference(config.activeProfiles(), reference.activeProfiles()),
+                difference(reference.activeProfiles(), config.activeProfiles()));
+    }
+
+    /**
+     * Tells whether the recorded attributes of both configurations are the same.
+     *
+     * @return {@code true} if nothing differs in the recorded attributes
+     */
+    public boolean isEmpty() {
+        return addedClasses.isEmpty() && removedClasses.isEmpty() && addedProfiles.isEmpty() && removedProfiles.isEmpty();
+    }
+
+    /**
+     * Describes the delta, such as {@code +MockConfig, +profile slow}.
+     *
+     * @return the changes, or a hint at unrecorded attributes when the delta is empty
+     */
+    public String describe() {
+        if (isEmpty()) {
+            return "properties, customizers or context hierarchy";
+        }
+        List<String> changes = new ArrayList<>();
+        addedClasses.forEach(element -> changes.add("+" + element));
+        removedClasses.forEach(element -> changes.add("-" + element));
+        addedProfiles.forEach(element -> changes.add("+profile " + element));
+        removedProfiles.forEach(element -> changes.add("-profile " + element));
+        return String.join(", ", changes);
+    }
+
+    private static List<String> difference(List<String> elements, List<String> removed) {
+        Set<String> remaining = new LinkedHashSet<>(elements);
+        removed.forEach(remaining::remove);
+        return List.copyOf(remaining);
+    }
+}
@@ -0,0 +1,270 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Read-only model of the recorded events, indexed by configuration fingerprint, active profile, event type, test class
+ * and package.
+ * <p>
+ * {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry#snapshot()} is keyed by test class
+ * only, so questions such as "which classes share this configuration" or "every rebuild under profile {@code legacy}"
+ * mean streaming every event of the run. This index walks the snapshot once and answers them with hash lookups, or
+ * tree lookups for package prefixes. It is built at the end of the test plan and handed to reporters through
+ * {@link ContextCacheRun#index()}.
+ * <p>
+ * Every returned list is immutable and in chronological order, ties broken by test class name.
+ *
+ * <pre>{@code
+ * ContextCacheMetricsIndex index = ContextCacheMetricsIndex.of(ContextCacheMetricsRegistry.snapshot());
+ * List<ContextCacheMetricsIndex.IndexedEvent> legacyRebuilds = index.byProfile("legacy", EventType.REBUILD);
+ * Set<String> sharing = index.testClassesSharing(legacyRebuilds.get(0).event().fingerprint());
+ * }</pre>
+ */
+public final class ContextCacheMetricsIndex {
+
+    private static final Comparator<IndexedEvent> CHRONOLOGICAL = Comparator
+            .comparing((IndexedEvent indexed) -> indexed.event().timestamp())
+            .thenComparing(IndexedEvent::testClass);
+
+    private final List<IndexedEvent> events;
+    private final Map<EventType, List<IndexedEvent>> byType;
+    private final Map<String, TypedEvents> byFingerprint;
+    private final Map<String, TypedEvents> byProfile;
+    private final Map<String, List<IndexedEvent>> byTestClass;
+    private final NavigableMap<String, List<IndexedEvent>> byPackage;
+    private final Map<String, NavigableSet<String>> testClassesByFingerprint;
+
+    private ContextCacheMetricsIndex(List<IndexedEvent> events) {
+        this.events = List.copyOf(events);
+        Map<EventType, List<IndexedEvent>> types = new EnumMap<>(EventType.class);
+        Map<String, List<IndexedEvent>> fingerprints = new HashMap<>();
+        Map<String, List<IndexedEvent>> profiles = new HashMap<>();
+        Map<String, List<IndexedEvent>> testClasses = new HashMap<>();
+        NavigableMap<String, List<IndexedEvent>> packages = new TreeMap<>();
+        Map<String, NavigableSet<String>> sharing = new HashMap<>();
+        for (IndexedEvent indexed : this.events) {
+            TestContextHistory.Events event = indexed.event();
+            types.computeIfAbsent(event.type(), type -> new ArrayList<>()).add(indexed);
+            testClasses.computeIfAbsent(indexed.testClass(), testClass -> new ArrayList<>()).add(indexed);
+            packages.computeIfAbsent(indexed.packageName(), packageName -> new ArrayList<>()).add(indexed);
+            if (!event.fingerprint().isEmpty()) {
+                fingerprints.computeIfAbsent(event.fingerprint(), fingerprint -> new ArrayList<>()).add(indexed);
+                sharing.computeIfAbsent(event.fingerprint(), fingerprint -> new TreeSet<>()).add(indexed.testClass());
+            }
+            for (String profile : event.activeProfiles()) {
+                profiles.computeIfAbsent(profile, key -> new ArrayList<>()).add(indexed);
+            }
+        }
+        this.byType = freeze(types);
+        this.byFingerprint = TypedEvents.of(fingerprints);
+        this.byProfile = TypedEvents.of(profiles);
+        this.byTestClass = freeze(testClasses);
+        packages.replaceAll((packageName, packageEvents) -> List.copyOf(packageEvents));
+        this.byPackage = Collections.unmodifiableNavigableMap(packages);
+        Map<String, NavigableSet<String>> frozenSharing = new HashMap<>();
+        sharing.forEach((fingerprint, classes) -> frozenSharing.put(fingerprint, Collections.unmodifiableNavigableSet(classes)));
+        this.testClassesByFingerprint = Map.copyOf(frozenSharing);
+    }
+
+    /**
+     * Indexes the events of a snapshot.
+     *
+     * @param snapshot the recorded histories, by test class
+     * @return the index
+     */
+    public static ContextCacheMetricsIndex of(Map<TestContextKey, TestContextHistory> snapshot) {
+        List<IndexedEvent> events = new ArrayList<>();
+        snapshot.forEach((key, history) -> {
+            for (TestContextHistory.Events event : history.events()) {
+                events.add(new IndexedEvent(key.testClass().getName(), key.testClass().getPackageName(), event));
+            }
+        });
+        events.sort(CHRONOLOGICAL);
+        return new ContextCacheMetricsIndex(events);
+    }
+
+    /**
+     * Returns every indexed event.
+     *
+     * @return the events of the run
+     */
+    public List<IndexedEvent> events() {
+        return events;
+    }
+
+    /**
+     * Returns the events of a given type.
+     *
+     * @param type the event type
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byType(EventType type) {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Returns the events of a configuration.
+     *
+     * @param fingerprint the fingerprint of the configuration
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byFingerprint(String fingerprint) {
+        return byFingerprint.getOrDefault(fingerprint, TypedEvents.EMPTY).all();
+    }
+
+    /**
+     * Returns the events of a given type for a configuration.
+     *
+     * @param fingerprint the fingerprint of the configuration
+     * @param type        the event type
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byFingerprint(String fingerprint, EventType type) {
+        return byFingerprint.getOrDefault(fingerprint, TypedEvents.EMPTY).ofType(type);
+    }
+
+    /**
+     * Returns the events of the contexts in which a profile was active.
+     *
+     * @param profile the profile
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byProfile(String profile) {
+        return byProfile.getOrDefault(profile, TypedEvents.EMPTY).all();
+    }
+
+    /**
+     * Returns the events of a given type of the contexts in which a profile was active.
+     *
+     * @param profile the profile
+     * @param type    the event type
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byProfile(String profile, EventType type) {
+        return byProfile.getOrDefault(profile, TypedEvents.EMPTY).ofType(type);
+    }
+
+    /**
+     * Returns the events of a test class.
+     *
+     * @param testClass the fully qualified name of the test class
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byTestClass(String testClass) {
+        return byTestClass.getOrDefault(testClass, List.of());
+    }
+
+    /**
+     * Returns the events of the test classes declared directly in a package.
+     *
+     * @param packageName the package name, {@code ""} for the default package
+     * @return the matching events, possibly empty
+     */
+    public List<IndexedEvent> byPackage(String packageName) {
+        return byPackage.getOrDefault(packageName, List.of());
+    }
+
+    /**
+     * Returns the events of the test classes of a package and its subpackages.
+     *
+     * @param packageName the package name, {@code ""} for every package
+     * @return the matching events, in chronological order, possibly empty
+     */
+    public List<IndexedEvent> underPackage(String packageName) {
+        if (packageName.isEmpty()) {
+            return events;
+        }
+        List<IndexedEvent> matching = new ArrayList<>(byPackage(packageName));
+        byPackage.subMap(packageName + ".", true, packageName + "/", false).values().forEach(matching::addAll);
+        matching.sort(CHRONOLOGICAL);
+        return List.copyOf(matching);
+    }
+
+    /**
+     * Returns the test classes whose context has a given configuration.
+     *
+     * @param fingerprint the fingerprint of the configuration
+     * @return the names of the test classes, sorted, possibly empty
+     */
+    public NavigableSet<String> testClassesSharing(String fingerprint) {
+        return testClassesByFingerprint.getOrDefault(fingerprint, Collections.emptyNavigableSet());
+    }
+
+    /**
+     * Returns the fingerprints of the recorded configurations.
+     *
+     * @return the fingerprints, sorted
+     */
+    public NavigableSet<String> fingerprints() {
+        return Collections.unmodifiableNavigableSet(new TreeSet<>(byFingerprint.keySet()));
+    }
+
+    /**
+     * Returns the profiles active in at least one recorded context.
+     *
+     * @return the profiles, sorted
+     */
+    public NavigableSet<String> profiles() {
+        return Collections.unmodifiableNavigableSet(new TreeSet<>(byProfile.keySet()));
+    }
+
+    /**
+     * Returns the packages declaring at least one recorded test class.
+     *
+     * @return the package names, sorted
+     */
+    public NavigableSet<String> packages() {
+        return byPackage.navigableKeySet();
+    }
+
+    private static <K> Map<K, List<IndexedEvent>> freeze(Map<K, List<IndexedEvent>> index) {
+        index.replaceAll((key, events) -> List.copyOf(events));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * An event of the run, with the test class that recorded it.
+     *
+     * @param testClass   the fully qualified name of the test class
+     * @param packageName the package of the test class
+     * @param event       the recorded event
+     */
+    public record IndexedEvent(String testClass, String packageName, TestContextHistory.Events event) {
+    }
+
+    /**
+     * The events sharing a fingerprint or a profile, as a whole and by type.
+     */
+    private record TypedEvents(List<IndexedEvent> all, Map<EventType, List<IndexedEvent>> byType) {
+
+        private static final TypedEvents EMPTY = new TypedEvents(List.of(), Map.of());
+
+        private static Map<String, TypedEvents> of(Map<String, List<IndexedEvent>> index) {
+            Map<String, TypedEvents> typed = new HashMap<>();
+            index.forEach((value, events) -> {
+                Map<EventType, List<IndexedEvent>> byType = new EnumMap<>(EventType.class);
+                events.forEach(indexed -> byType.computeIfAbsent(indexed.event().type(), type -> new ArrayList<>()).add(indexed));
+                typed.put(value, new TypedEvents(List.copyOf(events), freeze(byType)));
+            });
+            return Map.copyOf(typed);
+        }
+
+        private List<IndexedEvent> ofType(EventType type) {
+            return byType.getOrDefault(type, List.of());
+        }
+    }
+}
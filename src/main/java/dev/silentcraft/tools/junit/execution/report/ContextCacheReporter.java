@@ -0,0 +1,54 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+
+/**
+ * Extension point producing a report of the context cache activity of a test plan.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}, like the
+ * {@link org.junit.platform.launcher.TestExecutionListener} of this library: list their fully qualified names in a
+ * {@code META-INF/services/dev.silentcraft.tools.junit.execution.report.ContextCacheReporter} file on the test
+ * classpath. They need a public no-argument constructor.
+ * <p>
+ * At the end of each test plan, the enabled reporters run in parallel on a bounded executor, each receiving the same
+ * immutable {@link ContextCacheRun}. A reporter must therefore not rely on running on the test thread nor after
+ * another reporter; an exception it throws is logged and does not affect the other reporters.
+ *
+ * <pre>{@code
+ * public class SlackReporter implements ContextCacheReporter {
+ *     public void report(ContextCacheRun run) {
+ *         post("%d contexts built".formatted(run.summary().contextsBuilt()));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ContextCacheReporters
+ */
+public interface ContextCacheReporter {
+
+    /**
+     * Returns the name of this reporter, used in log messages.
+     *
+     * @return the name, the simple class name by default
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Tells whether this reporter should run for the current test plan, typically depending on a property.
+     *
+     * @return {@code true} by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Reports on a finished test plan.
+     *
+     * @param run the immutable view of the run
+     * @throws IOException if the report cannot be written
+     */
+    void report(ContextCacheRun run) throws IOException;
+}
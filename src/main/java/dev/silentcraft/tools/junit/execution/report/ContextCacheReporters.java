@@ -0,0 +1,135 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Discovers the {@link ContextCacheReporter}s of the test classpath and runs them in parallel.
+ * <p>
+ * Reporters run on at most {@code parallelism} daemon threads, so that the end of the test plan waits for the
+ * slowest reporter rather than for all of them in turn. The caller still waits for them, up to a timeout: a forked
+ * test JVM exits as soon as the plan is finished, which would cut reports short.
+ *
+ * <pre>{@code
+ * List<ContextCacheReporters.Outcome> outcomes = ContextCacheReporters.run(ContextCacheReporters.load(), run, 2,
+ *         Duration.ofSeconds(60));
+ * }</pre>
+ */
+public final class ContextCacheReporters {
+    private static final Logger log = LoggerFactory.getLogger(ContextCacheReporters.class);
+
+    private ContextCacheReporters() {
+    }
+
+    /**
+     * Loads the enabled reporters declared on the classpath of the current thread.
+     * <p>
+     * A reporter that cannot be instantiated is logged and skipped.
+     *
+     * @return the enabled reporters, in discovery order
+     */
+    public static List<ContextCacheReporter> load() {
+        List<ContextCacheReporter> reporters = new ArrayList<>();
+        ServiceLoader.load(ContextCacheReporter.class).stream().forEach(provider -> {
+            try {
+                ContextCacheReporter reporter = provider.get();
+                if (reporter.isEnabled()) {
+                    reporters.add(reporter);
+                }
+            } catch (ServiceConfigurationError ex) {
+                log.warn("[OCC] Could not load context cache reporter {}", provider.type().getName(), ex);
+            }
+        });
+        return reporters;
+    }
+
+    /**
+     * Runs the given reporters in parallel and waits for them.
+     *
+     * @param reporters   the reporters to run
+     * @param run         the view of the run handed to each reporter
+     * @param parallelism the maximum number of reporters running at the same time
+     * @param timeout     the time to wait for all reporters; reporters still running are interrupted
+     * @return the outcome of each reporter, in the order of {@code reporters}
+     */
+    public static List<Outcome> run(List<ContextCacheReporter> reporters, ContextCacheRun run, int parallelism, Duration timeout) {
+        if (reporters.isEmpty()) {
+            return List.of();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, Math.min(parallelism, reporters.size()));
+        ExecutorService executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "occ-reporter-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<Future<Duration>> futures = new ArrayList<>();
+            for (ContextCacheReporter reporter : reporters) {
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    reporter.report(run);
+                    return Duration.ofNanos(System.nanoTime() - start);
+                }));
+            }
+            long deadline = System.nanoTime() + timeout.toNanos();
+            List<Outcome> outcomes = new ArrayList<>();
+            for (int i = 0; i < reporters.size(); i++) {
+                outcomes.add(await(reporters.get(i).name(), futures.get(i), deadline));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Outcome await(String name, Future<Duration> future, long deadline) {
+        try {
+            return new Outcome(name, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS), null);
+        } catch (ExecutionException ex) {
+            return new Outcome(name, null, ex.getCause());
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            return new Outcome(name, null, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new Outcome(name, null, ex);
+        }
+    }
+
+    /**
+     * The outcome of one reporter.
+     *
+     * @param name     the name of the reporter
+     * @param duration the time the reporter took, {@code null} if it failed or timed out
+     * @param failure  the exception the reporter threw, a {@link TimeoutException} if it timed out, {@code null} if it
+     *                 succeeded
+     */
+    public record Outcome(String name, Duration duration, Throwable failure) {
+
+        /**
+         * Tells whether the reporter completed normally.
+         *
+         * @return {@code true} if the reporter succeeded
+         */
+        public boolean succeeded() {
+            return failure == null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Immutable view of the context cache activity of a test plan, handed to every {@link ContextCacheReporter}.
+ * <p>
+ * Built once at the end of the plan from the registries, so that reporters running in parallel share the same
+ * consistent data and the derived {@link RunSummary} and {@link ContextCacheMetricsIndex} are only computed once.
+ *
+ * @param snapshot       the recorded histories, by test class
+ * @param removals       the recorded removals, by test class
+ * @param classDurations the execution time of each test class, by class name
+ * @param summary        the summary of the builds of the run
+ * @param index          the events of the run, indexed by fingerprint, profile, type, test class and package
+ */
+public record ContextCacheRun(Map<TestContextKey, TestContextHistory> snapshot, Map<TestContextKey, List<ContextRemoval>> removals,
+                              Map<String, Duration> classDurations, RunSummary summary, ContextCacheMetricsIndex index) {
+
+    /**
+     * Creates a view of a run.
+     *
+     * @param snapshot       the recorded histories, by test class
+     * @param removals       the recorded removals, by test class
+     * @param classDurations the execution time of each test class, by class name
+     * @param summary        the summary of the builds of the run
+     * @param index          the events of the run, indexed by fingerprint, profile, type, test class and package
+     */
+    public ContextCacheRun {
+        snapshot = Map.copyOf(snapshot);
+        removals = Map.copyOf(removals);
+        classDurations = Map.copyOf(classDurations);
+    }
+
+    /**
+     * Creates the view of a run, summarizing and indexing the given snapshot.
+     *
+     * @param snapshot       the recorded histories, by test class
+     * @param removals       the recorded removals, by test class
+     * @param classDurations the execution time of each test class, by class name
+     * @return the view of the run
+     */
+    public static ContextCacheRun of(Map<TestContextKey, TestContextHistory> snapshot, Map<TestContextKey, List<ContextRemoval>> removals,
+                                     Map<String, Duration> classDurations) {
+        return new ContextCacheRun(snapshot, removals, classDurations, RunSummary.of(snapshot), ContextCacheMetricsIndex.of(snapshot));
+    }
+}
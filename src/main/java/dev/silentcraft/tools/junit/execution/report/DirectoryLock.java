@@ -0,0 +1,89 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exclusive lock on a directory shared by the JVMs of a test suite, such as the snapshot or baseline directory.
+ * <p>
+ * The lock is held on a {@value #FILE_NAME} file of the directory through {@link FileChannel#lock()}, which excludes
+ * other processes, and on a {@link ReentrantLock} of the directory, which excludes other threads of the same JVM. The
+ * thread holding the lock may acquire it again, for instance when the snapshot and baseline directories are the same.
+ *
+ * <pre>{@code
+ * try (DirectoryLock lock = DirectoryLock.acquire(snapshotDir)) {
+ *     RegistrySnapshotFile.write(snapshot, executionTimes, snapshotDir, runId);
+ * }
+ * }</pre>
+ */
+public final class DirectoryLock implements AutoCloseable {
+
+    /**
+     * Name of the lock file created in the locked directory.
+     */
+    public static final String FILE_NAME = ".context-cache.lock";
+
+    private static final Map<Path, ReentrantLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final ReentrantLock jvmLock;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+
+    private DirectoryLock(ReentrantLock jvmLock, FileChannel channel, FileLock fileLock) {
+        this.jvmLock = jvmLock;
+        this.channel = channel;
+        this.fileLock = fileLock;
+    }
+
+    /**
+     * Waits until the given directory is unlocked and locks it.
+     *
+     * @param directory the directory to lock, created if missing
+     * @return the lock, to be closed once done
+     * @throws IOException if the lock file cannot be created or locked
+     */
+    public static DirectoryLock acquire(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ReentrantLock jvmLock = JVM_LOCKS.computeIfAbsent(directory.toAbsolutePath().normalize(), path -> new ReentrantLock());
+        jvmLock.lock();
+        if (jvmLock.getHoldCount() > 1) {
+            return new DirectoryLock(jvmLock, null, null);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(directory.resolve(FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            return new DirectoryLock(jvmLock, channel, channel.lock());
+        } catch (IOException | RuntimeException ex) {
+            if (channel != null) {
+                channel.close();
+            }
+            jvmLock.unlock();
+            throw ex;
+        }
+    }
+
+    /**
+     * Releases the lock.
+     *
+     * @throws IOException if the lock file cannot be released
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (channel != null) {
+                try (channel) {
+                    fileLock.release();
+                }
+            }
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+}
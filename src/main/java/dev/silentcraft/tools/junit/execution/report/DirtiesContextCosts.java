@@ -0,0 +1,158 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.test.annotation.DirtiesContext;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Attributes context rebuilds to the {@code @DirtiesContext} removals that caused them.
+ * <p>
+ * The registry blames a rebuild on the test class that missed the cache, although that class only paid for
+ * a context another class dirtied. Every {@link EventType#REBUILD} is linked back to the latest
+ * {@link ContextRemoval.Cause#REMOVED} removal of the same {@link
+ * dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint} since the previous build of that
+ * configuration — the removal that left the cache without that context. Rebuilds without such a removal, or whose
+ * removal was already linked to another rebuild, caused by a different configuration or by eviction, are not
+ * attributed.
+ *
+ * <pre>{@code
+ * List<Cost> costs = DirtiesContextCosts.attribute(ContextCacheMetricsRegistry.snapshot(),
+ *         ContextCacheMetricsRegistry.removals());
+ * }</pre>
+ */
+public final class DirtiesContextCosts {
+
+    private DirtiesContextCosts() {
+    }
+
+    /**
+     * Links the rebuilds of the given histories to the removals that caused them.
+     *
+     * @param snapshot the recorded histories, by test class
+     * @param removals the recorded removals, by test class
+     * @return the cost of each test class that dirtied a context, most expensive first
+     */
+    public static List<Cost> attribute(Map<TestContextKey, TestContextHistory> snapshot,
+                                       Map<TestContextKey, List<ContextRemoval>> removals) {
+        List<ContextRemoval> dirties = removals.values().stream()
+                .flatMap(List::stream)
+                .filter(removal -> removal.cause() == ContextRemoval.Cause.REMOVED)
+                .sorted(Comparator.comparing(ContextRemoval::timestamp))
+                .toList();
+        List<Build> builds = new ArrayList<>();
+        snapshot.forEach((key, history) -> history.events().stream()
+                .filter(event -> event.type() == EventType.BUILD || event.type() == EventType.REBUILD)
+                .forEach(event -> builds.add(new Build(key.testClass(), event))));
+        builds.sort(Comparator.comparing(build -> build.event().timestamp()));
+
+        Map<Class<?>, CostBuilder> builders = new HashMap<>();
+        dirties.forEach(removal -> builders.computeIfAbsent(removal.testClass(), CostBuilder::new).removed(removal));
+        Set<ContextRemoval> linked = new HashSet<>();
+        Map<String, Instant> previousBuilds = new HashMap<>();
+        for (Build build : builds) {
+            Instant previousBuild = previousBuilds.put(build.event().fingerprint(), build.event().timestamp());
+            if (build.event().type() != EventType.REBUILD) {
+                continue;
+            }
+            ContextRemoval cause = latestRemovalSince(dirties, previousBuild, build.event());
+            if (cause != null && linked.add(cause)) {
+                builders.get(cause.testClass()).rebuilt(build);
+            }
+        }
+
+        return builders.values().stream()
+                .map(CostBuilder::build)
+                .sorted(Comparator.comparing(Cost::rebuildDuration).reversed()
+                        .thenComparing(Comparator.comparingInt(Cost::rebuilds).reversed())
+                        .thenComparing(cost -> cost.dirtyingClass().getName()))
+                .toList();
+    }
+
+    private static ContextRemoval latestRemovalSince(List<ContextRemoval> dirties, Instant previousBuild,
+                                                     TestContextHistory.Events rebuild) {
+        ContextRemoval latest = null;
+        for (ContextRemoval removal : dirties) {
+            if (removal.timestamp().isAfter(rebuild.timestamp())) {
+                break;
+            }
+            if (removal.fingerprint().equals(rebuild.fingerprint())
+                    && (previousBuild == null || !removal.timestamp().isBefore(previousBuild))) {
+                latest = removal;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * The downstream cost of the {@code @DirtiesContext} removals of one test class.
+     *
+     * @param dirtyingClass   the test class that dirtied its context
+     * @param removals        the number of contexts it removed
+     * @param hierarchyModes  the hierarchy modes of its removals
+     * @param rebuilds        the number of later rebuilds caused by its removals
+     * @param rebuildDuration the time spent in those rebuilds
+     * @param rebuiltBy       the test classes that paid for those rebuilds, in order of their first rebuild
+     */
+    public record Cost(Class<?> dirtyingClass, int removals, Set<DirtiesContext.HierarchyMode> hierarchyModes, int rebuilds,
+                       Duration rebuildDuration, List<Class<?>> rebuiltBy) {
+
+        /**
+         * Describes this cost as a report line.
+         *
+         * @return e.g. {@code "ZebraTest's @DirtiesContext cost 2 rebuilds / 3.4 s downstream (rebuilt by LionTest)"}
+         */
+        public String describe() {
+            return String.format(Locale.ROOT, "%s's @DirtiesContext cost %d rebuilds / %.1f s downstream%s", dirtyingClass.getSimpleName(),
+                    rebuilds, rebuildDuration.toMillis() / 1000.0, rebuiltBy.isEmpty() ? ""
+                            : " (rebuilt by " + String.join(", ", rebuiltBy.stream().map(Class::getSimpleName).toList()) + ")");
+        }
+    }
+
+    private record Build(Class<?> testClass, TestContextHistory.Events event) {
+    }
+
+    private static final class CostBuilder {
+        private final Class<?> dirtyingClass;
+        private final Set<DirtiesContext.HierarchyMode> hierarchyModes = new LinkedHashSet<>();
+        private final Set<Class<?>> rebuiltBy = new LinkedHashSet<>();
+        private int removals;
+        private int rebuilds;
+        private Duration rebuildDuration = Duration.ZERO;
+
+        private CostBuilder(Class<?> dirtyingClass) {
+            this.dirtyingClass = dirtyingClass;
+        }
+
+        private void removed(ContextRemoval removal) {
+            removals++;
+            if (removal.hierarchyMode() != null) {
+                hierarchyModes.add(removal.hierarchyMode());
+            }
+        }
+
+        private void rebuilt(Build rebuild) {
+            rebuilds++;
+            rebuildDuration = rebuildDuration.plus(rebuild.event().duration());
+            rebuiltBy.add(rebuild.testClass());
+        }
+
+        private Cost build() {
+            return new Cost(dirtyingClass, removals, Set.copyOf(hierarchyModes), rebuilds, rebuildDuration, List.copyOf(rebuiltBy));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.test.context.MergedContextConfiguration;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMissesListener;
+
+/**
+ * Records when and on which thread test classes run and contexts are built.
+ * <p>
+ * Context builds and cache hits are captured by registering the timeline on the
+ * {@link dev.silentcraft.tools.spring.test.context.cache.ObservableContextCache}; test class
+ * executions are reported by {@link dev.silentcraft.tools.junit.execution.listener.GlobalTestExecutionAnalyzer}.
+ * All timestamps are {@link System#nanoTime()} values, comparable within the current JVM only.
+ *
+ * <h2>Thread Safety</h2>
+ * Spans and markers are appended to concurrent queues and may be recorded from any worker thread.
+ *
+ * @see ChromeTraceWriter
+ */
+public final class ExecutionTimeline implements ContextCacheMissesListener {
+
+    /**
+     * Category of the spans covering the execution of a test class.
+     */
+    public static final String TEST_CLASS = "test-class";
+
+    /**
+     * Category of the spans covering the build of an {@code ApplicationContext}.
+     */
+    public static final String CONTEXT_BUILD = "context-build";
+
+    /**
+     * Category of the markers left by context cache hits.
+     */
+    public static final String CACHE_HIT = "cache-hit";
+
+    private final long originNanos = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final Queue<Marker> markers = new ConcurrentLinkedQueue<>();
+    private final Map<String, Span> openClassSpans = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty timeline whose origin is the current instant.
+     */
+    public ExecutionTimeline() {
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which this timeline was created.
+     *
+     * @return the origin of the timeline
+     */
+    public long originNanos() {
+        return originNanos;
+    }
+
+    /**
+     * Opens the span of a test class on the current thread.
+     *
+     * @param uniqueId  the JUnit unique id of the test class, used to close the span
+     * @param className the fully qualified name of the test class
+     */
+    public void classStarted(String uniqueId, String className) {
+        Thread thread = Thread.currentThread();
+        openClassSpans.put(uniqueId, new Span(thread.threadId(), thread.getName(), className, TEST_CLASS,
+                System.nanoTime(), 0, Map.of()));
+    }
+
+    /**
+     * Closes the span opened by {@link #classStarted(String, String)}.
+     *
+     * @param uniqueId the JUnit unique id of the test class
+     * @param status   the execution status reported by JUnit
+     */
+    public void classFinished(String uniqueId, String status) {
+        Span open = openClassSpans.remove(uniqueId);
+        if (open != null) {
+            spans.add(new Span(open.threadId(), open.threadName(), open.name(), TEST_CLASS, open.startNanos(),
+                    System.nanoTime(), Map.of("status", status)));
+        }
+    }
+
+    @Override
+    public void onCacheMiss(MergedContextConfiguration key) {
+    }
+
+    @Override
+    public void onCacheHit(MergedContextConfiguration key) {
+        Thread thread = Thread.currentThread();
+        markers.add(new Marker(thread.threadId(), thread.getName(), key.getTestClass().getSimpleName(), CACHE_HIT,
+                System.nanoTime(), Map.of("fingerprint", ConfigurationFingerprint.of(key))));
+    }
+
+    @Override
+    public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+        Thread thread = Thread.currentThread();
+        long end = System.nanoTime();
+        spans.add(new Span(thread.threadId(), thread.getName(), "build " + key.getTestClass().getSimpleName(),
+                CONTEXT_BUILD, end - loadDuration.toNanos(), end,
+                Map.of("testClass", key.getTestClass().getName(), "fingerprint", ConfigurationFingerprint.of(key))));
+    }
+
+    /**
+     * Returns the completed spans recorded so far, in completion order.
+     *
+     * @return an immutable copy of the spans
+     */
+    public List<Span> spans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Returns the instant markers recorded so far.
+     *
+     * @return an immutable copy of the markers
+     */
+    public List<Marker> markers() {
+        return List.copyOf(markers);
+    }
+
+    /**
+     * A timed activity on one thread.
+     *
+     * @param threadId   the id of the thread the activity ran on
+     * @param threadName the name of that thread
+     * @param name       a short description of the activity
+     * @param category   {@link #TEST_CLASS} or {@link #CONTEXT_BUILD}
+     * @param startNanos the {@link System#nanoTime()} at which the activity started
+     * @param endNanos   the {@link System#nanoTime()} at which the activity ended
+     * @param args       additional details
+     */
+    public record Span(long threadId, String threadName, String name, String category, long startNanos, long endNanos,
+                       Map<String, String> args) {
+
+        /**
+         * Returns how long the activity lasted.
+         *
+         * @return the span duration
+         */
+        public Duration duration() {
+            return Duration.ofNanos(endNanos - startNanos);
+        }
+    }
+
+    /**
+     * A point-in-time occurrence on one thread.
+     *
+     * @param threadId   the id of the thread the occurrence happened on
+     * @param threadName the name of that thread
+     * @param name       a short description of the occurrence
+     * @param category   {@link #CACHE_HIT}
+     * @param atNanos    the {@link System#nanoTime()} of the occurrence
+     * @param args       additional details
+     */
+    public record Marker(long threadId, String threadName, String name, String category, long atNanos,
+                         Map<String, String> args) {
+    }
+}
@@ -0,0 +1,245 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+
+/**
+ * Assigns test classes to Surefire forks so that each configuration is built in as few forks as possible,
+ * while keeping the forks balanced.
+ * <p>
+ * Surefire distributes test classes to forks regardless of their configuration, so with {@code forkCount=N}
+ * most configurations end up built in most forks. From an {@link SnapshotAggregator.AggregatedSnapshot} of a
+ * previous run, this partitioner groups test classes by {@link dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint}
+ * and bin-packs the groups:
+ * <ol>
+ *     <li>the cost of a group is the average build time of its configuration plus the execution time of its
+ *     classes, context builds excluded;</li>
+ *     <li>a group costing more than a fair share of the suite is split, each part paying the build again;</li>
+ *     <li>parts are placed largest first on the fork whose load grows the least, a fork that already holds
+ *     the configuration not paying its build twice.</li>
+ * </ol>
+ * Classes without any recorded configuration, such as plain unit tests, are placed as single-class groups,
+ * so that every class run by the previous build lands in exactly one fork.
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; dev.silentcraft.tools.junit.execution.report.ForkPartitioner target/context-cache 4 target/forks
+ * </pre>
+ */
+public final class ForkPartitioner {
+
+    private static final String INCLUDES_FILE = "fork-%d.includes";
+
+    private ForkPartitioner() {
+    }
+
+    /**
+     * Writes one includes file per fork from the snapshots of a previous run.
+     *
+     * @param args the snapshot directory, the number of forks and the output directory
+     * @throws IOException if a snapshot cannot be read or an includes file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: ForkPartitioner <snapshot directory> <fork count> <output directory>");
+            System.exit(2);
+        }
+        List<Fork> forks = partition(SnapshotAggregator.aggregate(Path.of(args[0])), Integer.parseInt(args[1]));
+        writeIncludesFiles(forks, Path.of(args[2]));
+        forks.forEach(fork -> System.out.printf("Fork %d: %d test classes, %d configurations, ~%d ms%n", fork.index(),
+                fork.classes().size(), fork.fingerprints().size(), fork.estimatedDuration().toMillis()));
+    }
+
+    /**
+     * Distributes the test classes of the given snapshot across {@code forkCount} forks.
+     *
+     * @param snapshot  the merged snapshot of a previous run
+     * @param forkCount the number of forks, at least one
+     * @return the forks, in index order
+     * @throws IllegalArgumentException if {@code forkCount} is lower than one
+     */
+    public static List<Fork> partition(SnapshotAggregator.AggregatedSnapshot snapshot, int forkCount) {
+        if (forkCount < 1) {
+            throw new IllegalArgumentException("forkCount must be at least 1, got " + forkCount);
+        }
+
+        Map<String, String> fingerprints = new HashMap<>();
+        Map<String, Duration> executionTimes = new HashMap<>();
+        snapshot.executionTimes().forEach((testClass, duration) -> executionTimes.merge(topLevel(testClass), duration, Duration::plus));
+        new TreeMap<>(snapshot.histories()).forEach((testClass, history) -> {
+            String topLevel = topLevel(testClass);
+            executionTimes.merge(topLevel, Duration.ZERO, Duration::plus);
+            executionTimes.computeIfPresent(topLevel, (name, duration) -> nonNegative(duration.minus(history.totalLoadDuration())));
+            List<TestContextHistory.Events> events = history.events();
+            if (!events.isEmpty() && !events.get(events.size() - 1).fingerprint().isEmpty()) {
+                fingerprints.putIfAbsent(topLevel, events.get(events.size() - 1).fingerprint());
+            }
+        });
+
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        executionTimes.keySet().stream().sorted().forEach(testClass ->
+                groups.computeIfAbsent(fingerprints.getOrDefault(testClass, testClass), group -> new ArrayList<>()).add(testClass));
+
+        List<Part> parts = new ArrayList<>();
+        Duration total = groups.entrySet().stream()
+                .map(group -> buildCost(snapshot, group.getKey()).plus(sum(group.getValue(), executionTimes)))
+                .reduce(Duration.ZERO, Duration::plus);
+        Duration fairShare = total.dividedBy(forkCount);
+        groups.forEach((group, classes) -> parts.addAll(split(group, classes, buildCost(snapshot, group), executionTimes, fairShare)));
+        parts.sort(Comparator.comparing(Part::cost).reversed().thenComparing(Part::group));
+
+        List<ForkBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < forkCount; i++) {
+            builders.add(new ForkBuilder(i + 1));
+        }
+        for (Part part : parts) {
+            ForkBuilder target = builders.stream()
+                    .min(Comparator.comparing((ForkBuilder fork) -> fork.load.plus(fork.costOf(part))).thenComparingInt(fork -> fork.index))
+                    .orElseThrow();
+            target.add(part);
+        }
+        return builders.stream().map(ForkBuilder::build).toList();
+    }
+
+    /**
+     * Writes one Surefire includes file per fork, named {@code fork-<index>.includes}, each listing the
+     * source path of its test classes, e.g. {@code com/acme/ZooTest.java}.
+     *
+     * @param forks     the forks returned by {@link #partition}
+     * @param directory the output directory, created if missing
+     * @throws IOException if a file cannot be written
+     */
+    public static void writeIncludesFiles(List<Fork> forks, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Fork fork : forks) {
+            List<String> lines = fork.classes().stream()
+                    .map(testClass -> testClass.replace('.', '/') + ".java")
+                    .toList();
+            Files.write(directory.resolve(INCLUDES_FILE.formatted(fork.index())), lines, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<Part> split(String group, List<String> classes, Duration buildCost, Map<String, Duration> executionTimes,
+                                    Duration fairShare) {
+        Duration cost = buildCost.plus(sum(classes, executionTimes));
+        if (cost.compareTo(fairShare) <= 0 || classes.size() == 1) {
+            return List.of(new Part(group, classes, buildCost, sum(classes, executionTimes)));
+        }
+        Duration capacity = fairShare.minus(buildCost);
+        if (capacity.isNegative() || capacity.isZero()) {
+            capacity = fairShare;
+        }
+        List<String> sorted = classes.stream()
+                .sorted(Comparator.comparing((String testClass) -> executionTimes.get(testClass)).reversed().thenComparing(testClass -> testClass))
+                .toList();
+        List<Part> parts = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        Duration currentCost = Duration.ZERO;
+        for (String testClass : sorted) {
+            Duration classCost = executionTimes.get(testClass);
+            if (!current.isEmpty() && currentCost.plus(classCost).compareTo(capacity) > 0) {
+                parts.add(new Part(group, current, buildCost, currentCost));
+                current = new ArrayList<>();
+                currentCost = Duration.ZERO;
+            }
+            current.add(testClass);
+            currentCost = currentCost.plus(classCost);
+        }
+        parts.add(new Part(group, current, buildCost, currentCost));
+        return parts;
+    }
+
+    private static Duration buildCost(SnapshotAggregator.AggregatedSnapshot snapshot, String group) {
+        SnapshotAggregator.ConfigurationBuilds builds = snapshot.configurations().get(group);
+        if (builds == null || builds.builds() == 0) {
+            return Duration.ZERO;
+        }
+        return builds.buildDuration().dividedBy(builds.builds());
+    }
+
+    private static Duration sum(List<String> classes, Map<String, Duration> executionTimes) {
+        return classes.stream().map(executionTimes::get).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    private static Duration nonNegative(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+
+    private static String topLevel(String testClass) {
+        int nested = testClass.indexOf('$');
+        return nested < 0 ? testClass : testClass.substring(0, nested);
+    }
+
+    /**
+     * Test classes assigned to one fork.
+     *
+     * @param index             the fork index, starting at one
+     * @param classes           the fully qualified names of the test classes, sorted
+     * @param fingerprints      the configurations the fork builds
+     * @param estimatedDuration the expected build and execution time of the fork
+     */
+    public record Fork(int index, List<String> classes, Set<String> fingerprints, Duration estimatedDuration) {
+
+        /**
+         * Constructs an immutable {@code Fork}.
+         *
+         * @param index             the fork index, starting at one
+         * @param classes           the fully qualified names of the test classes, sorted
+         * @param fingerprints      the configurations the fork builds
+         * @param estimatedDuration the expected build and execution time of the fork
+         */
+        public Fork {
+            classes = List.copyOf(classes);
+            fingerprints = Set.copyOf(fingerprints);
+        }
+    }
+
+    private record Part(String group, List<String> classes, Duration buildCost, Duration executionCost) {
+
+        Duration cost() {
+            return buildCost.plus(executionCost);
+        }
+    }
+
+    private static final class ForkBuilder {
+        private final int index;
+        private final Set<String> classes = new TreeSet<>();
+        private final Set<String> groups = new TreeSet<>();
+        private final Set<String> fingerprints = new TreeSet<>();
+        private Duration load = Duration.ZERO;
+
+        private ForkBuilder(int index) {
+            this.index = index;
+        }
+
+        private Duration costOf(Part part) {
+            return groups.contains(part.group()) ? part.executionCost() : part.cost();
+        }
+
+        private void add(Part part) {
+            load = load.plus(costOf(part));
+            groups.add(part.group());
+            if (!part.buildCost().isZero()) {
+                fingerprints.add(part.group());
+            }
+            classes.addAll(part.classes());
+        }
+
+        private Fork build() {
+            return new Fork(index, List.copyOf(classes), fingerprints, load);
+        }
+    }
+}
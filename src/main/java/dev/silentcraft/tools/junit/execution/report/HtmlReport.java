@@ -0,0 +1,262 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Writes the registry as a single, self-contained HTML page, for developers who do not read build logs.
+ * <p>
+ * The page holds three views of the data the analyzer reports on:
+ * <ul>
+ *     <li>a table of test classes, sortable by build time, rebuilds or execution time by clicking its headers;</li>
+ *     <li>one collapsible section per configuration, listing the test classes sharing its context and its
+ *     {@link ConfigurationDelta} from the reference configuration;</li>
+ *     <li>the timeline of context builds, drawn as an inline SVG.</li>
+ * </ul>
+ * Styles and the sorting script are inlined and nothing is loaded from the network, so that the file can be
+ * archived as a CI artifact and opened offline. Like {@link JsonReport}, the page is streamed to the file.
+ * <p>
+ * As a {@link ContextCacheReporter}, it writes to {@link ContextCacheMetricsProperties#HTML_REPORT_FILE}.
+ */
+public final class HtmlReport implements ContextCacheReporter {
+    private static final Logger log = LoggerFactory.getLogger(HtmlReport.class);
+    private static final String ANSI_YELLOW = "\u001B[33m";
+    private static final String ANSI_COLOR_END = "\u001B[0m";
+
+    private static final int TIMELINE_WIDTH = 960;
+    private static final int TIMELINE_ROW_HEIGHT = 18;
+    private static final int TIMELINE_LABEL_WIDTH = 320;
+
+    private static final String STYLE = """
+            body{font-family:system-ui,sans-serif;margin:2em;color:#222}
+            h1{font-size:1.5em}h2{font-size:1.2em;margin-top:2em}
+            table{border-collapse:collapse;width:100%}
+            th,td{padding:4px 8px;border-bottom:1px solid #ddd;text-align:left}
+            th{cursor:pointer;background:#f4f4f4;user-select:none}
+            td.num,th.num{text-align:right}
+            details{margin:4px 0;padding:4px 8px;border:1px solid #ddd;border-radius:4px}
+            summary{cursor:pointer}
+            code{background:#f4f4f4;padding:0 3px}
+            .reference{border-color:#2a7}
+            svg text{font-size:11px}
+            """;
+
+    private static final String SORT_SCRIPT = """
+            document.querySelectorAll('table.sortable th').forEach(function (th, column) {
+              th.addEventListener('click', function () {
+                var tbody = th.closest('table').tBodies[0];
+                var descending = th.dataset.order !== 'desc';
+                th.dataset.order = descending ? 'desc' : 'asc';
+                Array.from(tbody.rows).sort(function (a, b) {
+                  var x = a.cells[column].dataset.value || a.cells[column].textContent;
+                  var y = b.cells[column].dataset.value || b.cells[column].textContent;
+                  var result = isNaN(x) || isNaN(y) ? x.localeCompare(y) : x - y;
+                  return descending ? -result : result;
+                }).forEach(function (row) { tbody.appendChild(row); });
+              });
+            });
+            """;
+
+    /**
+     * Creates the reporter, enabled when {@link ContextCacheMetricsProperties#HTML_REPORT_FILE} is set.
+     */
+    public HtmlReport() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.HTML_REPORT_FILE) != null;
+    }
+
+    @Override
+    public void report(ContextCacheRun run) throws IOException {
+        Path target = Path.of(ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.HTML_REPORT_FILE));
+        write(run.snapshot(), run.classDurations(), target);
+        log.info("[OCC] {} Context cache report written to {} - open it in a browser {}", ANSI_YELLOW, target.toAbsolutePath(),
+                ANSI_COLOR_END);
+    }
+
+    /**
+     * Writes the report, replacing any existing file.
+     *
+     * @param snapshot       the recorded histories, by test class
+     * @param classDurations the execution time of each test class, by class name
+     * @param target         the report file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Map<TestContextKey, TestContextHistory> snapshot, Map<String, Duration> classDurations,
+                             Path target) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        RunSummary summary = RunSummary.of(snapshot);
+        Map<String, TestContextHistory.Events> configurationEvents = RunSummary.configurationEvents(snapshot);
+        String reference = summary.referenceFingerprint();
+
+        try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n");
+            out.write("<title>Context cache report</title>\n<style>\n" + STYLE + "</style>\n</head>\n<body>\n");
+            out.write("<h1>Context cache report</h1>\n");
+            out.write(String.format(Locale.ROOT, "<p>%d test classes, %d contexts built from %d distinct configurations, "
+                            + "%d rebuilds, %s spent building contexts.</p>\n", snapshot.size(), summary.contextsBuilt(),
+                    summary.configurations().size(), summary.rebuilds().values().stream().mapToInt(Integer::intValue).sum(),
+                    seconds(summary.buildDuration())));
+
+            writeTestClasses(out, snapshot, classDurations);
+            writeConfigurations(out, summary, configurationEvents, reference);
+            writeTimeline(out, snapshot);
+
+            out.write("<script>\n" + SORT_SCRIPT + "</script>\n</body>\n</html>\n");
+        }
+    }
+
+    private static void writeTestClasses(Writer out, Map<TestContextKey, TestContextHistory> snapshot,
+                                         Map<String, Duration> classDurations) throws IOException {
+        out.write("<h2>Test classes</h2>\n<table class=\"sortable\">\n<thead><tr><th>Test class</th>"
+                + "<th class=\"num\">Build time</th><th class=\"num\">Rebuilds</th><th class=\"num\">Execution time</th>"
+                + "<th>Configurations</th></tr></thead>\n<tbody>\n");
+        List<Map.Entry<TestContextKey, TestContextHistory>> entries = snapshot.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<TestContextKey, TestContextHistory>, Duration>comparing(entry -> entry.getValue().totalLoadDuration())
+                        .reversed()
+                        .thenComparing(entry -> entry.getKey().testClass().getName()))
+                .toList();
+        for (Map.Entry<TestContextKey, TestContextHistory> entry : entries) {
+            TestContextHistory history = entry.getValue();
+            Duration loadDuration = history.totalLoadDuration();
+            Duration executionDuration = classDurations.get(entry.getKey().testClass().getName());
+            out.write("<tr><td>" + escape(entry.getKey().testClass().getName()) + "</td>");
+            out.write("<td class=\"num\" data-value=\"" + loadDuration.toMillis() + "\">" + seconds(loadDuration) + "</td>");
+            out.write("<td class=\"num\">" + history.rebuildEventsCount() + "</td>");
+            if (executionDuration == null) {
+                out.write("<td class=\"num\" data-value=\"-1\">—</td>");
+            } else {
+                out.write("<td class=\"num\" data-value=\"" + executionDuration.toMillis() + "\">" + seconds(executionDuration) + "</td>");
+            }
+            out.write("<td>" + escape(String.join(", ", history.events().stream()
+                    .map(TestContextHistory.Events::fingerprint)
+                    .filter(fingerprint -> !fingerprint.isEmpty())
+                    .distinct()
+                    .toList())) + "</td></tr>\n");
+        }
+        out.write("</tbody>\n</table>\n");
+    }
+
+    private static void writeConfigurations(Writer out, RunSummary summary, Map<String, TestContextHistory.Events> configurationEvents,
+                                            String reference) throws IOException {
+        out.write("<h2>Configurations</h2>\n");
+        List<Map.Entry<String, RunSummary.ConfigurationBuilds>> configurations = summary.configurations().entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, RunSummary.ConfigurationBuilds>>comparingInt(entry -> entry.getValue().testClasses().size())
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .toList();
+        for (Map.Entry<String, RunSummary.ConfigurationBuilds> entry : configurations) {
+            String fingerprint = entry.getKey();
+            RunSummary.ConfigurationBuilds builds = entry.getValue();
+            TestContextHistory.Events config = configurationEvents.get(fingerprint);
+            boolean isReference = fingerprint.equals(reference);
+            out.write(isReference ? "<details class=\"reference\">" : "<details>");
+            out.write("<summary><code>" + escape(fingerprint) + "</code> — " + builds.testClasses().size() + " test classes, "
+                    + builds.builds() + " builds, " + seconds(builds.buildDuration())
+                    + (isReference ? " — reference configuration" : "") + "</summary>\n");
+            out.write("<p>Classes: " + escape(String.join(", ", config.classes())) + "<br>Active profiles: "
+                    + escape(config.activeProfiles().isEmpty() ? "none" : String.join(", ", config.activeProfiles())));
+            if (!isReference && configurationEvents.containsKey(reference)) {
+                out.write("<br>Differs from <code>" + escape(reference) + "</code> by "
+                        + escape(ConfigurationDelta.between(config, configurationEvents.get(reference)).describe()));
+            }
+            out.write("</p>\n<ul>\n");
+            for (String testClass : builds.testClasses().stream().sorted().toList()) {
+                out.write("<li>" + escape(testClass) + "</li>\n");
+            }
+            out.write("</ul>\n</details>\n");
+        }
+    }
+
+    private static void writeTimeline(Writer out, Map<TestContextKey, TestContextHistory> snapshot) throws IOException {
+        List<Build> builds = snapshot.entrySet().stream()
+                .flatMap(entry -> entry.getValue().events().stream()
+                        .filter(TestContextHistory.Events::isLoad)
+                        .map(event -> new Build(entry.getKey().testClass().getName(), event)))
+                .sorted(Comparator.comparing(build -> build.event().timestamp()))
+                .toList();
+        out.write("<h2>Context builds</h2>\n");
+        if (builds.isEmpty()) {
+            out.write("<p>No context was built.</p>\n");
+            return;
+        }
+        Instant origin = builds.getFirst().event().timestamp();
+        long spanMillis = builds.stream()
+                .mapToLong(build -> Duration.between(origin, build.event().timestamp()).plus(build.event().duration()).toMillis())
+                .max()
+                .orElse(0);
+        double scale = (TIMELINE_WIDTH - TIMELINE_LABEL_WIDTH) / (double) Math.max(spanMillis, 1);
+        int height = builds.size() * TIMELINE_ROW_HEIGHT + TIMELINE_ROW_HEIGHT;
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + TIMELINE_WIDTH + "\" height=\"" + height + "\">\n");
+        int y = 0;
+        for (Build build : builds) {
+            double x = TIMELINE_LABEL_WIDTH + Duration.between(origin, build.event().timestamp()).toMillis() * scale;
+            double width = Math.max(build.event().duration().toMillis() * scale, 1);
+            String label = "%s %s — %s".formatted(build.testClass(), build.event().type(), seconds(build.event().duration()));
+            out.write(String.format(Locale.ROOT, "<text x=\"0\" y=\"%d\">%s</text>", y + TIMELINE_ROW_HEIGHT - 5,
+                    escape(simpleName(build.testClass()))));
+            out.write(String.format(Locale.ROOT, "<rect x=\"%.1f\" y=\"%d\" width=\"%.1f\" height=\"%d\" fill=\"%s\"><title>%s</title></rect>\n",
+                    x, y + 2, width, TIMELINE_ROW_HEIGHT - 4, build.event().type() == EventType.BUILD ? "#2a7" : "#d64",
+                    escape(label)));
+            y += TIMELINE_ROW_HEIGHT;
+        }
+        out.write(String.format(Locale.ROOT, "<text x=\"%d\" y=\"%d\">0 s</text><text x=\"%d\" y=\"%d\" text-anchor=\"end\">%s</text>\n",
+                TIMELINE_LABEL_WIDTH, y + TIMELINE_ROW_HEIGHT - 5, TIMELINE_WIDTH, y + TIMELINE_ROW_HEIGHT - 5,
+                seconds(Duration.ofMillis(spanMillis))));
+        out.write("</svg>\n");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String seconds(Duration duration) {
+        return String.format(Locale.ROOT, "%.1f s", duration.toMillis() / 1000.0);
+    }
+
+    /**
+     * Escapes the given text for use in HTML content and attribute values.
+     *
+     * @param text the text to escape
+     * @return the escaped text
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private record Build(String testClass, TestContextHistory.Events event) {
+    }
+}
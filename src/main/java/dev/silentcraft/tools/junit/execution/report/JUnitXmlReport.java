@@ -0,0 +1,141 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes the checks of this library as a JUnit XML report, the format Surefire writes and CI servers read.
+ * <p>
+ * A {@link org.junit.platform.launcher.TestExecutionListener} cannot fail the test plan it observes: the checks run
+ * once the plan has finished, and the JUnit Platform only logs the exceptions of its listeners. Writing them next to
+ * the reports of the actual tests ({@code target/surefire-reports} by default) makes a failed check show up, and turn
+ * the build red, wherever test results are collected.
+ *
+ * <pre>{@code
+ * JUnitXmlReport.write(Path.of("target/surefire-reports"), "ContextCacheBaseline",
+ *         List.of(new JUnitXmlReport.Check("contextCount", List.of("2 new distinct contexts"))));
+ * }</pre>
+ */
+public final class JUnitXmlReport {
+
+    private JUnitXmlReport() {
+    }
+
+    /**
+     * Writes one test suite holding the given checks, replacing the report of a previous run.
+     *
+     * @param directory the report directory, created if missing
+     * @param suiteName the name of the test suite, also naming the file {@code TEST-<suiteName>.xml}
+     * @param checks    the checks, each reported as a test case
+     * @return the written file
+     * @throws IOException if the report cannot be written
+     */
+    public static Path write(Path directory, String suiteName, List<Check> checks) throws IOException {
+        return write(directory, suiteName, null, checks);
+    }
+
+    /**
+     * Writes one test suite holding the given checks of a build run, replacing the report of a previous run.
+     *
+     * @param directory the report directory, created if missing
+     * @param suiteName the name of the test suite, also naming the file {@code TEST-<suiteName>.xml}
+     * @param runId     the run id recorded as the {@code run.id} property of the suite, {@code null} for none
+     * @param checks    the checks, each reported as a test case
+     * @return the written file
+     * @throws IOException if the report cannot be written
+     */
+    public static Path write(Path directory, String suiteName, String runId, List<Check> checks) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("TEST-" + suiteName + ".xml");
+        long failed = checks.stream().filter(Check::failed).count();
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            XMLStreamWriter xml = XMLOutputFactory.newFactory().createXMLStreamWriter(out);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("testsuite");
+            xml.writeAttribute("name", suiteName);
+            xml.writeAttribute("tests", String.valueOf(checks.size()));
+            xml.writeAttribute("failures", String.valueOf(failed));
+            xml.writeAttribute("errors", "0");
+            xml.writeAttribute("skipped", "0");
+            if (runId != null) {
+                xml.writeCharacters("\n  ");
+                xml.writeStartElement("properties");
+                xml.writeEmptyElement("property");
+                xml.writeAttribute("name", "run.id");
+                xml.writeAttribute("value", runId);
+                xml.writeEndElement();
+            }
+            for (Check check : checks) {
+                xml.writeCharacters("\n  ");
+                xml.writeStartElement("testcase");
+                xml.writeAttribute("name", check.name());
+                xml.writeAttribute("classname", suiteName);
+                if (check.failed()) {
+                    xml.writeStartElement("failure");
+                    xml.writeAttribute("message", check.failures().getFirst());
+                    xml.writeAttribute("type", "AssertionError");
+                    xml.writeCharacters(String.join("\n", check.failures()));
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            }
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException ex) {
+            throw new IOException("Could not write JUnit report " + file, ex);
+        }
+        return file;
+    }
+
+    /**
+     * Deletes the report of a test suite, so that a check no longer made does not keep reporting the result of a
+     * previous run.
+     *
+     * @param directory the report directory
+     * @param suiteName the name of the test suite
+     * @return {@code true} if a report was deleted
+     * @throws IOException if the report cannot be deleted
+     */
+    public static boolean delete(Path directory, String suiteName) throws IOException {
+        return Files.deleteIfExists(directory.resolve("TEST-" + suiteName + ".xml"));
+    }
+
+    /**
+     * A check reported as one test case.
+     *
+     * @param name     the name of the test case
+     * @param failures the failure message followed by its details, empty if the check passed
+     */
+    public record Check(String name, List<String> failures) {
+
+        /**
+         * Creates a check.
+         *
+         * @param name     the name of the test case
+         * @param failures the failure message followed by its details
+         */
+        public Check {
+            failures = List.copyOf(failures);
+        }
+
+        /**
+         * Tells whether the check failed.
+         *
+         * @return {@code true} if there is at least one failure message
+         */
+        public boolean failed() {
+            return !failures.isEmpty();
+        }
+    }
+}
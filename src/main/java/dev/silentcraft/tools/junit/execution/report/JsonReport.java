@@ -0,0 +1,200 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties;
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Writes the whole registry as a machine-readable JSON report, for dashboards and other tools.
+ * <p>
+ * Unlike the log report, nothing is capped: every test class of
+ * {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry#snapshot()} is written with all
+ * its events and removals. The document is streamed through {@link JsonWriter} while walking the snapshot, so that
+ * the report of a large suite is never held in memory as a whole.
+ *
+ * <h2>Schema</h2>
+ * The document carries its {@code schemaVersion}, currently {@value #SCHEMA_VERSION}. Fields may be added within a
+ * version; renaming or removing a field, or changing its meaning, increments it. Durations are milliseconds and
+ * timestamps ISO-8601 instants.
+ *
+ * <pre>
+ * {
+ *   "schemaVersion": 1,
+ *   "generatedAt": "2026-04-16T09:00:00Z",
+ *   "summary": {"testClasses": 12, "contextsBuilt": 3, "rebuilds": 2, "distinctConfigurations": 3, "buildMs": 8412,
+ *               "referenceFingerprint": "3f9a1c07d2b4e815"},
+ *   "configurations": [{"fingerprint": "81c0e5f2a9d34b67", "classes": ["com.acme.App"], "activeProfiles": ["legacy"],
+ *                       "builds": 1, "buildMs": 2310, "testClasses": ["com.acme.LegacyImportTest"],
+ *                       "diff": {"addedClasses": [], "removedClasses": [], "addedProfiles": ["legacy"], "removedProfiles": []}}],
+ *   "testClasses": [{"testClass": "com.acme.LegacyImportTest", "executionMs": 2954, "rebuilds": 1, "loadMs": 2310,
+ *                    "events": [{"type": "REBUILD", "timestamp": "...", "fingerprint": "81c0e5f2a9d34b67", "durationMs": 2310,
+ *                                "classes": ["com.acme.App"], "activeProfiles": ["legacy"]}],
+ *                    "removals": [{"cause": "REMOVED", "timestamp": "...", "fingerprint": "81c0e5f2a9d34b67",
+ *                                  "hierarchyMode": "EXHAUSTIVE", "closeMs": 120}]}]
+ * }
+ * </pre>
+ * The {@code diff} of a configuration is its {@link ConfigurationDelta} from the reference configuration, {@code null}
+ * for the reference configuration itself; {@code executionMs} is {@code null} when the execution time of the class is
+ * unknown.
+ * <p>
+ * As a {@link ContextCacheReporter}, it writes to {@link ContextCacheMetricsProperties#JSON_REPORT_FILE}.
+ */
+public final class JsonReport implements ContextCacheReporter {
+    private static final Logger log = LoggerFactory.getLogger(JsonReport.class);
+
+    /**
+     * Version of the schema of the written documents.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    /**
+     * Creates the reporter, enabled when {@link ContextCacheMetricsProperties#JSON_REPORT_FILE} is set.
+     */
+    public JsonReport() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.JSON_REPORT_FILE) != null;
+    }
+
+    @Override
+    public void report(ContextCacheRun run) throws IOException {
+        Path target = Path.of(ContextCacheMetricsProperties.get(ContextCacheMetricsProperties.JSON_REPORT_FILE));
+        write(run.snapshot(), run.removals(), run.classDurations(), target);
+        log.info("[OCC] Context cache report written to {}", target.toAbsolutePath());
+    }
+
+    /**
+     * Writes the report, replacing any existing file.
+     *
+     * @param snapshot       the recorded histories, by test class
+     * @param removals       the recorded removals, by test class
+     * @param classDurations the execution time of each test class, by class name
+     * @param target         the report file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Map<TestContextKey, TestContextHistory> snapshot, Map<TestContextKey, List<ContextRemoval>> removals,
+                             Map<String, Duration> classDurations, Path target) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        RunSummary summary = RunSummary.of(snapshot);
+        Map<String, TestContextHistory.Events> configurationEvents = RunSummary.configurationEvents(snapshot);
+        String reference = summary.referenceFingerprint();
+
+        try (JsonWriter json = new JsonWriter(Files.newBufferedWriter(target, StandardCharsets.UTF_8))) {
+            json.beginObject()
+                    .name("schemaVersion").value(SCHEMA_VERSION)
+                    .name("generatedAt").value(Instant.now().toString());
+
+            json.name("summary").beginObject()
+                    .name("testClasses").value(snapshot.size())
+                    .name("contextsBuilt").value(summary.contextsBuilt())
+                    .name("rebuilds").value(summary.rebuilds().values().stream().mapToInt(Integer::intValue).sum())
+                    .name("distinctConfigurations").value(summary.configurations().size())
+                    .name("buildMs").value(summary.buildDuration().toMillis())
+                    .name("referenceFingerprint").value(reference)
+                    .endObject();
+
+            json.name("configurations").beginArray();
+            List<String> fingerprints = summary.configurations().keySet().stream().sorted().toList();
+            for (String fingerprint : fingerprints) {
+                RunSummary.ConfigurationBuilds builds = summary.configurations().get(fingerprint);
+                TestContextHistory.Events config = configurationEvents.get(fingerprint);
+                json.beginObject().name("fingerprint").value(fingerprint);
+                strings(json.name("classes"), config.classes());
+                strings(json.name("activeProfiles"), config.activeProfiles());
+                json.name("builds").value(builds.builds()).name("buildMs").value(builds.buildDuration().toMillis());
+                strings(json.name("testClasses"), builds.testClasses().stream().sorted().toList());
+                json.name("diff");
+                if (fingerprint.equals(reference)) {
+                    json.value((String) null);
+                } else {
+                    ConfigurationDelta delta = ConfigurationDelta.between(config, configurationEvents.get(reference));
+                    json.beginObject();
+                    strings(json.name("addedClasses"), delta.addedClasses());
+                    strings(json.name("removedClasses"), delta.removedClasses());
+                    strings(json.name("addedProfiles"), delta.addedProfiles());
+                    strings(json.name("removedProfiles"), delta.removedProfiles());
+                    json.endObject();
+                }
+                json.endObject();
+            }
+            json.endArray();
+
+            json.name("testClasses").beginArray();
+            List<TestContextKey> keys = snapshot.keySet().stream()
+                    .sorted(Comparator.comparing(key -> key.testClass().getName()))
+                    .toList();
+            for (TestContextKey key : keys) {
+                writeTestClass(json, key, snapshot.get(key), removals.getOrDefault(key, List.of()),
+                        classDurations.get(key.testClass().getName()));
+            }
+            json.endArray();
+
+            json.endObject();
+        }
+    }
+
+    private static void writeTestClass(JsonWriter json, TestContextKey key, TestContextHistory history,
+                                       List<ContextRemoval> removals, Duration executionDuration) throws IOException {
+        json.beginObject().name("testClass").value(key.testClass().getName()).name("executionMs");
+        if (executionDuration == null) {
+            json.value((String) null);
+        } else {
+            json.value(executionDuration.toMillis());
+        }
+        json.name("rebuilds").value(history.rebuildEventsCount())
+                .name("loadMs").value(history.totalLoadDuration().toMillis());
+
+        json.name("events").beginArray();
+        for (TestContextHistory.Events event : history.events()) {
+            json.beginObject()
+                    .name("type").value(event.type().name())
+                    .name("timestamp").value(event.timestamp().toString())
+                    .name("fingerprint").value(event.fingerprint())
+                    .name("durationMs").value(event.duration().toMillis());
+            strings(json.name("classes"), event.classes());
+            strings(json.name("activeProfiles"), event.activeProfiles());
+            json.endObject();
+        }
+        json.endArray();
+
+        json.name("removals").beginArray();
+        for (ContextRemoval removal : removals) {
+            json.beginObject()
+                    .name("cause").value(removal.cause().name())
+                    .name("timestamp").value(removal.timestamp().toString())
+                    .name("fingerprint").value(removal.fingerprint())
+                    .name("hierarchyMode").value(removal.hierarchyMode() == null ? null : removal.hierarchyMode().name())
+                    .name("closeMs").value(removal.closeDuration().toMillis())
+                    .endObject();
+        }
+        json.endArray();
+
+        json.endObject();
+    }
+
+    private static void strings(JsonWriter json, List<String> values) throws IOException {
+        json.beginArray();
+        for (String value : values) {
+            json.value(value);
+        }
+        json.endArray();
+    }
+}
@@ -0,0 +1,218 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Minimal streaming JSON writer used by the file reporters of this library.
+ * <p>
+ * Values are written straight to the underlying {@link Writer} as they are produced, so a report
+ * never needs a second in-memory copy of the data it serializes. The writer only keeps track of
+ * the nesting of the current position to place separators; it does not validate the document.
+ *
+ * <pre>{@code
+ * try (JsonWriter json = new JsonWriter(Files.newBufferedWriter(path))) {
+ *     json.beginObject().name("version").value(1).endObject();
+ * }
+ * }</pre>
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+    private final Writer out;
+    private final Deque<Boolean> hasElements = new ArrayDeque<>();
+    private boolean expectingValue;
+
+    /**
+     * Creates a writer emitting JSON to the given character stream.
+     *
+     * @param out the destination, closed by {@link #close()}
+     */
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens a JSON object.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    /**
+     * Closes the current JSON object.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    /**
+     * Opens a JSON array.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    /**
+     * Closes the current JSON array.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name the member name
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        writeString(name);
+        out.write(':');
+        expectingValue = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value, or {@code null}.
+     *
+     * @param value the value to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a numeric value.
+     *
+     * @param value the value to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        separate();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a numeric value; non-finite numbers are written as {@code null}.
+     *
+     * @param value the value to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(double value) throws IOException {
+        separate();
+        out.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value the value to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        separate();
+        out.write(Boolean.toString(value));
+        return this;
+    }
+
+    /**
+     * Escapes the given text as a JSON string literal, including the surrounding quotes.
+     *
+     * @param value the text to quote
+     * @return the JSON string literal
+     */
+    public static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append("\\u%04x".formatted((int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        out.write(bracket);
+        hasElements.push(false);
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        hasElements.pop();
+        out.write(bracket);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (expectingValue) {
+            expectingValue = false;
+            return;
+        }
+        if (!hasElements.isEmpty()) {
+            if (hasElements.peek()) {
+                out.write(',');
+            } else {
+                hasElements.pop();
+                hasElements.push(true);
+            }
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write(quote(value));
+    }
+}
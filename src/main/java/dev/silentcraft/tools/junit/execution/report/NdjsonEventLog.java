@@ -0,0 +1,255 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMissesListener;
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+
+/**
+ * Append-only log of context cache events, one JSON object per line.
+ * <p>
+ * Unlike {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry}, which
+ * only reports once the test plan has finished, the log is written while tests run, so the events of
+ * a JVM killed by an {@code OutOfMemoryError} or a fork timeout are still available afterwards.
+ *
+ * <h2>Writing</h2>
+ * Listener callbacks only encode the event and enqueue it; they never touch the file. A single daemon
+ * thread drains the queue in batches and writes each batch through one {@link FileChannel#write} call,
+ * so the events reach the operating system even if the JVM is killed right after. The channel is forced
+ * to disk at most every {@link #FLUSH_INTERVAL}. A shutdown hook drains whatever is
+ * left when the JVM exits without {@link #close()} being called.
+ *
+ * <pre>
+ * {"timestamp":"2026-04-16T09:12:03.512Z","event":"MISS","testClass":"com.acme.ZooTest","fingerprint":"3f9a1c07d2b4e815","thread":"main"}
+ * {"timestamp":"2026-04-16T09:12:07.918Z","event":"LOADED","testClass":"com.acme.ZooTest","fingerprint":"3f9a1c07d2b4e815","thread":"main","durationMs":4406}
+ * {"timestamp":"2026-04-16T09:12:09.204Z","event":"REMOVED","testClass":"com.acme.ZooTest","fingerprint":"3f9a1c07d2b4e815","thread":"main","durationMs":85,"hierarchyMode":"EXHAUSTIVE"}
+ * </pre>
+ * <p>
+ * Removals are stamped with the time the context left the cache and carry the time spent closing it. When contexts
+ * are closed in the background they may be written after later events; readers such as {@link CacheReplaySimulator}
+ * order events by timestamp.
+ */
+public final class NdjsonEventLog implements ContextCacheMissesListener, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(NdjsonEventLog.class);
+
+    /**
+     * Maximum delay between an event being written and the file being forced to disk.
+     */
+    public static final Duration FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+
+    private NdjsonEventLog(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = Thread.ofPlatform().name("occ-event-log").daemon().unstarted(this::drainUntilClosed);
+        this.shutdownHook = Thread.ofPlatform().name("occ-event-log-shutdown").unstarted(this::drainOnShutdown);
+    }
+
+    /**
+     * Opens the event log of the current JVM in the given directory and starts its writer thread.
+     * <p>
+     * The file is named after the process id, so Surefire forks sharing the directory never write
+     * to the same file.
+     *
+     * @param directory the directory to write to, created if missing
+     * @return the started event log
+     * @throws IOException if the file cannot be opened
+     */
+    public static NdjsonEventLog open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        NdjsonEventLog eventLog = new NdjsonEventLog(directory.resolve("context-cache-events-%d.ndjson"
+                .formatted(ManagementFactory.getRuntimeMXBean().getPid())));
+        eventLog.writer.start();
+        Runtime.getRuntime().addShutdownHook(eventLog.shutdownHook);
+        return eventLog;
+    }
+
+    /**
+     * Returns the file this log appends to.
+     *
+     * @return the NDJSON file
+     */
+    public Path file() {
+        return file;
+    }
+
+    @Override
+    public void onCacheMiss(MergedContextConfiguration key) {
+        append("MISS", key, null);
+    }
+
+    @Override
+    public void onCacheHit(MergedContextConfiguration key) {
+        append("HIT", key, null);
+    }
+
+    @Override
+    public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+        append("LOADED", key, loadDuration);
+    }
+
+    /**
+     * Logs the full build time of a prewarmed context, which a replay without prewarming would spend.
+     */
+    @Override
+    public void onContextPrewarmed(MergedContextConfiguration key, Duration buildDuration, Duration waited) {
+        onContextLoaded(key, buildDuration);
+    }
+
+    @Override
+    public void onContextRemoved(ContextRemoval removal) {
+        append(removal.timestamp(), removal.cause().name(), removal.testClass().getName(), removal.fingerprint(),
+                removal.closeDuration(), removal.hierarchyMode() == null ? null : removal.hierarchyMode().name());
+    }
+
+    /**
+     * Writes the pending events, forces them to disk and closes the file.
+     * <p>
+     * Events reported after this call are discarded.
+     *
+     * @throws IOException if the last batch cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.offer("");
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ex) {
+            // the JVM is shutting down, the hook is already running
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (channel) {
+            if (channel.isOpen()) {
+                writeBatch(true);
+                channel.close();
+            }
+        }
+    }
+
+    private void append(String event, MergedContextConfiguration key, Duration duration) {
+        append(Instant.now(), event, key.getTestClass().getName(), ConfigurationFingerprint.of(key), duration, null);
+    }
+
+    private void append(Instant timestamp, String event, String testClass, String fingerprint, Duration duration,
+                        String hierarchyMode) {
+        if (closed) {
+            return;
+        }
+        StringWriter line = new StringWriter(192);
+        try (JsonWriter json = new JsonWriter(line)) {
+            json.beginObject()
+                    .name("timestamp").value(timestamp.toString())
+                    .name("event").value(event)
+                    .name("testClass").value(testClass)
+                    .name("fingerprint").value(fingerprint)
+                    .name("thread").value(Thread.currentThread().getName());
+            if (duration != null) {
+                json.name("durationMs").value(duration.toMillis());
+            }
+            if (hierarchyMode != null) {
+                json.name("hierarchyMode").value(hierarchyMode);
+            }
+            json.endObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        pending.offer(line.append('\n').toString());
+    }
+
+    private void drainUntilClosed() {
+        long lastForce = System.nanoTime();
+        while (!closed) {
+            try {
+                String first = pending.poll(FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                synchronized (channel) {
+                    if (!channel.isOpen()) {
+                        return;
+                    }
+                    if (first != null) {
+                        write(first);
+                        writeBatch(false);
+                    }
+                    if (System.nanoTime() - lastForce >= FLUSH_INTERVAL.toNanos()) {
+                        channel.force(false);
+                        lastForce = System.nanoTime();
+                    }
+                }
+            } catch (InterruptedException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("[OCC] Could not write context cache events to {}, event log disabled", file, ex);
+                closed = true;
+            }
+        }
+    }
+
+    private void drainOnShutdown() {
+        closed = true;
+        synchronized (channel) {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                writeBatch(true);
+            } catch (IOException ex) {
+                // nothing left to report to at this point
+            }
+        }
+    }
+
+    private void writeBatch(boolean force) throws IOException {
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (pending.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            write(String.join("", batch));
+            batch.clear();
+        }
+        if (force) {
+            channel.force(false);
+        }
+    }
+
+    private void write(String lines) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
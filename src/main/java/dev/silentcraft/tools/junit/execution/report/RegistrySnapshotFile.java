@@ -0,0 +1,223 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Compact binary form of a {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry}
+ * snapshot, written by each JVM of a test suite to a shared directory.
+ * <p>
+ * Test classes are stored by name, so a snapshot can be read by a JVM that never loaded them.
+ * Files are written to a temporary name and atomically moved in place, so a reader never sees a
+ * partially written snapshot.
+ * <p>
+ * With a run id, each JVM also {@link #markStarted marks} the directory when its test plan starts, so that the JVM
+ * writing the last snapshot of the run can tell that no other JVM of the run is still going.
+ *
+ * <h2>Format</h2>
+ * A {@link DataOutputStream} sequence: the {@code OCCS} magic number, the format version, the process id,
+ * the run id, the write time and the number of test classes; then for each test class its name and events, each event being its
+ * type ordinal, timestamp, configuration classes, active profiles, fingerprint and load duration; finally the
+ * number of timed test classes followed by the name and execution time of each.
+ *
+ * @see SnapshotAggregator
+ */
+public final class RegistrySnapshotFile {
+
+    /**
+     * Prefix of the snapshot file names.
+     */
+    public static final String FILE_PREFIX = "context-cache-snapshot-";
+
+    /**
+     * Extension of the snapshot file names.
+     */
+    public static final String FILE_SUFFIX = ".bin";
+
+    /**
+     * Extension of the files marking the JVMs whose test plan started.
+     */
+    public static final String STARTED_SUFFIX = ".started";
+
+    private static final int MAGIC = 0x4F434353;
+    private static final int VERSION = 2;
+
+    private RegistrySnapshotFile() {
+    }
+
+    /**
+     * Writes the given snapshot to the shared directory, under a name unique to the current JVM.
+     *
+     * @param snapshot       the registry snapshot of the current JVM
+     * @param executionTimes the execution time of each test class run by the current JVM, by class name
+     * @param directory      the shared snapshot directory, created if missing
+     * @param runId          the identifier of the build run shared by all its JVMs, {@code null} if unknown
+     * @return the written file
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static Path write(Map<TestContextKey, TestContextHistory> snapshot, Map<String, Duration> executionTimes,
+                             Path directory, String runId) throws IOException {
+        Files.createDirectories(directory);
+        long pid = ManagementFactory.getRuntimeMXBean().getPid();
+        Path target = directory.resolve(FILE_PREFIX + pid + FILE_SUFFIX);
+        Path temporary = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(pid);
+            out.writeUTF(runId == null ? "" : runId);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(snapshot.size());
+            for (Map.Entry<TestContextKey, TestContextHistory> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey().testClass().getName());
+                List<TestContextHistory.Events> events = entry.getValue().events();
+                out.writeInt(events.size());
+                for (TestContextHistory.Events event : events) {
+                    writeEvent(out, event);
+                }
+            }
+            out.writeInt(executionTimes.size());
+            for (Map.Entry<String, Duration> entry : executionTimes.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().toNanos());
+            }
+        }
+        return Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Records in the shared directory that the test plan of the current JVM started, so that its snapshot is
+     * {@linkplain SnapshotAggregator#pendingForks awaited} by the other JVMs of the run.
+     *
+     * @param directory the shared snapshot directory, created if missing
+     * @param runId     the identifier of the build run shared by all its JVMs
+     * @return the written marker
+     * @throws IOException if the marker cannot be written
+     */
+    public static Path markStarted(Path directory, String runId) throws IOException {
+        return markStarted(directory, runId, ManagementFactory.getRuntimeMXBean().getPid());
+    }
+
+    static Path markStarted(Path directory, String runId, long pid) throws IOException {
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve(FILE_PREFIX + pid + STARTED_SUFFIX), runId);
+    }
+
+    /**
+     * Streams the content of a snapshot file, one test class at a time.
+     *
+     * @param file          the snapshot file to read
+     * @param consumer      receives the name of each test class and its history
+     * @param timesConsumer receives the name of each timed test class and its execution time
+     * @return the header of the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot of a supported version
+     */
+    public static Header read(Path file, BiConsumer<String, TestContextHistory> consumer,
+                              BiConsumer<String, Duration> timesConsumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            Header header = readHeader(in, file);
+            int classCount = in.readInt();
+            for (int i = 0; i < classCount; i++) {
+                String testClass = in.readUTF();
+                int eventCount = in.readInt();
+                List<TestContextHistory.Events> events = new ArrayList<>(eventCount);
+                for (int j = 0; j < eventCount; j++) {
+                    events.add(readEvent(in));
+                }
+                consumer.accept(testClass, new TestContextHistory(events));
+            }
+            int timedCount = in.readInt();
+            for (int i = 0; i < timedCount; i++) {
+                timesConsumer.accept(in.readUTF(), Duration.ofNanos(in.readLong()));
+            }
+            return header;
+        }
+    }
+
+    /**
+     * Reads the header of a snapshot file only.
+     *
+     * @param file the snapshot file to read
+     * @return the header of the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot of a supported version
+     */
+    public static Header readHeader(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return readHeader(in, file);
+        }
+    }
+
+    private static Header readHeader(DataInputStream in, Path file) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a context cache snapshot: " + file);
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported context cache snapshot version %d in %s".formatted(version, file));
+        }
+        return new Header(in.readLong(), in.readUTF(), Instant.ofEpochMilli(in.readLong()));
+    }
+
+    private static void writeEvent(DataOutputStream out, TestContextHistory.Events event) throws IOException {
+        out.writeByte(event.type().ordinal());
+        out.writeLong(event.timestamp().getEpochSecond());
+        out.writeInt(event.timestamp().getNano());
+        writeStrings(out, event.classes());
+        writeStrings(out, event.activeProfiles());
+        out.writeUTF(event.fingerprint());
+        out.writeLong(event.duration().toNanos());
+    }
+
+    private static TestContextHistory.Events readEvent(DataInputStream in) throws IOException {
+        EventType type = EventType.values()[in.readUnsignedByte()];
+        Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        List<String> classes = readStrings(in);
+        List<String> activeProfiles = readStrings(in);
+        String fingerprint = in.readUTF();
+        Duration duration = Duration.ofNanos(in.readLong());
+        return new TestContextHistory.Events(type, timestamp, classes, activeProfiles, fingerprint, duration);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeShort(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    /**
+     * Identifies the JVM and the build run a snapshot comes from.
+     *
+     * @param pid       the process id of the JVM that wrote the snapshot
+     * @param runId     the run id of the snapshot, empty if none was set
+     * @param writtenAt the time the snapshot was written
+     */
+    public record Header(long pid, String runId, Instant writtenAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Histogram of the reuse distances of the context cache lookups of a trace.
+ * <p>
+ * The reuse distance of a lookup is the number of distinct configurations looked up since the previous lookup of
+ * the same configuration. A least recently used cache of {@code maxSize} contexts hits exactly the lookups whose
+ * distance is below {@code maxSize}: lookups at larger distances point at an undersized cache or at an ordering
+ * that spreads the users of a configuration apart, while cold lookups — first uses of a configuration — can only
+ * be avoided by consolidating configurations.
+ * <p>
+ * Distances are grouped in power-of-two buckets: {@code 0}, {@code 1}, {@code 2-3}, {@code 4-7}, and so on.
+ *
+ * @param lookups     the number of lookups in the trace
+ * @param coldLookups the number of first lookups of a configuration, which have no reuse distance
+ * @param buckets     the number of lookups by lower bound of their distance bucket, in ascending order
+ */
+public record ReuseDistanceHistogram(long lookups, long coldLookups, Map<Integer, Long> buckets) {
+
+    /**
+     * Creates a histogram.
+     *
+     * @param lookups     the number of lookups in the trace
+     * @param coldLookups the number of first lookups of a configuration
+     * @param buckets     the number of lookups by lower bound of their distance bucket
+     */
+    public ReuseDistanceHistogram {
+        buckets = Map.copyOf(buckets);
+    }
+
+    /**
+     * Computes the reuse distances of the lookups of the given traces, each trace being a separate cache.
+     *
+     * @param traces the traces to analyze
+     * @return the histogram of their reuse distances
+     */
+    public static ReuseDistanceHistogram of(List<CacheReplaySimulator.AccessTrace> traces) {
+        long lookups = 0;
+        long cold = 0;
+        Map<Integer, Long> buckets = new TreeMap<>();
+        for (CacheReplaySimulator.AccessTrace trace : traces) {
+            List<String> stack = new ArrayList<>();
+            for (CacheReplaySimulator.Access access : trace.accesses()) {
+                if (access.removal()) {
+                    continue;
+                }
+                lookups++;
+                int position = stack.lastIndexOf(access.fingerprint());
+                if (position < 0) {
+                    cold++;
+                } else {
+                    buckets.merge(bucketOf(stack.size() - 1 - position), 1L, Long::sum);
+                    stack.remove(position);
+                }
+                stack.add(access.fingerprint());
+            }
+        }
+        return new ReuseDistanceHistogram(lookups, cold, buckets);
+    }
+
+    /**
+     * Describes this histogram as a report line.
+     *
+     * @return e.g. {@code "Reuse distance of 120 lookups: 9 cold, 0: 100, 1: 5, 2-3: 4, 4-7: 2"}
+     */
+    public String describe() {
+        Map<String, Long> labelled = new LinkedHashMap<>();
+        new TreeMap<>(buckets).forEach((lowerBound, count) -> labelled.put(label(lowerBound), count));
+        StringBuilder line = new StringBuilder("Reuse distance of ").append(lookups).append(" lookups: ")
+                .append(coldLookups).append(" cold");
+        labelled.forEach((label, count) -> line.append(", ").append(label).append(": ").append(count));
+        return line.toString();
+    }
+
+    private static int bucketOf(int distance) {
+        return distance == 0 ? 0 : Integer.highestOneBit(distance);
+    }
+
+    private static int bucketUpperBound(int lowerBound) {
+        return lowerBound <= 1 ? lowerBound : lowerBound * 2 - 1;
+    }
+
+    private static String label(int lowerBound) {
+        int upperBound = bucketUpperBound(lowerBound);
+        return upperBound == lowerBound ? String.valueOf(lowerBound) : lowerBound + "-" + upperBound;
+    }
+}
@@ -0,0 +1,297 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Compact summary of the context builds of one run, stored as the baseline the next runs are compared with.
+ * <p>
+ * Only what the {@link BaselineGate} compares is kept: the number of contexts built, the builds and build time of
+ * each configuration fingerprint, and the rebuilds of each test class. The test classes using each configuration
+ * are known for the current run only, to name the classes responsible for a regression; they are not stored.
+ *
+ * <h2>Format</h2>
+ * A sorted {@link Properties} file, so that two baselines can be compared with a plain diff:
+ *
+ * <pre>
+ * schema=1
+ * contexts.built=3
+ * fingerprint.3f9a1c07d2b4e815.builds=2
+ * fingerprint.3f9a1c07d2b4e815.buildMs=8412
+ * class.com.acme.ZebraTest.rebuilds=1
+ * run.id=2026-04-16T09:00:00Z
+ * </pre>
+ * The optional {@code run.id} tells which build run wrote the baseline, so that the forks of one run compare their
+ * suite-wide summary with the baseline of the previous run rather than with one written by a sibling fork.
+ *
+ * @param contextsBuilt  the number of contexts built during the run
+ * @param configurations the builds of each configuration, by fingerprint
+ * @param rebuilds       the number of rebuilds triggered by each test class, by class name, for classes with rebuilds
+ */
+public record RunSummary(int contextsBuilt, Map<String, ConfigurationBuilds> configurations, Map<String, Integer> rebuilds) {
+
+    /**
+     * Name of the baseline file within the baseline directory.
+     */
+    public static final String FILE_NAME = "context-cache-baseline.properties";
+
+    /**
+     * Name of the baseline of the previous run within the baseline directory, kept while the forks of the current
+     * run replace {@link #FILE_NAME}.
+     */
+    public static final String PREVIOUS_FILE_NAME = "context-cache-baseline.previous.properties";
+
+    private static final int SCHEMA_VERSION = 1;
+    private static final String FINGERPRINT_PREFIX = "fingerprint.";
+    private static final String CLASS_PREFIX = "class.";
+    private static final String BUILDS_SUFFIX = ".builds";
+    private static final String BUILD_MS_SUFFIX = ".buildMs";
+    private static final String REBUILDS_SUFFIX = ".rebuilds";
+    private static final String RUN_ID = "run.id";
+
+    /**
+     * Creates a summary.
+     *
+     * @param contextsBuilt  the number of contexts built during the run
+     * @param configurations the builds of each configuration, by fingerprint
+     * @param rebuilds       the number of rebuilds triggered by each test class, by class name
+     */
+    public RunSummary {
+        configurations = Map.copyOf(configurations);
+        rebuilds = Map.copyOf(rebuilds);
+    }
+
+    /**
+     * Summarizes the given registry snapshot.
+     *
+     * @param snapshot the recorded histories, by test class
+     * @return the summary of the run
+     */
+    public static RunSummary of(Map<TestContextKey, TestContextHistory> snapshot) {
+        Map<String, TestContextHistory> histories = new HashMap<>();
+        snapshot.forEach((key, history) -> histories.put(key.testClass().getName(), history));
+        return ofClassNames(histories);
+    }
+
+    /**
+     * Summarizes the given histories, such as those of a
+     * {@link SnapshotAggregator.AggregatedSnapshot#histories() suite-wide snapshot}.
+     *
+     * @param histories the recorded histories, by test class name
+     * @return the summary of the run
+     */
+    public static RunSummary ofClassNames(Map<String, TestContextHistory> histories) {
+        Map<String, Integer> builds = new HashMap<>();
+        Map<String, Duration> durations = new HashMap<>();
+        Map<String, Set<String>> testClasses = new HashMap<>();
+        Map<String, Integer> rebuilds = new HashMap<>();
+        int contextsBuilt = 0;
+        for (Map.Entry<String, TestContextHistory> entry : histories.entrySet()) {
+            String testClass = entry.getKey();
+            for (TestContextHistory.Events event : entry.getValue().events()) {
+                if (event.fingerprint().isEmpty()) {
+                    continue;
+                }
+                testClasses.computeIfAbsent(event.fingerprint(), fingerprint -> new LinkedHashSet<>()).add(testClass);
+                if (event.isLoad()) {
+                    contextsBuilt++;
+                    builds.merge(event.fingerprint(), 1, Integer::sum);
+                    durations.merge(event.fingerprint(), event.duration(), Duration::plus);
+                }
+            }
+            long rebuildCount = entry.getValue().rebuildEventsCount();
+            if (rebuildCount > 0) {
+                rebuilds.put(testClass, (int) rebuildCount);
+            }
+        }
+        Map<String, ConfigurationBuilds> configurations = new HashMap<>();
+        testClasses.forEach((fingerprint, classes) -> configurations.put(fingerprint, new ConfigurationBuilds(
+                builds.getOrDefault(fingerprint, 0), durations.getOrDefault(fingerprint, Duration.ZERO), Set.copyOf(classes))));
+        return new RunSummary(contextsBuilt, configurations, rebuilds);
+    }
+
+    /**
+     * Reads the summary stored in the given file.
+     *
+     * @param file the baseline file
+     * @return the stored summary
+     * @throws IOException if the file cannot be read or was written with another schema version
+     */
+    public static RunSummary read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        if (!String.valueOf(SCHEMA_VERSION).equals(properties.getProperty("schema"))) {
+            throw new IOException("Unsupported baseline schema %s in %s".formatted(properties.getProperty("schema"), file));
+        }
+        Map<String, Integer> builds = new HashMap<>();
+        Map<String, Duration> durations = new HashMap<>();
+        Map<String, Integer> rebuilds = new HashMap<>();
+        try {
+            for (String name : properties.stringPropertyNames()) {
+                String value = properties.getProperty(name);
+                if (name.startsWith(FINGERPRINT_PREFIX) && name.endsWith(BUILDS_SUFFIX)) {
+                    builds.put(between(name, FINGERPRINT_PREFIX, BUILDS_SUFFIX), Integer.parseInt(value));
+                } else if (name.startsWith(FINGERPRINT_PREFIX) && name.endsWith(BUILD_MS_SUFFIX)) {
+                    durations.put(between(name, FINGERPRINT_PREFIX, BUILD_MS_SUFFIX), Duration.ofMillis(Long.parseLong(value)));
+                } else if (name.startsWith(CLASS_PREFIX) && name.endsWith(REBUILDS_SUFFIX)) {
+                    rebuilds.put(between(name, CLASS_PREFIX, REBUILDS_SUFFIX), Integer.parseInt(value));
+                }
+            }
+            Map<String, ConfigurationBuilds> configurations = new HashMap<>();
+            builds.forEach((fingerprint, count) -> configurations.put(fingerprint,
+                    new ConfigurationBuilds(count, durations.getOrDefault(fingerprint, Duration.ZERO), Set.of())));
+            return new RunSummary(Integer.parseInt(properties.getProperty("contexts.built", "0")), configurations, rebuilds);
+        } catch (NumberFormatException ex) {
+            throw new IOException("Malformed baseline " + file, ex);
+        }
+    }
+
+    /**
+     * Reads the id of the run that wrote the given baseline.
+     *
+     * @param file the baseline file
+     * @return the run id, empty if the baseline was written without one
+     * @throws IOException if the file cannot be read
+     */
+    public static String readRunId(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties.getProperty(RUN_ID, "");
+    }
+
+    /**
+     * Writes this summary to the given file, replacing it atomically.
+     *
+     * @param file the baseline file, whose directory is created if missing
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        write(file, null);
+    }
+
+    /**
+     * Writes this summary to the given file on behalf of a build run, replacing it atomically.
+     *
+     * @param file  the baseline file, whose directory is created if missing
+     * @param runId the id of the run writing the baseline, {@code null} if unknown
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file, String runId) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Map<String, String> entries = new TreeMap<>();
+        entries.put("schema", String.valueOf(SCHEMA_VERSION));
+        entries.put("contexts.built", String.valueOf(contextsBuilt));
+        configurations.forEach((fingerprint, builds) -> {
+            entries.put(FINGERPRINT_PREFIX + fingerprint + BUILDS_SUFFIX, String.valueOf(builds.builds()));
+            entries.put(FINGERPRINT_PREFIX + fingerprint + BUILD_MS_SUFFIX, String.valueOf(builds.buildDuration().toMillis()));
+        });
+        rebuilds.forEach((testClass, count) -> entries.put(CLASS_PREFIX + testClass + REBUILDS_SUFFIX, String.valueOf(count)));
+        if (runId != null) {
+            entries.put(RUN_ID, runId);
+        }
+
+        Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the number of distinct configurations a context was built for during the run.
+     *
+     * @return the number of configurations with at least one build
+     */
+    public long distinctContexts() {
+        return configurations.values().stream().filter(builds -> builds.builds() > 0).count();
+    }
+
+    /**
+     * Returns the time spent building contexts during the run.
+     *
+     * @return the total build time of all configurations
+     */
+    public Duration buildDuration() {
+        return configurations.values().stream().map(ConfigurationBuilds::buildDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Returns the fingerprint of the reference configuration, the one shared by most test classes of the run.
+     * <p>
+     * Aligning the other test classes on it is usually the cheapest way to get rid of a context.
+     *
+     * @return the fingerprint, empty if no configuration was recorded or the summary was read from a baseline
+     */
+    public String referenceFingerprint() {
+        return configurations.entrySet().stream()
+                .filter(entry -> !entry.getValue().testClasses().isEmpty())
+                .max(Comparator.<Map.Entry<String, ConfigurationBuilds>>comparingInt(entry -> entry.getValue().testClasses().size())
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .orElse("");
+    }
+
+    /**
+     * Returns the first recorded event of each configuration, which tells its configuration classes and profiles.
+     *
+     * @param snapshot the recorded histories, by test class
+     * @return one event per fingerprint
+     */
+    public static Map<String, TestContextHistory.Events> configurationEvents(Map<TestContextKey, TestContextHistory> snapshot) {
+        return configurationEvents(snapshot.values());
+    }
+
+    /**
+     * Returns the first recorded event of each configuration, which tells its configuration classes and profiles.
+     *
+     * @param histories the recorded histories
+     * @return one event per fingerprint
+     */
+    public static Map<String, TestContextHistory.Events> configurationEvents(Collection<TestContextHistory> histories) {
+        Map<String, TestContextHistory.Events> configurations = new HashMap<>();
+        histories.stream()
+                .flatMap(history -> history.events().stream())
+                .filter(event -> !event.fingerprint().isEmpty())
+                .forEach(event -> configurations.merge(event.fingerprint(), event,
+                        (first, other) -> other.timestamp().isBefore(first.timestamp()) ? other : first));
+        return configurations;
+    }
+
+    private static String between(String name, String prefix, String suffix) {
+        return name.substring(prefix.length(), name.length() - suffix.length());
+    }
+
+    /**
+     * The builds of one configuration during a run.
+     *
+     * @param builds        the number of times the context was built
+     * @param buildDuration the time spent building it
+     * @param testClasses   the names of the test classes using it, empty for a stored baseline
+     */
+    public record ConfigurationBuilds(int builds, Duration buildDuration, Set<String> testClasses) {
+    }
+}
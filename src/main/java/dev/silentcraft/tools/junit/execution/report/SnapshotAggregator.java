@@ -0,0 +1,346 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+
+/**
+ * Merges the {@link RegistrySnapshotFile}s written by every JVM of a test suite into one suite-wide view.
+ * <p>
+ * With Surefire {@code forkCount > 1} each fork holds its own registry, in which the first context it
+ * loads is recorded as {@link EventType#BUILD}. Once merged, only the earliest of those builds keeps
+ * that type; the builds of the other forks are relabelled {@link EventType#REBUILD}, since they are
+ * additional context builds the suite paid for.
+ * <p>
+ * Each snapshot carries the run id of its build
+ * ({@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties#SNAPSHOT_RUN_ID}), so that
+ * snapshots left in the directory by earlier runs are never merged with the current one. Without a run id, the
+ * snapshots of the latest run are those sharing the run id of the most recently written snapshot.
+ * <p>
+ * Snapshots are streamed one test class at a time, so only the merged histories are held in memory.
+ * The aggregation runs at the end of each test plan when
+ * {@link dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties#SNAPSHOT_DIR} is
+ * set, and can be run on its own once all forks are done:
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; dev.silentcraft.tools.junit.execution.report.SnapshotAggregator target/context-cache
+ * </pre>
+ */
+public final class SnapshotAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotAggregator.class);
+    private static final int TOP_ENTRIES = 5;
+
+    private SnapshotAggregator() {
+    }
+
+    /**
+     * Prints the suite-wide report of the snapshots found in the given directory.
+     *
+     * @param args the snapshot directory
+     * @throws IOException if a snapshot cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: SnapshotAggregator <snapshot directory>");
+            System.exit(2);
+        }
+        aggregate(Path.of(args[0])).report().forEach(System.out::println);
+    }
+
+    /**
+     * Reads and merges the snapshots of the latest run found in the given directory.
+     *
+     * @param directory the shared snapshot directory
+     * @return the merged snapshot, empty if the directory does not exist
+     * @throws IOException if a snapshot cannot be read
+     */
+    public static AggregatedSnapshot aggregate(Path directory) throws IOException {
+        Map<Path, RegistrySnapshotFile.Header> headers = headers(directory);
+        String latestRunId = headers.values().stream()
+                .max(Comparator.comparing(RegistrySnapshotFile.Header::writtenAt))
+                .map(RegistrySnapshotFile.Header::runId)
+                .orElse("");
+        return aggregate(headers, latestRunId);
+    }
+
+    /**
+     * Reads and merges the snapshots of the given run found in the given directory.
+     *
+     * @param directory the shared snapshot directory
+     * @param runId     the run id of the snapshots to merge, {@code null} or empty for snapshots written without one
+     * @return the merged snapshot, empty if the directory does not exist
+     * @throws IOException if a snapshot cannot be read
+     */
+    public static AggregatedSnapshot aggregate(Path directory, String runId) throws IOException {
+        return aggregate(headers(directory), runId == null ? "" : runId);
+    }
+
+    /**
+     * Deletes the snapshots of the given directory that belong to another run, or that are not readable snapshots
+     * of the current format, along with the {@linkplain RegistrySnapshotFile#markStarted start markers} of other
+     * runs.
+     *
+     * @param directory the shared snapshot directory
+     * @param runId     the run id of the snapshots to keep
+     * @return the number of deleted snapshots
+     * @throws IOException if a snapshot cannot be deleted
+     */
+    public static int deleteStale(Path directory, String runId) throws IOException {
+        int deleted = 0;
+        for (Path file : snapshotFiles(directory)) {
+            RegistrySnapshotFile.Header header = readHeader(file);
+            if (header == null || !header.runId().equals(runId)) {
+                deleted += Files.deleteIfExists(file) ? 1 : 0;
+            }
+        }
+        for (Path marker : files(directory, RegistrySnapshotFile.STARTED_SUFFIX)) {
+            if (!Files.readString(marker).equals(runId)) {
+                Files.deleteIfExists(marker);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Returns the number of JVMs of the given run whose test plan started but that wrote no snapshot yet. Once it is
+     * {@code 0}, the snapshots of the run cover the whole suite.
+     *
+     * @param directory the shared snapshot directory
+     * @param runId     the run id shared by the JVMs of the run
+     * @return the number of JVMs still running
+     * @throws IOException if a marker cannot be read
+     */
+    public static int pendingForks(Path directory, String runId) throws IOException {
+        Set<String> written = new HashSet<>();
+        headers(directory).values().stream()
+                .filter(header -> header.runId().equals(runId))
+                .forEach(header -> written.add(String.valueOf(header.pid())));
+        int pending = 0;
+        for (Path marker : files(directory, RegistrySnapshotFile.STARTED_SUFFIX)) {
+            String name = marker.getFileName().toString();
+            String pid = name.substring(RegistrySnapshotFile.FILE_PREFIX.length(), name.length() - RegistrySnapshotFile.STARTED_SUFFIX.length());
+            if (Files.readString(marker).equals(runId) && !written.contains(pid)) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    private static AggregatedSnapshot aggregate(Map<Path, RegistrySnapshotFile.Header> headers, String runId) throws IOException {
+        return merge(headers.entrySet().stream()
+                .filter(entry -> entry.getValue().runId().equals(runId))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList());
+    }
+
+    private static Map<Path, RegistrySnapshotFile.Header> headers(Path directory) throws IOException {
+        Map<Path, RegistrySnapshotFile.Header> headers = new HashMap<>();
+        for (Path file : snapshotFiles(directory)) {
+            RegistrySnapshotFile.Header header = readHeader(file);
+            if (header != null) {
+                headers.put(file, header);
+            }
+        }
+        return headers;
+    }
+
+    private static List<Path> snapshotFiles(Path directory) throws IOException {
+        return files(directory, RegistrySnapshotFile.FILE_SUFFIX);
+    }
+
+    private static List<Path> files(Path directory, String suffix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(RegistrySnapshotFile.FILE_PREFIX) && name.endsWith(suffix);
+            }).sorted().toList();
+        }
+    }
+
+    private static RegistrySnapshotFile.Header readHeader(Path file) {
+        try {
+            return RegistrySnapshotFile.readHeader(file);
+        } catch (IOException ex) {
+            log.warn("[OCC] Ignoring unreadable context cache snapshot {}: {}", file, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Merges the given snapshot files.
+     *
+     * @param snapshots the snapshot files, one per JVM
+     * @return the merged snapshot
+     * @throws IOException if a snapshot cannot be read
+     */
+    public static AggregatedSnapshot merge(List<Path> snapshots) throws IOException {
+        Map<String, List<TestContextHistory.Events>> eventsByClass = new HashMap<>();
+        Map<String, Set<Long>> forksByFingerprint = new HashMap<>();
+        Map<String, Duration> executionTimes = new HashMap<>();
+        for (Path snapshot : snapshots) {
+            List<String> fingerprints = new ArrayList<>();
+            long pid = RegistrySnapshotFile.read(snapshot, (testClass, history) -> {
+                eventsByClass.computeIfAbsent(testClass, name -> new ArrayList<>()).addAll(history.events());
+                history.events().stream()
+                        .filter(TestContextHistory.Events::isLoad)
+                        .forEach(event -> fingerprints.add(event.fingerprint()));
+            }, (testClass, duration) -> executionTimes.merge(testClass, duration, Duration::plus)).pid();
+            fingerprints.forEach(fingerprint -> forksByFingerprint.computeIfAbsent(fingerprint, f -> new HashSet<>()).add(pid));
+        }
+
+        Instant suiteBuild = eventsByClass.values().stream()
+                .flatMap(List::stream)
+                .filter(event -> event.type() == EventType.BUILD)
+                .map(TestContextHistory.Events::timestamp)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+
+        Map<String, TestContextHistory> histories = new HashMap<>();
+        Map<String, ConfigurationBuilds> configurations = new HashMap<>();
+        eventsByClass.forEach((testClass, events) -> {
+            List<TestContextHistory.Events> relabelled = events.stream()
+                    .map(event -> relabel(event, suiteBuild))
+                    .sorted(Comparator.comparing(TestContextHistory.Events::timestamp))
+                    .toList();
+            histories.put(testClass, new TestContextHistory(relabelled));
+            relabelled.stream()
+                    .filter(TestContextHistory.Events::isLoad)
+                    .forEach(event -> configurations.merge(event.fingerprint(),
+                            new ConfigurationBuilds(event.fingerprint(), event.activeProfiles(), 1,
+                                    forksByFingerprint.getOrDefault(event.fingerprint(), Set.of()).size(), event.duration()),
+                            ConfigurationBuilds::plus));
+        });
+        return new AggregatedSnapshot(snapshots.size(), histories, configurations, executionTimes);
+    }
+
+    private static TestContextHistory.Events relabel(TestContextHistory.Events event, Instant suiteBuild) {
+        if (event.type() != EventType.BUILD || event.timestamp().equals(suiteBuild)) {
+            return event;
+        }
+        return new TestContextHistory.Events(EventType.REBUILD, event.timestamp(), event.classes(),
+                event.activeProfiles(), event.fingerprint(), event.duration());
+    }
+
+    /**
+     * Builds of one configuration across the whole suite.
+     *
+     * @param fingerprint    the configuration fingerprint
+     * @param activeProfiles the active profiles of the configuration
+     * @param builds         the number of times a context was built for it
+     * @param forks          the number of JVMs that built it
+     * @param buildDuration  the cumulated time spent building it
+     */
+    public record ConfigurationBuilds(String fingerprint, List<String> activeProfiles, int builds, int forks,
+                                      Duration buildDuration) {
+
+        /**
+         * Constructs an immutable {@code ConfigurationBuilds}.
+         *
+         * @param fingerprint    the configuration fingerprint
+         * @param activeProfiles the active profiles of the configuration
+         * @param builds         the number of times a context was built for it
+         * @param forks          the number of JVMs that built it
+         * @param buildDuration  the cumulated time spent building it
+         */
+        public ConfigurationBuilds {
+            activeProfiles = List.copyOf(activeProfiles);
+        }
+
+        ConfigurationBuilds plus(ConfigurationBuilds other) {
+            return new ConfigurationBuilds(fingerprint, activeProfiles, builds + other.builds, Math.max(forks, other.forks),
+                    buildDuration.plus(other.buildDuration));
+        }
+    }
+
+    /**
+     * Suite-wide view of the context cache activity of every JVM.
+     *
+     * @param snapshotCount  the number of merged snapshots, i.e. of JVMs
+     * @param histories      the merged history of each test class, by class name
+     * @param configurations the builds of each configuration, by fingerprint
+     * @param executionTimes the execution time of each test class, by class name
+     */
+    public record AggregatedSnapshot(int snapshotCount, Map<String, TestContextHistory> histories,
+                                     Map<String, ConfigurationBuilds> configurations,
+                                     Map<String, Duration> executionTimes) {
+
+        /**
+         * Constructs an immutable {@code AggregatedSnapshot}.
+         *
+         * @param snapshotCount  the number of merged snapshots, i.e. of JVMs
+         * @param histories      the merged history of each test class, by class name
+         * @param configurations the builds of each configuration, by fingerprint
+         * @param executionTimes the execution time of each test class, by class name
+         */
+        public AggregatedSnapshot {
+            histories = Map.copyOf(histories);
+            configurations = Map.copyOf(configurations);
+            executionTimes = Map.copyOf(executionTimes);
+        }
+
+        /**
+         * Returns the total number of contexts built across the suite.
+         *
+         * @return the number of load events of all test classes
+         */
+        public long contextBuilds() {
+            return configurations.values().stream().mapToLong(ConfigurationBuilds::builds).sum();
+        }
+
+        /**
+         * Returns the total time spent building contexts across the suite.
+         *
+         * @return the sum of all load durations
+         */
+        public Duration buildDuration() {
+            return configurations.values().stream().map(ConfigurationBuilds::buildDuration).reduce(Duration.ZERO, Duration::plus);
+        }
+
+        /**
+         * Renders the suite-wide report, one line per entry.
+         *
+         * @return the report lines
+         */
+        public List<String> report() {
+            List<String> lines = new ArrayList<>();
+            lines.add("Suite-wide analysis of %d JVMs: %d test classes, %d context builds for %d configurations, %d ms spent building"
+                    .formatted(snapshotCount, histories.size(), contextBuilds(), configurations.size(), buildDuration().toMillis()));
+            configurations.values().stream()
+                    .filter(configuration -> configuration.builds() > 1)
+                    .sorted(Comparator.comparing(ConfigurationBuilds::buildDuration).reversed())
+                    .limit(TOP_ENTRIES)
+                    .forEach(configuration -> lines.add("Configuration %s %s built %d times in %d JVMs - %d ms"
+                            .formatted(configuration.fingerprint(), configuration.activeProfiles(), configuration.builds(),
+                                    configuration.forks(), configuration.buildDuration().toMillis())));
+            histories.entrySet().stream()
+                    .filter(entry -> entry.getValue().triggeredContextRebuild())
+                    .sorted(Comparator.comparingLong((Map.Entry<String, TestContextHistory> entry) ->
+                            entry.getValue().rebuildEventsCount()).reversed())
+                    .limit(TOP_ENTRIES)
+                    .forEach(entry -> lines.add("/!\\ %s - %d rebuilds across the suite"
+                            .formatted(entry.getKey(), entry.getValue().rebuildEventsCount())));
+            return lines;
+        }
+    }
+}
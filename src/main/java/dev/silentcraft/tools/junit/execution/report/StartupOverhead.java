@@ -0,0 +1,108 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+/**
+ * Compares, for each test class, the time spent building its contexts with the time spent running its tests.
+ * <p>
+ * The execution time recorded for a class includes the builds it triggered, so its test time is what remains once
+ * they are subtracted. A class spending 25 s building a context for 200 ms of tests is the best candidate to move
+ * onto a shared context or a test slice: whatever it tests, the context is its cost. The builds of
+ * {@code @Nested} classes count for their top-level class, whose execution time includes theirs.
+ *
+ * <pre>{@code
+ * List<StartupOverhead.Ratio> ratios = StartupOverhead.of(ContextCacheMetricsRegistry.snapshot(),
+ *         TestClassDurations.snapshot());
+ * }</pre>
+ */
+public final class StartupOverhead {
+
+    private static final Duration MIN_TEST_DURATION = Duration.ofMillis(1);
+
+    private StartupOverhead() {
+    }
+
+    /**
+     * Computes the ratio of build time to test time of every test class that built a context.
+     *
+     * @param snapshot       the recorded histories, by test class
+     * @param classDurations the execution time of each top-level test class, by class name
+     * @return the ratio of each test class with both a build and an execution time, highest first
+     */
+    public static List<Ratio> of(Map<TestContextKey, TestContextHistory> snapshot, Map<String, Duration> classDurations) {
+        Map<String, Duration> buildDurations = new HashMap<>();
+        snapshot.forEach((key, history) -> {
+            Duration buildDuration = history.totalLoadDuration();
+            if (!buildDuration.isZero()) {
+                buildDurations.merge(topLevelName(key.testClass()), buildDuration, Duration::plus);
+            }
+        });
+        return buildDurations.entrySet().stream()
+                .filter(entry -> classDurations.containsKey(entry.getKey()))
+                .map(entry -> {
+                    Duration testDuration = classDurations.get(entry.getKey()).minus(entry.getValue());
+                    return new Ratio(entry.getKey(), entry.getValue(), testDuration.isNegative() ? Duration.ZERO : testDuration);
+                })
+                .sorted(Comparator.comparingDouble(Ratio::ratio).reversed().thenComparing(Ratio::testClass))
+                .toList();
+    }
+
+    private static String topLevelName(Class<?> testClass) {
+        Class<?> topLevel = testClass;
+        while (topLevel.getEnclosingClass() != null) {
+            topLevel = topLevel.getEnclosingClass();
+        }
+        return topLevel.getName();
+    }
+
+    /**
+     * The context build time of a test class compared with its test time.
+     *
+     * @param testClass     the fully qualified name of the test class
+     * @param buildDuration the time spent building the contexts it triggered
+     * @param testDuration  the time spent running its tests, once the builds are subtracted
+     */
+    public record Ratio(String testClass, Duration buildDuration, Duration testDuration) {
+
+        /**
+         * Returns how many times longer building contexts took than running tests.
+         * <p>
+         * Test times under a millisecond count as one millisecond.
+         *
+         * @return the build to test time ratio
+         */
+        public double ratio() {
+            Duration testTime = testDuration.compareTo(MIN_TEST_DURATION) < 0 ? MIN_TEST_DURATION : testDuration;
+            return (double) buildDuration.toNanos() / testTime.toNanos();
+        }
+
+        /**
+         * Tells whether building contexts dominates this class.
+         *
+         * @param minRatio         the ratio from which startup dominates
+         * @param minBuildDuration the build time below which startup is not worth reporting
+         * @return {@code true} if both thresholds are reached
+         */
+        public boolean dominatedBy(double minRatio, Duration minBuildDuration) {
+            return ratio() >= minRatio && buildDuration.compareTo(minBuildDuration) >= 0;
+        }
+
+        /**
+         * Returns a one-line description of this ratio.
+         *
+         * @return e.g. {@code "com.acme.LegacyImportTest: 25.0 s of context for 0.2 s of tests (125x)"}
+         */
+        public String describe() {
+            return String.format(Locale.ROOT, "%s: %.1f s of context for %.1f s of tests (%.0fx)", testClass,
+                    buildDuration.toMillis() / 1000.0, testDuration.toMillis() / 1000.0, ratio());
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.ContextCache;
+import org.springframework.test.context.cache.ContextCacheUtils;
+
+/**
+ * {@link ContextCache} detaching removed and evicted contexts immediately and closing them on a background thread.
+ * <p>
+ * Behaves like Spring's {@code DefaultContextCache} — same least recently used policy bounded by
+ * {@code spring.test.context.cache.maxSize}, same handling of context hierarchies, same statistics — except
+ * that closing a context, which shuts down its executors, connection pools and embedded servers, no longer
+ * blocks the test thread that dirtied or evicted it.
+ *
+ * <h2>Back-pressure</h2>
+ * Closes are queued to a single background thread through a bounded queue. When the queue is full, the
+ * context is closed on the calling thread, so that contexts waiting to be closed never pile up in memory.
+ * Contexts evicted by a {@link #put} are only handed over once the cache is unlocked, so that such a close never
+ * blocks the lookups of other threads.
+ *
+ * <h2>Close Durations</h2>
+ * Every close is timed and reported as a {@link ContextRemoval} to the consumer registered through
+ * {@link #onRemoval(Consumer)}; {@link ObservableContextCache} forwards them to its listeners.
+ *
+ * @see ContextCacheMetricsProperties#ASYNC_CLOSE_ENABLED
+ */
+public final class AsyncClosingContextCache implements ContextCache {
+    private static final Logger log = LoggerFactory.getLogger(AsyncClosingContextCache.class);
+    private static final long AWAIT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Map<MergedContextConfiguration, ApplicationContext> contextMap = Collections.synchronizedMap(new LruCache());
+    private final Map<MergedContextConfiguration, Set<MergedContextConfiguration>> hierarchyMap = new ConcurrentHashMap<>();
+    private final Map<MergedContextConfiguration, Integer> failureCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+    private final AtomicInteger pendingCloses = new AtomicInteger();
+    private final List<Runnable> evictedCloses = new ArrayList<>();
+    private final int maxSize;
+    private final ThreadPoolExecutor closer;
+    private volatile Consumer<ContextRemoval> removalConsumer = removal -> {
+    };
+
+    /**
+     * Creates a cache bounded by {@code spring.test.context.cache.maxSize}.
+     *
+     * @param queueCapacity the maximum number of contexts waiting to be closed
+     */
+    public AsyncClosingContextCache(int queueCapacity) {
+        this(ContextCacheUtils.retrieveMaxCacheSize(), queueCapacity);
+    }
+
+    /**
+     * Creates a cache bounded by the given size.
+     *
+     * @param maxSize       the maximum number of cached contexts
+     * @param queueCapacity the maximum number of contexts waiting to be closed
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public AsyncClosingContextCache(int maxSize, int queueCapacity) {
+        if (maxSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("maxSize and queueCapacity must be positive");
+        }
+        this.maxSize = maxSize;
+        this.closer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("occ-context-closer").daemon().factory(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Sets the consumer notified after each context has been closed, on the thread that closed it.
+     *
+     * @param consumer the consumer of removals
+     */
+    public void onRemoval(Consumer<ContextRemoval> consumer) {
+        this.removalConsumer = consumer;
+    }
+
+    /**
+     * Waits until every context detached so far has been closed.
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if all closes completed in time
+     */
+    public boolean awaitPendingCloses(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pendingCloses.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(AWAIT_POLL_NANOS);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(MergedContextConfiguration key) {
+        return contextMap.containsKey(key);
+    }
+
+    @Override
+    public ApplicationContext get(MergedContextConfiguration key) {
+        ApplicationContext context = contextMap.get(key);
+        if (context == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return context;
+    }
+
+    @Override
+    public void put(MergedContextConfiguration key, ApplicationContext context) {
+        List<Runnable> closes;
+        synchronized (contextMap) {
+            contextMap.put(key, context);
+            closes = List.copyOf(evictedCloses);
+            evictedCloses.clear();
+        }
+        closes.forEach(this::submit);
+        MergedContextConfiguration child = key;
+        for (MergedContextConfiguration parent = child.getParent(); parent != null; parent = child.getParent()) {
+            hierarchyMap.computeIfAbsent(parent, k -> ConcurrentHashMap.newKeySet()).add(child);
+            child = parent;
+        }
+    }
+
+    @Override
+    public void remove(MergedContextConfiguration key, DirtiesContext.HierarchyMode hierarchyMode) {
+        remove(key, hierarchyMode, ContextRemoval.Cause.REMOVED);
+    }
+
+    void remove(MergedContextConfiguration key, DirtiesContext.HierarchyMode hierarchyMode, ContextRemoval.Cause cause) {
+        Runnable close = detach(key, hierarchyMode, cause, hierarchyMode);
+        if (close != null) {
+            submit(close);
+        }
+    }
+
+    /**
+     * Takes a context out of the cache without closing it, so that its caller keeps it alive.
+     *
+     * @param key the configuration of the context
+     * @return the detached context, or {@code null} if it is not cached or is the parent of another cached context
+     */
+    ApplicationContext detachWithoutClosing(MergedContextConfiguration key) {
+        synchronized (contextMap) {
+            if (hierarchyMap.containsKey(key)) {
+                return null;
+            }
+            return contextMap.remove(key);
+        }
+    }
+
+    @Override
+    public int getFailureCount(MergedContextConfiguration key) {
+        return failureCounts.getOrDefault(key, 0);
+    }
+
+    @Override
+    public void incrementFailureCount(MergedContextConfiguration key) {
+        failureCounts.merge(key, 1, Integer::sum);
+    }
+
+    @Override
+    public int size() {
+        return contextMap.size();
+    }
+
+    /**
+     * Returns the maximum number of cached contexts.
+     *
+     * @return the maximum size of the cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int getParentContextCount() {
+        return hierarchyMap.size();
+    }
+
+    @Override
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public void reset() {
+        synchronized (contextMap) {
+            clear();
+            clearStatistics();
+            failureCounts.clear();
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (contextMap) {
+            contextMap.clear();
+            hierarchyMap.clear();
+        }
+    }
+
+    @Override
+    public void clearStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    @Override
+    public void logStatistics() {
+        if (log.isDebugEnabled()) {
+            log.debug("[OCC] Context cache statistics: size={}, maxSize={}, parentContextCount={}, hitCount={}, missCount={}, pendingCloses={}",
+                    size(), maxSize, getParentContextCount(), getHitCount(), getMissCount(), pendingCloses.get());
+        }
+    }
+
+    private void submit(Runnable close) {
+        pendingCloses.incrementAndGet();
+        closer.execute(() -> {
+            try {
+                close.run();
+            } finally {
+                pendingCloses.decrementAndGet();
+            }
+        });
+    }
+
+    private Runnable detach(MergedContextConfiguration key, DirtiesContext.HierarchyMode hierarchyMode, ContextRemoval.Cause cause,
+                            DirtiesContext.HierarchyMode reportedMode) {
+        Instant timestamp = Instant.now();
+        MergedContextConfiguration startKey = key;
+        if (hierarchyMode == DirtiesContext.HierarchyMode.EXHAUSTIVE) {
+            while (startKey.getParent() != null) {
+                startKey = startKey.getParent();
+            }
+        }
+
+        List<MergedContextConfiguration> removedKeys = new ArrayList<>();
+        List<ApplicationContext> removedContexts = new ArrayList<>();
+        detach(startKey, removedKeys, removedContexts);
+        for (MergedContextConfiguration removedKey : removedKeys) {
+            hierarchyMap.values().forEach(children -> children.remove(removedKey));
+        }
+        hierarchyMap.values().removeIf(Set::isEmpty);
+
+        if (removedContexts.isEmpty()) {
+            return null;
+        }
+        return () -> close(key, removedContexts, cause, reportedMode, timestamp);
+    }
+
+    private void detach(MergedContextConfiguration key, List<MergedContextConfiguration> removedKeys,
+                        List<ApplicationContext> removedContexts) {
+        Set<MergedContextConfiguration> children = hierarchyMap.remove(key);
+        if (children != null) {
+            for (MergedContextConfiguration child : new HashSet<>(children)) {
+                detach(child, removedKeys, removedContexts);
+            }
+        }
+        ApplicationContext context = contextMap.remove(key);
+        if (context != null) {
+            removedContexts.add(context);
+        }
+        removedKeys.add(key);
+    }
+
+    private void close(MergedContextConfiguration key, List<ApplicationContext> contexts, ContextRemoval.Cause cause,
+                       DirtiesContext.HierarchyMode hierarchyMode, Instant timestamp) {
+        long start = System.nanoTime();
+        for (ApplicationContext context : contexts) {
+            if (context instanceof ConfigurableApplicationContext configurable) {
+                try {
+                    configurable.close();
+                } catch (RuntimeException ex) {
+                    log.warn("[OCC] Failed to close context of {}", key.getTestClass().getSimpleName(), ex);
+                }
+            }
+        }
+        removalConsumer.accept(ContextRemoval.of(key, cause, hierarchyMode, timestamp, Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private final class LruCache extends LinkedHashMap<MergedContextConfiguration, ApplicationContext> {
+
+        private LruCache() {
+            super(32, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<MergedContextConfiguration, ApplicationContext> eldest) {
+            if (size() > maxSize) {
+                Runnable close = AsyncClosingContextCache.this.detach(eldest.getKey(), DirtiesContext.HierarchyMode.CURRENT_LEVEL,
+                        ContextRemoval.Cause.EVICTED, null);
+                if (close != null) {
+                    evictedCloses.add(close);
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * Registry of the beans each test class actually resolves from its cached {@code ApplicationContext}.
+ * <p>
+ * Populated by {@link BeanUsageTestExecutionListener} when bean usage tracing is enabled through
+ * {@link ContextCacheMetricsProperties#BEAN_USAGE_ENABLED}. For every test class it keeps the beans
+ * injected into test instances, their transitive dependency closure, the size of the full context
+ * and the {@link TestSlice} that could replace it.
+ *
+ * <h2>Thread Safety</h2>
+ * Like {@link ContextCacheMetricsRegistry}, entries are immutable and updated atomically
+ * through {@link ConcurrentHashMap#merge}.
+ *
+ * @see BeanUsageTestExecutionListener
+ * @see TestSlice
+ */
+public class BeanUsageRegistry {
+    private static final Logger log = LoggerFactory.getLogger(BeanUsageRegistry.class);
+
+    private static final Map<TestContextKey, BeanUsage> BEAN_USAGES = new ConcurrentHashMap<>();
+
+    private BeanUsageRegistry() {
+    }
+
+    /**
+     * Clears all recorded bean usages.
+     */
+    public static void clear() {
+        BEAN_USAGES.clear();
+    }
+
+    /**
+     * Records the beans resolved by a test instance and computes their dependency closure
+     * while the context is still alive.
+     *
+     * @param testClass           the test class owning the instance
+     * @param resolvedBeans       the names of the beans resolved by the test instance
+     * @param directContextAccess {@code true} if the test instance holds the context or its bean factory,
+     *                            in which case the resolved beans cannot be known
+     * @param beanFactory         the bean factory of the context the test instance was prepared with
+     */
+    public static void recordResolved(Class<?> testClass, Set<String> resolvedBeans, boolean directContextAccess,
+                                      ConfigurableListableBeanFactory beanFactory) {
+        Set<String> closure = closureOf(resolvedBeans, beanFactory);
+        List<Class<?>> closureTypes = new ArrayList<>();
+        for (String beanName : closure) {
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null) {
+                closureTypes.add(type);
+            }
+        }
+
+        BeanUsage usage = new BeanUsage(resolvedBeans, closure, beanFactory.getBeanDefinitionCount(),
+                directContextAccess, directContextAccess ? TestSlice.NONE : TestSlice.suggest(closureTypes));
+        BEAN_USAGES.merge(new TestContextKey(testClass), usage, BeanUsage::merge);
+
+        log.debug("[OCC] {} resolved {} beans, closure of {}", testClass.getSimpleName(), resolvedBeans.size(), closure.size());
+    }
+
+    /**
+     * Returns an immutable snapshot of the bean usages recorded so far.
+     *
+     * @return a read-only copy of the registry
+     */
+    public static Map<TestContextKey, BeanUsage> snapshot() {
+        return Map.copyOf(BEAN_USAGES);
+    }
+
+    private static Set<String> closureOf(Set<String> beanNames, ConfigurableListableBeanFactory beanFactory) {
+        Set<String> closure = new LinkedHashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>(beanNames);
+        while (!toVisit.isEmpty()) {
+            String beanName = toVisit.pop();
+            if (closure.add(beanName)) {
+                toVisit.addAll(List.of(beanFactory.getDependenciesForBean(beanName)));
+            }
+        }
+        return closure;
+    }
+
+    /**
+     * Beans resolved by one test class.
+     *
+     * @param resolvedBeans       the beans injected into the test instances
+     * @param beanClosure         the resolved beans and all the beans they transitively depend on
+     * @param beanDefinitionCount the number of beans in the full context
+     * @param directContextAccess {@code true} if the test class holds the context or its bean factory
+     * @param slice               the slice able to replace the full context, {@link TestSlice#NONE} if any
+     */
+    public record BeanUsage(Set<String> resolvedBeans, Set<String> beanClosure, int beanDefinitionCount,
+                            boolean directContextAccess, TestSlice slice) {
+
+        /**
+         * Constructs an immutable {@code BeanUsage}.
+         *
+         * @param resolvedBeans       the beans injected into the test instances
+         * @param beanClosure         the resolved beans and all the beans they transitively depend on
+         * @param beanDefinitionCount the number of beans in the full context
+         * @param directContextAccess {@code true} if the test class holds the context or its bean factory
+         * @param slice               the slice able to replace the full context
+         */
+        public BeanUsage {
+            resolvedBeans = Set.copyOf(resolvedBeans);
+            beanClosure = Set.copyOf(beanClosure);
+        }
+
+        /**
+         * Returns the share of the full context the test class actually needs.
+         *
+         * @return the closure size divided by the number of beans in the context, between 0 and 1
+         */
+        public double closureRatio() {
+            if (beanDefinitionCount == 0) {
+                return 1.0;
+            }
+            return Math.min(1.0, (double) beanClosure.size() / beanDefinitionCount);
+        }
+
+        /**
+         * Combines the usages of two test instances of the same class.
+         * <p>
+         * A slice is only kept when both usages agree on it.
+         *
+         * @param other the usage recorded for another instance of the same test class
+         * @return a new {@code BeanUsage} holding the union of both
+         */
+        public BeanUsage merge(BeanUsage other) {
+            Set<String> resolved = new LinkedHashSet<>(resolvedBeans);
+            resolved.addAll(other.resolvedBeans);
+            Set<String> closure = new LinkedHashSet<>(beanClosure);
+            closure.addAll(other.beanClosure);
+            return new BeanUsage(resolved, closure, Math.max(beanDefinitionCount, other.beanDefinitionCount),
+                    directContextAccess || other.directContextAccess, slice == other.slice ? slice : TestSlice.NONE);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+/**
+ * Spring {@link org.springframework.test.context.TestExecutionListener} recording which beans
+ * each test instance resolves from its cached {@code ApplicationContext}.
+ * <p>
+ * Registered by {@link CacheAwareSpringBootTestBootstrapper} as a default listener and ordered
+ * right after {@link DependencyInjectionTestExecutionListener}, so that test instances are fully
+ * injected when inspected. Every instance field holding a singleton of the context — whether
+ * injected through {@code @Autowired}, constructor parameters or bean overrides — counts as a
+ * resolved bean.
+ * <p>
+ * A test class holding the {@link ApplicationContext} or its {@link BeanFactory} may call
+ * {@code getBean} at any time; those lookups cannot be observed without replacing the context's
+ * bean factory, so such classes are flagged and never recommended a slice.
+ * <p>
+ * Tracing is disabled unless {@link ContextCacheMetricsProperties#BEAN_USAGE_ENABLED} is set.
+ *
+ * @see BeanUsageRegistry
+ */
+public class BeanUsageTestExecutionListener extends AbstractTestExecutionListener {
+
+    private static final int ORDER = 2100;
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new {@code BeanUsageTestExecutionListener}.
+     * Instantiated by {@link CacheAwareSpringBootTestBootstrapper} for every test class.
+     */
+    public BeanUsageTestExecutionListener() {
+        this(ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.BEAN_USAGE_ENABLED, false));
+    }
+
+    BeanUsageTestExecutionListener(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns {@code 2100}, placing this listener right after
+     * {@link DependencyInjectionTestExecutionListener}.
+     *
+     * @return the order of this listener
+     */
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public void prepareTestInstance(TestContext testContext) {
+        if (!enabled || !testContext.hasApplicationContext()) {
+            return;
+        }
+        if (!(testContext.getApplicationContext() instanceof ConfigurableApplicationContext context)) {
+            return;
+        }
+
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        Set<String> resolvedBeans = new LinkedHashSet<>();
+        boolean directContextAccess = false;
+
+        Object testInstance = testContext.getTestInstance();
+        for (Class<?> type = testInstance.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive() || !field.trySetAccessible()) {
+                    continue;
+                }
+                Object value = readField(field, testInstance);
+                if (value instanceof ApplicationContext || value instanceof BeanFactory) {
+                    directContextAccess = true;
+                } else if (value != null) {
+                    resolvedBeans.addAll(singletonNamesOf(value, field.getType(), beanFactory));
+                }
+            }
+        }
+
+        BeanUsageRegistry.recordResolved(testContext.getTestClass(), resolvedBeans, directContextAccess, beanFactory);
+    }
+
+    private static Set<String> singletonNamesOf(Object value, Class<?> declaredType, ConfigurableListableBeanFactory beanFactory) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String beanName : beanFactory.getBeanNamesForType(declaredType, true, false)) {
+            if (beanFactory.containsSingleton(beanName) && beanFactory.getSingleton(beanName) == value) {
+                names.add(beanName);
+            }
+        }
+        return names;
+    }
+
+    private static Object readField(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+}
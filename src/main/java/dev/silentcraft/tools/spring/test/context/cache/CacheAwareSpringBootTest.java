@@ -8,11 +8,14 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.test.context.BootstrapWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import dev.silentcraft.tools.junit.execution.order.ConfigurationAffinityLocks;
+
 /**
  * Custom annotation that wraps {@link org.springframework.boot.test.context.SpringBootTest}
  * to enable enhanced context cache observability during test execution.
@@ -29,6 +32,10 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  * Unless explicitly set, {@link #webEnvironment()} defaults to
  * {@link org.springframework.boot.test.context.SpringBootTest.WebEnvironment#MOCK}, matching
  * the default of {@link org.springframework.boot.test.context.SpringBootTest}.
+ * <p>
+ * In parallel runs, annotated classes can be grouped into one lane per configuration by
+ * {@link ConfigurationAffinityLocks}, inactive unless enabled through
+ * {@link ContextCacheMetricsProperties#AFFINITY_LOCKS_ENABLED}.
  *
  * <pre>
  * &#64;CacheAwareSpringBootTest(classes = MyApplication.class, webEnvironment = WebEnvironment.MOCK)
@@ -48,6 +55,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @Inherited
 @BootstrapWith(CacheAwareSpringBootTestBootstrapper.class)
 @ExtendWith(SpringExtension.class)
+@ResourceLock(providers = ConfigurationAffinityLocks.class)
 public @interface
 CacheAwareSpringBootTest {
 
@@ -94,5 +102,12 @@ CacheAwareSpringBootTest {
      * @return the {@code WebEnvironment} mode
      */
     SpringBootTest.WebEnvironment webEnvironment() default SpringBootTest.WebEnvironment.MOCK;
+
+    /**
+     * The context cache budget of the test class, ignored when the class also carries {@link ContextCacheBudget}.
+     *
+     * @return the budget, unlimited by default
+     */
+    ContextCacheBudget budget() default @ContextCacheBudget;
 }
 
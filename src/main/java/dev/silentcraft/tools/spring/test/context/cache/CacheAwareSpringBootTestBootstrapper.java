@@ -1,8 +1,10 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,8 +18,10 @@ import org.springframework.test.context.BootstrapContext;
 import org.springframework.test.context.BootstrapWith;
 import org.springframework.test.context.CacheAwareContextLoaderDelegate;
 import org.springframework.test.context.TestContextAnnotationUtils;
+import org.springframework.test.context.TestExecutionListener;
 import org.springframework.test.context.cache.ContextCache;
 import org.springframework.test.context.cache.DefaultCacheAwareContextLoaderDelegate;
+import org.springframework.test.context.cache.DefaultContextCache;
 import org.springframework.test.context.web.WebAppConfiguration;
 
 /**
@@ -36,6 +40,8 @@ import org.springframework.test.context.web.WebAppConfiguration;
  *   <li>Overrides {@link #getCacheAwareContextLoaderDelegate()} to inject the custom observable cache.</li>
  *   <li>Supports configuration via {@code classes}, {@code properties}, and {@code webEnvironment} from {@link SpringBootTest}.</li>
  *   <li>Provides a safety check to avoid invalid use of {@code @WebAppConfiguration} with real servlet environments.</li>
+ *   <li>Adds the library's own Spring {@link TestExecutionListener}s, such as {@link BeanUsageTestExecutionListener}
+ *   and the {@link TestInstanceOverheadListener} pair, to the default listeners.</li>
  * </ul>
  *
  * <h2>Context Cache Instrumentation</h2>
@@ -61,6 +67,9 @@ import org.springframework.test.context.web.WebAppConfiguration;
  *     return new DefaultCacheAwareContextLoaderDelegate(OBSERVABLE_CONTEXT_CACHE);
  * }
  * }</pre>
+ * <p>
+ * The observable cache wraps a {@link DefaultContextCache}, or an {@link AsyncClosingContextCache} when
+ * {@link ContextCacheMetricsProperties#ASYNC_CLOSE_ENABLED} is set.
  *
  * @see CacheAwareSpringBootTest
  * @see ObservableContextCache
@@ -72,7 +81,7 @@ public class CacheAwareSpringBootTestBootstrapper extends SpringBootTestContextB
 
     private static final Logger log = LoggerFactory.getLogger(CacheAwareSpringBootTestBootstrapper.class);
 
-    private static final ObservableContextCache OBSERVABLE_CONTEXT_CACHE = new ObservableContextCache();
+    private static final ObservableContextCache OBSERVABLE_CONTEXT_CACHE = new ObservableContextCache(createDelegateCache());
 
     private static final DefaultContextCacheMissesListener DEFAULT_CONTEXT_CACHE_MISSES_LISTENER = new DefaultContextCacheMissesListener();
 
@@ -103,12 +112,51 @@ public class CacheAwareSpringBootTestBootstrapper extends SpringBootTestContextB
         return activated;
     }
 
+    /**
+     * Returns the {@link ObservableContextCache} shared by every test class bootstrapped in this JVM.
+     * <p>
+     * Allows JUnit Platform listeners, such as
+     * {@link dev.silentcraft.tools.junit.execution.listener.GlobalTestExecutionAnalyzer}, to register
+     * additional {@link ContextCacheMissesListener}s before any context is loaded.
+     *
+     * @return the instrumented context cache
+     */
+    public static ObservableContextCache observableContextCache() {
+        return OBSERVABLE_CONTEXT_CACHE;
+    }
+
+
+    private static ContextCache createDelegateCache() {
+        if (ContextCacheMetricsProperties.getBoolean(ContextCacheMetricsProperties.ASYNC_CLOSE_ENABLED, false)) {
+            return new AsyncClosingContextCache(
+                    ContextCacheMetricsProperties.getInt(ContextCacheMetricsProperties.ASYNC_CLOSE_QUEUE_CAPACITY, 16));
+        }
+        return new DefaultContextCache();
+    }
 
     @Override
     public CacheAwareContextLoaderDelegate getCacheAwareContextLoaderDelegate() {
         return new DefaultCacheAwareContextLoaderDelegate(OBSERVABLE_CONTEXT_CACHE);
     }
 
+    /**
+     * Returns Spring's default {@link TestExecutionListener}s extended with the listeners
+     * contributed by this library.
+     * <p>
+     * {@link BeanUsageTestExecutionListener} is inactive unless enabled through {@link ContextCacheMetricsProperties};
+     * the two {@link TestInstanceOverheadListener}s, ordered first and last, only read the clock.
+     *
+     * @return the default listeners followed by the contributed listeners
+     */
+    @Override
+    protected List<TestExecutionListener> getDefaultTestExecutionListeners() {
+        List<TestExecutionListener> listeners = new ArrayList<>(super.getDefaultTestExecutionListeners());
+        listeners.add(new BeanUsageTestExecutionListener());
+        listeners.add(TestInstanceOverheadListener.opening());
+        listeners.add(TestInstanceOverheadListener.closing());
+        return listeners;
+    }
+
     /**
      * Sets the bootstrap context and marks this bootstrapper as activated.
      * <p>
@@ -0,0 +1,197 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Context build cost rolled up by module and along the package tree of the test classes.
+ * <p>
+ * Each build is added, as it is recorded, to the module of its test class and to its package and every parent
+ * package: {@code com.acme.billing.api.InvoiceTest} counts for {@code com.acme.billing.api}, {@code com.acme.billing},
+ * {@code com.acme} and {@code com}. Every node keeps its number of builds, its build time and its distinct
+ * configuration fingerprints, so that the owners of a package or module can read their share of the suite's context
+ * cost without walking the registry at the end of the plan.
+ * <p>
+ * The module of a test class is the directory holding the build output it was loaded from: the parent of the
+ * {@code target} directory for Maven, or of the {@code build} directory for Gradle. Classes loaded from a jar count
+ * for the jar file.
+ * <p>
+ * Recording is thread-safe and lock-free once a node exists.
+ *
+ * @see ContextCacheMetricsRegistry#rollup()
+ */
+public final class CacheCostRollup {
+
+    /**
+     * Name of the node of the classes of the default package.
+     */
+    public static final String DEFAULT_PACKAGE = "(default)";
+
+    private static final String UNKNOWN_MODULE = "(unknown)";
+
+    private final Map<String, Node> modules = new ConcurrentHashMap<>();
+    private final Map<String, Node> packages = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Node>> nodesByTestClass = new ConcurrentHashMap<>();
+
+    /**
+     * Records a context build triggered by a test class.
+     *
+     * @param testClass   the test class
+     * @param fingerprint the {@link ConfigurationFingerprint} of the built configuration
+     */
+    public void recordBuild(Class<?> testClass, String fingerprint) {
+        for (Node node : nodes(testClass)) {
+            node.builds.increment();
+            node.fingerprints.add(fingerprint);
+        }
+    }
+
+    /**
+     * Records the time spent building a context triggered by a test class.
+     *
+     * @param testClass    the test class
+     * @param loadDuration the build time
+     */
+    public void recordLoad(Class<?> testClass, Duration loadDuration) {
+        long nanos = loadDuration.toNanos();
+        for (Node node : nodes(testClass)) {
+            node.buildNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Returns the totals recorded so far.
+     *
+     * @return the totals by module and by package
+     */
+    public Rollup snapshot() {
+        return new Rollup(totals(modules).stream().sorted(Comparator.comparing(Totals::buildDuration).reversed()
+                        .thenComparing(Totals::name)).toList(),
+                totals(packages).stream().sorted(Comparator.comparing(Totals::name)).toList());
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void clear() {
+        nodesByTestClass.clear();
+        modules.clear();
+        packages.clear();
+    }
+
+    /**
+     * Returns the name of the module a class was loaded from.
+     *
+     * @param type the class
+     * @return the module name, {@code "(unknown)"} if its origin cannot be told
+     */
+    static String moduleOf(Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return UNKNOWN_MODULE;
+        }
+        try {
+            Path location = Path.of(codeSource.getLocation().toURI());
+            for (Path directory = location; directory != null; directory = directory.getParent()) {
+                Path name = directory.getFileName();
+                if (name != null && (name.toString().equals("target") || name.toString().equals("build"))
+                        && directory.getParent() != null && directory.getParent().getFileName() != null) {
+                    return directory.getParent().getFileName().toString();
+                }
+            }
+            return location.getFileName() == null ? UNKNOWN_MODULE : location.getFileName().toString();
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return UNKNOWN_MODULE;
+        }
+    }
+
+    private List<Node> nodes(Class<?> testClass) {
+        return nodesByTestClass.computeIfAbsent(testClass, type -> {
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(modules.computeIfAbsent(moduleOf(type), Node::new));
+            String packageName = type.getPackageName();
+            for (int dot = packageName.indexOf('.'); dot >= 0; dot = packageName.indexOf('.', dot + 1)) {
+                nodes.add(packages.computeIfAbsent(packageName.substring(0, dot), Node::new));
+            }
+            nodes.add(packages.computeIfAbsent(packageName.isEmpty() ? DEFAULT_PACKAGE : packageName, Node::new));
+            return List.copyOf(nodes);
+        });
+    }
+
+    private static List<Totals> totals(Map<String, Node> nodes) {
+        return nodes.values().stream()
+                .map(node -> new Totals(node.name, node.builds.intValue(), Duration.ofNanos(node.buildNanos.sum()),
+                        node.fingerprints.size()))
+                .filter(totals -> totals.builds() > 0)
+                .toList();
+    }
+
+    private static final class Node {
+        private final String name;
+        private final LongAdder builds = new LongAdder();
+        private final LongAdder buildNanos = new LongAdder();
+        private final Set<String> fingerprints = ConcurrentHashMap.newKeySet();
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The context build cost of a module or package.
+     *
+     * @param name             the module or package name
+     * @param builds           the number of contexts built for its test classes
+     * @param buildDuration    the time spent building them
+     * @param distinctContexts the number of distinct configurations built
+     */
+    public record Totals(String name, int builds, Duration buildDuration, int distinctContexts) {
+
+        /**
+         * Returns the depth of a package in the package tree.
+         *
+         * @return {@code 1} for a top-level package such as {@code com}
+         */
+        public int depth() {
+            return (int) name.chars().filter(c -> c == '.').count() + 1;
+        }
+    }
+
+    /**
+     * The context build cost by module and by package.
+     *
+     * @param modules  the totals by module, most expensive first
+     * @param packages the totals by package, parents before their subpackages
+     */
+    public record Rollup(List<Totals> modules, List<Totals> packages) {
+
+        /**
+         * Returns the time spent building contexts, all modules included.
+         *
+         * @return the total build time
+         */
+        public Duration buildDuration() {
+            return modules.stream().map(Totals::buildDuration).reduce(Duration.ZERO, Duration::plus);
+        }
+
+        /**
+         * Returns the share of the total build time spent for a module or package.
+         *
+         * @param totals the totals of a module or package
+         * @return the share, between {@code 0} and {@code 1}
+         */
+        public double share(Totals totals) {
+            long total = buildDuration().toNanos();
+            return total == 0 ? 0 : (double) totals.buildDuration().toNanos() / total;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Computes a short identifier of the state of the classpath entries application contexts are built from.
+ * <p>
+ * Each entry contributes its path. A directory entry also contributes the relative path, size and last modification
+ * time of each of its regular files; an archive contributes its own size and last modification time, its content
+ * being neither opened nor listed. File contents are not read, so the fingerprint of a large classpath is computed in
+ * milliseconds. Entries whose path contains one of the ignored fragments — by default
+ * the test output directories of Maven, Gradle and IntelliJ IDEA — do not contribute: editing test code leaves the
+ * fingerprint unchanged.
+ *
+ * <pre>{@code
+ * String fingerprint = ClasspathFingerprint.ofCurrentClasspath(ClasspathFingerprint.DEFAULT_IGNORED_PATHS);
+ * }</pre>
+ *
+ * @see ContextCacheMetricsProperties#WARM_JVM_ENABLED
+ */
+public final class ClasspathFingerprint {
+
+    /**
+     * Path fragments of the test output directories of Maven, Gradle and IntelliJ IDEA.
+     */
+    public static final List<String> DEFAULT_IGNORED_PATHS = List.of(
+            "/test-classes", "/classes/java/test", "/classes/kotlin/test", "/resources/test", "/out/test");
+
+    private static final int FINGERPRINT_BYTES = 8;
+
+    private ClasspathFingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of the {@code java.class.path} of this JVM.
+     *
+     * @param ignoredPaths the path fragments of the entries to ignore
+     * @return a 16 characters hexadecimal fingerprint
+     */
+    public static String ofCurrentClasspath(List<String> ignoredPaths) {
+        return of(Arrays.stream(System.getProperty("java.class.path", "").split(File.pathSeparator))
+                .filter(entry -> !entry.isBlank())
+                .map(Path::of)
+                .toList(), ignoredPaths);
+    }
+
+    /**
+     * Returns the fingerprint of the given classpath entries.
+     *
+     * @param entries      the directories and archives of the classpath, in classpath order
+     * @param ignoredPaths the path fragments of the entries to ignore
+     * @return a 16 characters hexadecimal fingerprint
+     * @throws UncheckedIOException if a directory entry cannot be walked
+     */
+    public static String of(List<Path> entries, List<String> ignoredPaths) {
+        MessageDigest digest = sha256();
+        for (Path entry : entries) {
+            String normalized = entry.toAbsolutePath().normalize().toString().replace(File.separatorChar, '/');
+            if (ignoredPaths.stream().anyMatch(normalized::contains)) {
+                continue;
+            }
+            update(digest, "entry=" + normalized);
+            if (Files.isDirectory(entry)) {
+                digestDirectory(digest, entry);
+            } else if (Files.isRegularFile(entry)) {
+                digestFile(digest, entry, entry);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, FINGERPRINT_BYTES);
+    }
+
+    private static void digestDirectory(MessageDigest digest, Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile).sorted().forEach(file -> digestFile(digest, directory, file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not walk classpath entry " + directory, ex);
+        }
+    }
+
+    private static void digestFile(MessageDigest digest, Path root, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            update(digest, root.relativize(file) + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+        } catch (IOException ex) {
+            update(digest, root.relativize(file) + ":missing");
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM", ex);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.web.WebMergedContextConfiguration;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Computes a short, stable identifier of a {@link MergedContextConfiguration}.
+ * <p>
+ * Two configurations sharing the same cached {@code ApplicationContext} — i.e. equal in the sense of
+ * {@link MergedContextConfiguration#equals(Object)}, which ignores the test class — share the same
+ * fingerprint. Unlike {@link MergedContextConfiguration#hashCode()}, the fingerprint is built from
+ * class names and string values only, so it can be compared across JVMs and across runs.
+ * <p>
+ * {@link ContextCustomizer}s are described structurally: their class name and the values of their instance
+ * fields, the state their {@code equals} relies on. Classes contribute their name, annotations their attributes,
+ * sets and maps their sorted elements, and other objects their own fields, down to a few levels. Identity hash
+ * codes never take part, so the fingerprint of a configuration is the same in every JVM of the build. Fields
+ * referring to the test class are left out, like the test class itself.
+ * <p>
+ * Fingerprints are memoized per configuration instance with weak keys, and forgotten on
+ * {@link ObservableContextCache#reset()}.
+ *
+ * <pre>{@code
+ * String fingerprint = ConfigurationFingerprint.of(mergedConfig); // e.g. "3f9a1c07d2b4e815"
+ * }</pre>
+ */
+public final class ConfigurationFingerprint {
+
+    private static final Map<MergedContextConfiguration, String> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final int FINGERPRINT_BYTES = 8;
+    private static final int MAX_DESCRIPTION_DEPTH = 4;
+
+    private ConfigurationFingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of the given configuration, computing it on first use.
+     *
+     * @param config the merged configuration of a test class
+     * @return a 16 characters hexadecimal fingerprint
+     */
+    public static String of(MergedContextConfiguration config) {
+        String fingerprint = FINGERPRINTS.get(config);
+        if (fingerprint == null) {
+            fingerprint = compute(config);
+            FINGERPRINTS.putIfAbsent(config, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the configuration the given test class will run with, before any of its
+     * tests is executed.
+     *
+     * @param testClass the test class to inspect
+     * @return the fingerprint, or {@code null} if the class has no resolvable Spring configuration
+     * @see TestClassConfigurations#resolve(Class)
+     */
+    public static String ofTestClass(Class<?> testClass) {
+        MergedContextConfiguration config = TestClassConfigurations.resolve(testClass);
+        return config == null ? null : of(config);
+    }
+
+    /**
+     * Forgets the memoized fingerprints.
+     */
+    static void clear() {
+        FINGERPRINTS.clear();
+    }
+
+    private static String compute(MergedContextConfiguration config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(describe(config).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, FINGERPRINT_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM", ex);
+        }
+    }
+
+    private static String describe(MergedContextConfiguration config) {
+        StringBuilder description = new StringBuilder()
+                .append("classes=").append(Arrays.stream(config.getClasses()).map(Class::getName).toList())
+                .append(";locations=").append(Arrays.toString(config.getLocations()))
+                .append(";initializers=").append(config.getContextInitializerClasses().stream()
+                        .map(Class::getName).sorted().toList())
+                .append(";profiles=").append(Arrays.toString(config.getActiveProfiles()))
+                .append(";propertySources=").append(config.getPropertySourceDescriptors())
+                .append(";properties=").append(Arrays.toString(config.getPropertySourceProperties()))
+                .append(";customizers=").append(config.getContextCustomizers().stream()
+                        .map(customizer -> describe(customizer, config.getTestClass())).sorted().collect(Collectors.joining(",")))
+                .append(";loader=").append(config.getContextLoader() == null ? "" : config.getContextLoader().getClass().getName());
+        if (config instanceof WebMergedContextConfiguration webConfig) {
+            description.append(";resourceBasePath=").append(webConfig.getResourceBasePath());
+        }
+        if (config.getParent() != null) {
+            description.append(";parent=").append(of(config.getParent()));
+        }
+        return description.toString();
+    }
+
+    private static String describe(ContextCustomizer customizer, Class<?> testClass) {
+        return new CustomizerDescriber(testClass).describe(customizer, 0);
+    }
+
+    /**
+     * Returns a class name that does not depend on the JVM: hidden classes such as lambdas and dynamic proxies
+     * carry a generated suffix, so they are named after the class or interfaces they implement.
+     */
+    private static String typeName(Class<?> type) {
+        if (Proxy.isProxyClass(type)) {
+            return Arrays.stream(type.getInterfaces()).map(Class::getName).collect(Collectors.joining("&", "Proxy<", ">"));
+        }
+        String name = type.getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda < 0 ? name : name.substring(0, lambda) + "$$Lambda";
+    }
+
+    /**
+     * Describes a customizer from its fields. Nested values overriding {@code toString()} contribute it, others are
+     * described from their own fields in turn; fields referring to the test class are left out, since customizers
+     * built for different test classes are equal when they customize the context the same way.
+     */
+    private static final class CustomizerDescriber {
+
+        private final Class<?> testClass;
+        private final Set<Object> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private CustomizerDescriber(Class<?> testClass) {
+            this.testClass = testClass;
+        }
+
+        private String describe(Object value, int depth) {
+            if (value == null) {
+                return "null";
+            }
+            if (value instanceof Class<?> type) {
+                return typeName(type);
+            }
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                    || value instanceof Character) {
+                return value.toString();
+            }
+            if (value instanceof Enum<?> constant) {
+                return constant.getDeclaringClass().getName() + "." + constant.name();
+            }
+            if (value instanceof Annotation annotation) {
+                return annotation.toString();
+            }
+            if (depth >= MAX_DESCRIPTION_DEPTH || !visiting.add(value)) {
+                return typeName(value.getClass());
+            }
+            try {
+                if (value.getClass().isArray()) {
+                    List<String> elements = new ArrayList<>();
+                    for (int i = 0; i < Array.getLength(value); i++) {
+                        elements.add(describe(Array.get(value, i), depth + 1));
+                    }
+                    return elements.toString();
+                }
+                if (value instanceof Collection<?> collection) {
+                    List<String> elements = collection.stream().map(element -> describe(element, depth + 1))
+                            .collect(Collectors.toCollection(ArrayList::new));
+                    if (value instanceof Set<?>) {
+                        Collections.sort(elements);
+                    }
+                    return elements.toString();
+                }
+                if (value instanceof Map<?, ?> map) {
+                    return map.entrySet().stream()
+                            .map(entry -> describe(entry.getKey(), depth + 1) + "=" + describe(entry.getValue(), depth + 1))
+                            .sorted().collect(Collectors.joining(",", "{", "}"));
+                }
+                if (depth > 0 && overridesToString(value.getClass())) {
+                    return value.toString();
+                }
+                return typeName(value.getClass()) + describeFields(value, depth);
+            } finally {
+                visiting.remove(value);
+            }
+        }
+
+        private String describeFields(Object value, int depth) {
+            if (value.getClass().getName().startsWith("java.")) {
+                return "";
+            }
+            List<String> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(value.getClass(), field -> {
+                try {
+                    ReflectionUtils.makeAccessible(field);
+                    Object fieldValue = field.get(value);
+                    if (testClass == null || fieldValue != testClass && !testClass.getName().equals(fieldValue)) {
+                        fields.add(field.getName() + "=" + describe(fieldValue, depth + 1));
+                    }
+                } catch (InaccessibleObjectException ex) {
+                    fields.add(field.getName() + "=" + typeName(field.getType()));
+                }
+            }, CustomizerDescriber::isState);
+            return fields.stream().collect(Collectors.joining(",", "{", "}"));
+        }
+
+        private static boolean isState(Field field) {
+            int modifiers = field.getModifiers();
+            return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic();
+        }
+
+        private static boolean overridesToString(Class<?> type) {
+            return ReflectionUtils.findMethod(type, "toString").getDeclaringClass() != Object.class;
+        }
+    }
+}
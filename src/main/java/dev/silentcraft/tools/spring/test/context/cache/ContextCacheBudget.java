@@ -0,0 +1,61 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hard limits on the context cache usage of a test suite, checked once the test plan has finished.
+ * <p>
+ * Declared on a test class, a base test class or through {@link CacheAwareSpringBootTest#budget()}. The
+ * {@link #maxRebuilds()} limit applies to the annotated class; {@link #maxContexts()} and {@link #maxBuildSeconds()}
+ * apply to the whole test plan, typically declared once on the base class of a module. The same limits can be set
+ * for every class in {@code junit-platform.properties} through {@link ContextCacheMetricsProperties#BUDGET_MAX_CONTEXTS},
+ * {@link ContextCacheMetricsProperties#BUDGET_MAX_BUILD_SECONDS} and
+ * {@link ContextCacheMetricsProperties#BUDGET_MAX_REBUILDS_PER_CLASS}; when a limit is declared several times, the
+ * strictest one applies, except that {@link #maxRebuilds()} on a class overrides the property.
+ *
+ * <pre>
+ * &#64;ContextCacheBudget(maxContexts = 2, maxBuildSeconds = 30)
+ * &#64;CacheAwareSpringBootTest
+ * abstract class OrderModuleTest {
+ * }
+ * </pre>
+ *
+ * @see dev.silentcraft.tools.junit.execution.report.BudgetCheck
+ */
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface ContextCacheBudget {
+
+    /**
+     * Value of a limit that is not set.
+     */
+    int UNLIMITED = -1;
+
+    /**
+     * Maximum number of distinct contexts built during the test plan.
+     *
+     * @return the limit, {@link #UNLIMITED} by default
+     */
+    int maxContexts() default UNLIMITED;
+
+    /**
+     * Maximum number of seconds spent building contexts during the test plan.
+     *
+     * @return the limit, {@link #UNLIMITED} by default
+     */
+    int maxBuildSeconds() default UNLIMITED;
+
+    /**
+     * Maximum number of context rebuilds the annotated test class may trigger.
+     *
+     * @return the limit, {@link #UNLIMITED} by default
+     */
+    int maxRebuilds() default UNLIMITED;
+}
@@ -0,0 +1,14 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted by {@link ObservableContextCache#get} on a cache hit.
+ */
+@Name("dev.silentcraft.ContextCacheHit")
+@Label("Context Cache Hit")
+@Description("An ApplicationContext was returned from the cache")
+final class ContextCacheHitEvent extends ContextCacheJfrEvent {
+}
@@ -0,0 +1,40 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * Base class of the Java Flight Recorder events emitted by {@link ObservableContextCache}.
+ * <p>
+ * Events are disabled unless a recording enables them, e.g. with
+ * {@code -XX:StartFlightRecording:settings=profile} or JMC; in that case they appear under the
+ * <em>Spring Test / Context Cache</em> category on the same timeline as GC, class loading and
+ * thread activity. When disabled, emitting an event costs a single {@link #isEnabled()} check.
+ */
+@Category({"Spring Test", "Context Cache"})
+@StackTrace(false)
+abstract class ContextCacheJfrEvent extends Event {
+
+    @Label("Test Class")
+    @Description("Test class whose merged configuration was looked up")
+    String testClass;
+
+    @Label("Configuration Fingerprint")
+    @Description("Stable identifier of the merged context configuration")
+    String fingerprint;
+
+    /**
+     * Fills the fields shared by all context cache events.
+     *
+     * @param config the merged configuration the event is about
+     */
+    void describe(MergedContextConfiguration config) {
+        testClass = config.getTestClass() == null ? null : config.getTestClass().getName();
+        fingerprint = ConfigurationFingerprint.of(config);
+    }
+}
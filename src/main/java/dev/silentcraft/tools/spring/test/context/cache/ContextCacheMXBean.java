@@ -0,0 +1,72 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.List;
+
+/**
+ * Management interface of the context cache, for watching a long test run live from JConsole or any JMX client.
+ * <p>
+ * Registered as {@value ContextCacheStatistics#OBJECT_NAME} when
+ * {@link ContextCacheMetricsProperties#JMX_ENABLED} is set. Counters cover every test plan of the JVM since the
+ * registration.
+ *
+ * @see ContextCacheStatistics
+ */
+public interface ContextCacheMXBean {
+
+    /**
+     * Returns the number of contexts currently cached, pinned ones included.
+     *
+     * @return the cache size
+     */
+    int getSize();
+
+    /**
+     * Returns the number of cached contexts that are the parent of another one.
+     *
+     * @return the parent context count
+     */
+    int getParentContextCount();
+
+    /**
+     * Returns the number of lookups served by a cached context.
+     *
+     * @return the hit count
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups that found no cached context.
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Returns the share of lookups served by a cached context.
+     *
+     * @return the hit ratio, between {@code 0} and {@code 1}
+     */
+    double getHitRatio();
+
+    /**
+     * Returns the number of contexts being built: missed but neither stored in the cache yet nor failed to load.
+     *
+     * @return the builds in progress
+     */
+    int getBuildsInProgress();
+
+    /**
+     * Returns the time spent building contexts.
+     *
+     * @return the cumulative build time, in milliseconds
+     */
+    long getCumulativeBuildMillis();
+
+    /**
+     * Returns the test classes that spent the most time building contexts so far.
+     *
+     * @return up to five descriptions such as {@code "com.acme.LegacyImportTest: 2 builds, 12.3 s"}, most expensive
+     * first
+     */
+    List<String> getTopOffenders();
+}
@@ -0,0 +1,351 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.SpringProperties;
+
+/**
+ * Names and accessors for the opt-in settings of the context cache metrics library.
+ * <p>
+ * Every setting is read through {@link SpringProperties}, the same mechanism Spring uses for
+ * {@code spring.test.context.cache.maxSize}: a JVM system property takes precedence, then a
+ * {@code spring.properties} file at the root of the test classpath. Settings are read when first
+ * needed and are therefore fixed for the lifetime of the JVM.
+ *
+ * <pre>
+ * # src/test/resources/spring.properties
+ * spring.test.context.cache.metrics.bean-usage.enabled=true
+ * </pre>
+ *
+ * @see SpringProperties
+ */
+public final class ContextCacheMetricsProperties {
+
+    /**
+     * Common prefix of every property understood by this library.
+     */
+    public static final String PREFIX = "spring.test.context.cache.metrics.";
+
+    /**
+     * Enables bean usage tracing and the slice recommendation report. Defaults to {@code false}.
+     *
+     * @see BeanUsageTestExecutionListener
+     */
+    public static final String BEAN_USAGE_ENABLED = PREFIX + "bean-usage.enabled";
+
+    /**
+     * Path of the Chrome trace file written at the end of the test plan. Not set by default,
+     * in which case no timeline is recorded.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.ChromeTraceWriter
+     */
+    public static final String TRACE_FILE = PREFIX + "trace.file";
+
+    /**
+     * Directory receiving the NDJSON event log of each JVM. Not set by default, in which case
+     * events are only kept in memory.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.NdjsonEventLog
+     */
+    public static final String EVENT_LOG_DIR = PREFIX + "event-log.dir";
+
+    /**
+     * Whether every lookup of the test plan is recorded for the cache efficiency report. Defaults to {@code false}.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.AccessTraceRecorder
+     */
+    public static final String CACHE_EFFICIENCY_ENABLED = PREFIX + "cache-efficiency.enabled";
+
+    /**
+     * Directory shared by all JVMs of a test suite, receiving a snapshot of each registry at the end of
+     * the test plan. Not set by default, in which case each JVM only reports its own activity.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.SnapshotAggregator
+     */
+    public static final String SNAPSHOT_DIR = PREFIX + "snapshot.dir";
+
+    /**
+     * Identifier of the build run, shared by all its JVMs, such as a CI build number or
+     * {@code ${maven.build.timestamp}}. Written into each snapshot: snapshots of other runs found in
+     * {@link #SNAPSHOT_DIR} are deleted instead of being merged. Not set by default, in which case only the
+     * snapshots of the latest run are merged.
+     */
+    public static final String SNAPSHOT_RUN_ID = PREFIX + "snapshot.run-id";
+
+    /**
+     * Makes the test classes sharing a configuration mutually exclusive in parallel runs. Defaults to {@code false}.
+     *
+     * @see dev.silentcraft.tools.junit.execution.order.ConfigurationAffinityLocks
+     */
+    public static final String AFFINITY_LOCKS_ENABLED = PREFIX + "affinity-locks.enabled";
+
+    /**
+     * Builds the next contexts of the test plan in the background while tests run. Defaults to {@code false}.
+     *
+     * @see ContextPrewarmer
+     */
+    public static final String PREWARM_ENABLED = PREFIX + "prewarm.enabled";
+
+    /**
+     * Maximum number of contexts prewarmed at the same time. Defaults to {@code 1}.
+     */
+    public static final String PREWARM_CONCURRENCY = PREFIX + "prewarm.concurrency";
+
+    /**
+     * Share of the maximum heap above which no context is prewarmed. Defaults to {@code 0.7}.
+     */
+    public static final String PREWARM_MAX_HEAP_USAGE = PREFIX + "prewarm.max-heap-usage";
+
+    /**
+     * Closes each context as soon as no remaining test class of the plan needs it. Defaults to {@code false}.
+     *
+     * @see EarlyContextEvictor
+     */
+    public static final String EARLY_EVICTION_ENABLED = PREFIX + "early-eviction.enabled";
+
+    /**
+     * Detaches removed and evicted contexts from the cache immediately and closes them on a background thread.
+     * Defaults to {@code false}.
+     *
+     * @see AsyncClosingContextCache
+     */
+    public static final String ASYNC_CLOSE_ENABLED = PREFIX + "async-close.enabled";
+
+    /**
+     * Maximum number of contexts waiting to be closed in the background; further contexts are closed on the
+     * test thread. Defaults to {@code 16}.
+     */
+    public static final String ASYNC_CLOSE_QUEUE_CAPACITY = PREFIX + "async-close.queue-capacity";
+
+    /**
+     * Comma-separated {@link ConfigurationFingerprint}s of the contexts never evicted by the least recently used policy.
+     *
+     * @see PinnedContext
+     */
+    public static final String PINNED_FINGERPRINTS = PREFIX + "pinned-fingerprints";
+
+    /**
+     * Keeps cached contexts across the test plans of a reused JVM, closing them only when the classpath changed.
+     * Defaults to {@code false}.
+     *
+     * @see ClasspathFingerprint
+     */
+    public static final String WARM_JVM_ENABLED = PREFIX + "warm-jvm.enabled";
+
+    /**
+     * Comma-separated path fragments of the classpath entries ignored by the warm JVM mode. Defaults to
+     * {@link ClasspathFingerprint#DEFAULT_IGNORED_PATHS}.
+     */
+    public static final String WARM_JVM_IGNORED_PATHS = PREFIX + "warm-jvm.ignored-paths";
+
+    /**
+     * Path of the JSON report written at the end of the test plan. Not set by default, in which case no report is
+     * written.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.JsonReport
+     */
+    public static final String JSON_REPORT_FILE = PREFIX + "json-report.file";
+
+    /**
+     * Path of the self-contained HTML report written at the end of the test plan. Not set by default, in which case
+     * no report is written.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.HtmlReport
+     */
+    public static final String HTML_REPORT_FILE = PREFIX + "html-report.file";
+
+    /**
+     * Maximum number of {@link dev.silentcraft.tools.junit.execution.report.ContextCacheReporter}s running at the same
+     * time at the end of the test plan. Defaults to {@code 2}.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.ContextCacheReporters
+     */
+    public static final String REPORTERS_PARALLELISM = PREFIX + "reporters.parallelism";
+
+    /**
+     * Time, in seconds, the end of the test plan waits for the
+     * {@link dev.silentcraft.tools.junit.execution.report.ContextCacheReporter}s; reporters still running are
+     * interrupted. Defaults to {@code 60}.
+     */
+    public static final String REPORTERS_TIMEOUT_SECONDS = PREFIX + "reporters.timeout-seconds";
+
+    /**
+     * Deepest package level listed in the cost roll-up of the final report; {@code 0} disables the package roll-up.
+     * Defaults to {@code 3}, e.g. {@code com.acme.billing}.
+     *
+     * @see CacheCostRollup
+     */
+    public static final String ROLLUP_PACKAGE_DEPTH = PREFIX + "rollup.package-depth";
+
+    /**
+     * Ratio of context build time to test time from which a test class is reported as dominated by its startup.
+     * Defaults to {@code 10}.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.StartupOverhead
+     */
+    public static final String STARTUP_OVERHEAD_MIN_RATIO = PREFIX + "startup-overhead.min-ratio";
+
+    /**
+     * Context build time, in seconds, below which a test class is not reported as dominated by its startup, whatever
+     * its ratio. Defaults to {@code 1}.
+     */
+    public static final String STARTUP_OVERHEAD_MIN_BUILD_SECONDS = PREFIX + "startup-overhead.min-build-seconds";
+
+    /**
+     * Average time, in milliseconds, Spring must spend preparing test instances and in method callbacks per test for a
+     * test class to be reported. Defaults to {@code 50}.
+     *
+     * @see TestInstanceOverheadRegistry
+     */
+    public static final String INSTANCE_OVERHEAD_MIN_PER_TEST_MILLIS = PREFIX + "instance-overhead.min-per-test-millis";
+
+    /**
+     * Whether live cache statistics are registered as a JMX MBean at the start of the first test plan. Defaults to
+     * {@code false}.
+     *
+     * @see ContextCacheStatistics
+     */
+    public static final String JMX_ENABLED = PREFIX + "jmx.enabled";
+
+    /**
+     * Directory holding the baseline each run is compared with. Not set by default, in which case no baseline is
+     * kept nor checked. With Surefire {@code forkCount > 1}, also set {@link #SNAPSHOT_DIR} and
+     * {@link #SNAPSHOT_RUN_ID} so that the suite-wide summary is checked rather than the one of each fork.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.BaselineGate
+     */
+    public static final String BASELINE_DIR = PREFIX + "baseline.dir";
+
+    /**
+     * Number of distinct contexts unknown to the baseline a run may build. Defaults to {@code 0}.
+     */
+    public static final String BASELINE_MAX_NEW_CONTEXTS = PREFIX + "baseline.max-new-contexts";
+
+    /**
+     * Additional seconds a run may spend building contexts compared with the baseline. Defaults to {@code 10}.
+     */
+    public static final String BASELINE_MAX_ADDED_BUILD_SECONDS = PREFIX + "baseline.max-added-build-seconds";
+
+    /**
+     * Replaces the baseline with the current run even when it regressed, so that a regression only fails the run
+     * introducing it. Defaults to {@code true}; set to {@code false} to keep failing until the regression is fixed.
+     */
+    public static final String BASELINE_UPDATE = PREFIX + "baseline.update";
+
+    /**
+     * Maximum number of distinct contexts built during the test plan. Not set by default.
+     * <p>
+     * Like the other budgets, also read from the JUnit Platform configuration parameters, such as
+     * {@code junit-platform.properties}, which take precedence.
+     *
+     * @see ContextCacheBudget
+     */
+    public static final String BUDGET_MAX_CONTEXTS = PREFIX + "budget.max-contexts";
+
+    /**
+     * Maximum number of seconds spent building contexts during the test plan. Not set by default.
+     */
+    public static final String BUDGET_MAX_BUILD_SECONDS = PREFIX + "budget.max-build-seconds";
+
+    /**
+     * Maximum number of context rebuilds each test class may trigger. Not set by default.
+     */
+    public static final String BUDGET_MAX_REBUILDS_PER_CLASS = PREFIX + "budget.max-rebuilds-per-class";
+
+    /**
+     * Directory receiving the JUnit XML report of the checks of this library. Defaults to {@code target/surefire-reports}.
+     *
+     * @see dev.silentcraft.tools.junit.execution.report.JUnitXmlReport
+     */
+    public static final String JUNIT_REPORT_DIR = PREFIX + "junit-report.dir";
+
+    private ContextCacheMetricsProperties() {
+    }
+
+    /**
+     * Returns the raw value of the given property.
+     *
+     * @param name the full property name
+     * @return the value, or {@code null} if the property is not set or blank
+     */
+    public static String get(String name) {
+        String value = SpringProperties.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Returns the boolean value of the given property.
+     *
+     * @param name         the full property name
+     * @param defaultValue the value to use when the property is not set
+     * @return the resolved flag
+     */
+    public static boolean getBoolean(String name, boolean defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Returns the comma-separated values of the given property.
+     *
+     * @param name the full property name
+     * @return the trimmed, non-blank values, empty if the property is not set
+     */
+    public static List<String> getList(String name) {
+        String value = get(name);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(element -> !element.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Returns the integer value of the given property.
+     *
+     * @param name         the full property name
+     * @param defaultValue the value to use when the property is not set
+     * @return the resolved value
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public static int getInt(String name, int defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Property %s must be an integer, got '%s'".formatted(name, value), ex);
+        }
+    }
+
+    /**
+     * Returns the decimal value of the given property.
+     *
+     * @param name         the full property name
+     * @param defaultValue the value to use when the property is not set
+     * @return the resolved value
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public static double getDouble(String name, double defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Property %s must be a number, got '%s'".formatted(name, value), ex);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -40,6 +43,8 @@ public class ContextCacheMetricsRegistry {
     private static final Logger log = LoggerFactory.getLogger(ContextCacheMetricsRegistry.class);
 
     private static final Map<TestContextKey, TestContextHistory> CACHE_MISS_INFO_METRICS = new ConcurrentHashMap<>();
+    private static final Map<TestContextKey, List<ContextRemoval>> REMOVALS = new ConcurrentHashMap<>();
+    private static final CacheCostRollup ROLLUP = new CacheCostRollup();
     private static final String ANSI_GREEN = "\u001B[32m";
     private static final String ANSI_COLOR_END = "\u001B[0m";
 
@@ -52,6 +57,8 @@ public class ContextCacheMetricsRegistry {
     public static void clear() {
         log.debug("[OCC] clearing misses records");
         CACHE_MISS_INFO_METRICS.clear();
+        REMOVALS.clear();
+        ROLLUP.clear();
     }
 
     private ContextCacheMetricsRegistry() {
@@ -76,18 +83,19 @@ public class ContextCacheMetricsRegistry {
             TestContextHistory.Events contextBuild = TestContextHistory.Events.buildInitial(context);
 
             CACHE_MISS_INFO_METRICS.put(key, TestContextHistory.withFirst(contextBuild));
+            ROLLUP.recordBuild(key.testClass(), contextBuild.fingerprint());
             return;
         }
 
+        TestContextHistory.Events contextRebuild = TestContextHistory.Events.newMiss(context);
         CACHE_MISS_INFO_METRICS.compute(key, (testClass, history) -> {
             if (history == null) {
-                TestContextHistory.Events contextBuild = TestContextHistory.Events.newMiss(context);
-                return TestContextHistory.withFirst(contextBuild);
+                return TestContextHistory.withFirst(contextRebuild);
             }
 
-            TestContextHistory.Events contextRebuild = TestContextHistory.Events.newMiss(context);
             return history.withNew(contextRebuild);
         });
+        ROLLUP.recordBuild(key.testClass(), contextRebuild.fingerprint());
 
         log.info("[OCC] Cache miss recorded for {}", key.testClass().getSimpleName());
     }
@@ -116,6 +124,25 @@ public class ContextCacheMetricsRegistry {
     }
 
 
+    /**
+     * Records the time spent building the context of a previously recorded cache miss.
+     * <p>
+     * The duration is attached to the matching {@link EventType#BUILD} or {@link EventType#REBUILD}
+     * event of the test class. Loads without a recorded miss are ignored.
+     *
+     * @param config       the merged test configuration of the context that finished loading
+     * @param loadDuration the time elapsed between the cache miss and the context being cached
+     */
+    public static void recordLoad(MergedContextConfiguration config, Duration loadDuration) {
+        TestContextKey key = new TestContextKey(config.getTestClass());
+        if (CACHE_MISS_INFO_METRICS.computeIfPresent(key, (testClass, history) -> history.withLoadDuration(config, loadDuration)) != null) {
+            ROLLUP.recordLoad(key.testClass(), loadDuration);
+        }
+
+        log.debug("[OCC] Context load of {} ms recorded for {}", loadDuration.toMillis(), key);
+    }
+
+
     /**
      * Returns an immutable snapshot of all context load events recorded so far.
      * <p>
@@ -130,5 +157,43 @@ public class ContextCacheMetricsRegistry {
         return Map.copyOf(CACHE_MISS_INFO_METRICS);
     }
 
+    /**
+     * Records a context that left the cache and was closed.
+     * <p>
+     * Removals are kept apart from the load events of {@link #snapshot()}, keyed by
+     * {@link ContextRemoval#testClass()}, so that the cost of {@code @DirtiesContext} can be attributed
+     * to the test classes that dirty their context.
+     *
+     * @param removal the removal to record
+     */
+    public static void recordRemoval(ContextRemoval removal) {
+        TestContextKey key = new TestContextKey(removal.testClass());
+        REMOVALS.compute(key, (testClass, removals) -> {
+            List<ContextRemoval> updated = removals == null ? new ArrayList<>() : new ArrayList<>(removals);
+            updated.add(removal);
+            return List.copyOf(updated);
+        });
+
+        log.debug("[OCC] Context {} closed in {} ms for {}", removal.cause(), removal.closeDuration().toMillis(), key);
+    }
 
+    /**
+     * Returns an immutable snapshot of the context removals recorded so far, by test class.
+     *
+     * @return a read-only view of the recorded removals
+     */
+    public static Map<TestContextKey, List<ContextRemoval>> removals() {
+        return Map.copyOf(REMOVALS);
+    }
+
+    /**
+     * Returns the context build cost recorded so far, rolled up by module and package.
+     * <p>
+     * The roll-up is maintained as builds are recorded, so this does not walk the registry.
+     *
+     * @return the build cost by module and package
+     */
+    public static CacheCostRollup.Rollup rollup() {
+        return ROLLUP.snapshot();
+    }
 }
@@ -0,0 +1,14 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted by {@link ObservableContextCache#get} on a cache miss.
+ */
+@Name("dev.silentcraft.ContextCacheMiss")
+@Label("Context Cache Miss")
+@Description("No ApplicationContext was cached for the configuration")
+final class ContextCacheMissEvent extends ContextCacheJfrEvent {
+}
@@ -1,5 +1,7 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
+import java.time.Duration;
+
 import org.springframework.test.context.MergedContextConfiguration;
 
 /**
@@ -43,4 +45,42 @@ public interface ContextCacheMissesListener {
      * @param key the merged configuration that produced the cache hit
      */
     void onCacheHit(MergedContextConfiguration key);
+
+    /**
+     * Invoked once a context that previously missed the cache has been built and stored in it.
+     * <p>
+     * The default implementation does nothing, so existing listeners keep compiling.
+     *
+     * @param key          the merged configuration of the context that was loaded
+     * @param loadDuration the time elapsed between the cache miss and the context being stored
+     */
+    default void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+    }
+
+    /**
+     * Invoked once a context built in the background by a {@link ContextPrewarmer} has been stored in the cache for
+     * the test class that missed it.
+     * <p>
+     * Only {@code waited} blocked the test thread, the rest of the build overlapped with test execution. The default
+     * implementation reports it through {@link #onContextLoaded} with {@code waited} as load duration.
+     *
+     * @param key           the merged configuration of the prewarmed context
+     * @param buildDuration the time spent building the context in the background
+     * @param waited        the part of the build the test thread waited for
+     */
+    default void onContextPrewarmed(MergedContextConfiguration key, Duration buildDuration, Duration waited) {
+        onContextLoaded(key, waited);
+    }
+
+    /**
+     * Invoked once a context that left the cache, through {@code @DirtiesContext} or eviction, has been closed.
+     * <p>
+     * May be invoked from a background thread when contexts are closed asynchronously.
+     * The default implementation does nothing, so existing listeners keep compiling.
+     *
+     * @param removal the removed context, with the time spent closing it
+     * @see AsyncClosingContextCache
+     */
+    default void onContextRemoved(ContextRemoval removal) {
+    }
 }
@@ -0,0 +1,22 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted by {@link ObservableContextCache#put} when a context is stored in the cache.
+ */
+@Name("dev.silentcraft.ContextCachePut")
+@Label("Context Cache Put")
+@Description("An ApplicationContext was stored in the cache")
+final class ContextCachePutEvent extends ContextCacheJfrEvent {
+
+    @Label("Cache Size")
+    @Description("Number of contexts in the cache after the put")
+    int cacheSize;
+
+    @Label("Evicted Contexts")
+    @Description("Number of contexts the cache evicted to make room for this one")
+    int evicted;
+}
@@ -0,0 +1,19 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR duration event spanning {@link ObservableContextCache#remove}, typically driven by
+ * {@code @DirtiesContext}. Its duration includes closing the removed contexts.
+ */
+@Name("dev.silentcraft.ContextCacheRemove")
+@Label("Context Cache Remove")
+@Description("An ApplicationContext was removed from the cache and closed")
+final class ContextCacheRemoveEvent extends ContextCacheJfrEvent {
+
+    @Label("Hierarchy Mode")
+    @Description("How the removal propagated through a context hierarchy")
+    String hierarchyMode;
+}
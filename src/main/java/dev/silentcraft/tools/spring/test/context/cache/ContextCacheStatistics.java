@@ -0,0 +1,158 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * {@link ContextCacheMissesListener} keeping running totals of the cache activity, exposed over JMX as a
+ * {@link ContextCacheMXBean}.
+ * <p>
+ * Every callback only updates {@link LongAdder}s and atomic counters, and the attributes are read from them and
+ * from the size and pending loads of the cache: watching a run never takes a
+ * {@link ContextCacheMetricsRegistry#snapshot() snapshot} of the registry nor slows the tests down. Only
+ * {@link #getTopOffenders()} walks the per-class counters, when a client asks for it.
+ *
+ * <pre>{@code
+ * ContextCacheStatistics.register(CacheAwareSpringBootTestBootstrapper.observableContextCache());
+ * }</pre>
+ *
+ * @see ContextCacheMetricsProperties#JMX_ENABLED
+ */
+public final class ContextCacheStatistics implements ContextCacheMissesListener, ContextCacheMXBean {
+
+    /**
+     * JMX name under which the statistics are registered.
+     */
+    public static final String OBJECT_NAME = "dev.silentcraft.tools:type=ContextCache";
+
+    private static final Logger log = LoggerFactory.getLogger(ContextCacheStatistics.class);
+    private static final int TOP_OFFENDERS = 5;
+    private static volatile ContextCacheStatistics registered;
+
+    private final ObservableContextCache cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+    private final Map<Class<?>, ClassBuilds> buildsByTestClass = new ConcurrentHashMap<>();
+
+    ContextCacheStatistics(ObservableContextCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Starts collecting statistics of the given cache and registers them in the platform MBean server.
+     * <p>
+     * Registration happens once per JVM; later calls return the registered statistics.
+     *
+     * @param cache the cache to observe
+     * @return the registered statistics
+     */
+    public static synchronized ContextCacheStatistics register(ObservableContextCache cache) {
+        if (registered != null) {
+            return registered;
+        }
+        ContextCacheStatistics statistics = new ContextCacheStatistics(cache);
+        cache.registerListener(statistics);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(statistics, name);
+                log.info("[OCC] Context cache statistics available over JMX as {}", OBJECT_NAME);
+            }
+        } catch (JMException ex) {
+            log.warn("[OCC] Could not register context cache statistics as {}", OBJECT_NAME, ex);
+        }
+        registered = statistics;
+        return statistics;
+    }
+
+    @Override
+    public void onCacheMiss(MergedContextConfiguration key) {
+        misses.increment();
+    }
+
+    @Override
+    public void onCacheHit(MergedContextConfiguration key) {
+        hits.increment();
+    }
+
+    @Override
+    public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+        long nanos = loadDuration.toNanos();
+        buildNanos.add(nanos);
+        ClassBuilds classBuilds = buildsByTestClass.computeIfAbsent(key.getTestClass(), testClass -> new ClassBuilds());
+        classBuilds.builds.increment();
+        classBuilds.nanos.add(nanos);
+    }
+
+    @Override
+    public int getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public int getParentContextCount() {
+        return cache.getParentContextCount();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public int getBuildsInProgress() {
+        return cache.pendingLoadCount();
+    }
+
+    @Override
+    public long getCumulativeBuildMillis() {
+        return Duration.ofNanos(buildNanos.sum()).toMillis();
+    }
+
+    @Override
+    public List<String> getTopOffenders() {
+        return buildsByTestClass.entrySet().stream()
+                .map(entry -> new Offender(entry.getKey().getName(), entry.getValue().builds.sum(), entry.getValue().nanos.sum()))
+                .sorted(Comparator.comparingLong(Offender::nanos).reversed().thenComparing(Offender::testClass))
+                .limit(TOP_OFFENDERS)
+                .map(offender -> String.format(Locale.ROOT, "%s: %d builds, %.1f s", offender.testClass(), offender.builds(),
+                        offender.nanos() / 1e9))
+                .toList();
+    }
+
+    private static final class ClassBuilds {
+        private final LongAdder builds = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    private record Offender(String testClass, long builds, long nanos) {
+    }
+}
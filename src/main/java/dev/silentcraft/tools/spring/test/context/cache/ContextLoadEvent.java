@@ -0,0 +1,16 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR duration event spanning the build of an {@code ApplicationContext}, from the cache miss
+ * reported by {@link ObservableContextCache#get} to the context being stored by
+ * {@link ObservableContextCache#put}.
+ */
+@Name("dev.silentcraft.ContextLoad")
+@Label("Context Load")
+@Description("An ApplicationContext was built after a cache miss")
+final class ContextLoadEvent extends ContextCacheJfrEvent {
+}
@@ -0,0 +1,207 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.DefaultCacheAwareContextLoaderDelegate;
+import org.springframework.test.context.cache.DefaultContextCache;
+
+/**
+ * Builds the contexts the test plan will need next on background virtual threads, while the current
+ * test class runs.
+ * <p>
+ * Given the configurations of the test plan in execution order, every lookup of
+ * {@link ObservableContextCache} {@link #advance advances} the prewarmer to the configuration being looked
+ * up, and the next configurations that are neither cached nor already being built are started, up to the
+ * configured concurrency. When the plan reaches a prewarmed configuration, {@link #take} hands the context
+ * over to the cache, waiting for the build to complete if needed.
+ *
+ * <h2>Isolation</h2>
+ * Prewarmed contexts are built through a private {@link DefaultCacheAwareContextLoaderDelegate} and
+ * {@link DefaultContextCache}, so that a build never holds the lock Spring's delegate keeps on the shared cache
+ * while it loads a context. Configurations with a parent context are never prewarmed, since their parent
+ * must come from the shared cache.
+ *
+ * <h2>Memory Ceiling</h2>
+ * No build is started while the used heap exceeds the configured share of the maximum heap. Prewarmed
+ * contexts that are never taken are closed by {@link #close()}.
+ *
+ * @see ContextCacheMetricsProperties#PREWARM_ENABLED
+ */
+public final class ContextPrewarmer implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ContextPrewarmer.class);
+
+    private final List<MergedContextConfiguration> plan;
+    private final int concurrency;
+    private final double maxHeapUsage;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("occ-prewarm-", 0).factory());
+    private final Map<MergedContextConfiguration, CompletableFuture<Prewarm>> prewarms = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger taken = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Set<MergedContextConfiguration> skippedForMemory = ConcurrentHashMap.newKeySet();
+    private final AtomicLong hiddenNanos = new AtomicLong();
+
+    /**
+     * Creates a prewarmer for the given plan.
+     *
+     * @param plan         the configurations of the test plan, in execution order; duplicates are ignored
+     * @param concurrency  the maximum number of contexts built in the background at the same time
+     * @param maxHeapUsage the share of the maximum heap above which no build is started, between 0 and 1
+     */
+    public ContextPrewarmer(List<MergedContextConfiguration> plan, int concurrency, double maxHeapUsage) {
+        this.plan = List.copyOf(new LinkedHashSet<>(plan));
+        this.concurrency = Math.max(1, concurrency);
+        this.maxHeapUsage = maxHeapUsage;
+    }
+
+    /**
+     * Starts building the configurations following {@code current} in the plan, skipping those the given
+     * predicate reports as cached.
+     *
+     * @param current the configuration being looked up, or {@code null} to start from the beginning of the plan
+     * @param cached  tells whether a configuration is already in the shared cache
+     */
+    public void advance(MergedContextConfiguration current, Predicate<MergedContextConfiguration> cached) {
+        int position = current == null ? -1 : plan.indexOf(current);
+        for (int i = position + 1; i < plan.size() && inFlight.get() < concurrency; i++) {
+            MergedContextConfiguration next = plan.get(i);
+            if (next.getParent() != null || cached.test(next) || prewarms.containsKey(next)) {
+                continue;
+            }
+            if (heapUsage() > maxHeapUsage) {
+                skippedForMemory.add(next);
+                return;
+            }
+            start(next);
+        }
+    }
+
+    /**
+     * Removes the prewarmed context of the given configuration, waiting for its build to complete.
+     *
+     * @param key the configuration looked up by the test plan
+     * @return the prewarmed context, or {@code null} if it was not prewarmed or its build failed
+     */
+    public Prewarmed take(MergedContextConfiguration key) {
+        CompletableFuture<Prewarm> future = prewarms.remove(key);
+        if (future == null) {
+            return null;
+        }
+        long waitStart = System.nanoTime();
+        try {
+            Prewarm prewarm = future.join();
+            Duration waited = Duration.ofNanos(System.nanoTime() - waitStart);
+            Duration hidden = prewarm.buildDuration().minus(waited);
+            if (hidden.isNegative()) {
+                hidden = Duration.ZERO;
+            }
+            taken.incrementAndGet();
+            hiddenNanos.addAndGet(hidden.toNanos());
+            log.debug("[OCC] {} context prewarmed, {} ms of {} hidden", key.getTestClass().getSimpleName(),
+                    hidden.toMillis(), prewarm.buildDuration().toMillis());
+            return new Prewarmed(prewarm.context(), prewarm.buildDuration(), hidden);
+        } catch (CompletionException ex) {
+            failed.incrementAndGet();
+            log.debug("[OCC] Prewarming {} failed, loading it again", key.getTestClass().getSimpleName(), ex.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the prewarming statistics so far.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(started.get(), taken.get(), failed.get(), skippedForMemory.size(), Duration.ofNanos(hiddenNanos.get()));
+    }
+
+    /**
+     * Stops prewarming, waits for the builds in progress and closes every context that was never taken.
+     */
+    @Override
+    public void close() {
+        executor.close();
+        List<CompletableFuture<Prewarm>> leftovers = new ArrayList<>(prewarms.values());
+        prewarms.clear();
+        for (CompletableFuture<Prewarm> leftover : leftovers) {
+            Prewarm prewarm = leftover.getNow(null);
+            if (prewarm != null && prewarm.context() instanceof ConfigurableApplicationContext context) {
+                context.close();
+            }
+        }
+    }
+
+    private void start(MergedContextConfiguration config) {
+        inFlight.incrementAndGet();
+        started.incrementAndGet();
+        prewarms.put(config, CompletableFuture.supplyAsync(() -> {
+            try {
+                long start = System.nanoTime();
+                ApplicationContext context = new DefaultCacheAwareContextLoaderDelegate(new DefaultContextCache()).loadContext(config);
+                return new Prewarm(context, Duration.ofNanos(System.nanoTime() - start));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, executor));
+        log.debug("[OCC] Prewarming context of {}", config.getTestClass().getSimpleName());
+    }
+
+    private static double heapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+    }
+
+    private record Prewarm(ApplicationContext context, Duration buildDuration) {
+    }
+
+    /**
+     * A context built ahead of time.
+     *
+     * @param context       the prewarmed context
+     * @param buildDuration the time spent building it
+     * @param hidden        the part of the build that overlapped with test execution
+     */
+    public record Prewarmed(ApplicationContext context, Duration buildDuration, Duration hidden) {
+
+        /**
+         * Returns the part of the build the test thread waited for.
+         *
+         * @return the build time not hidden behind test execution
+         */
+        public Duration waited() {
+            return buildDuration.minus(hidden);
+        }
+    }
+
+    /**
+     * Prewarming statistics of a test plan.
+     *
+     * @param started          the number of contexts built in the background
+     * @param taken            the number of prewarmed contexts used by the plan
+     * @param failed           the number of background builds that failed
+     * @param skippedForMemory the number of configurations whose build was held back by the memory ceiling, each counted once
+     * @param hidden           the load time hidden behind test execution
+     */
+    public record Stats(int started, int taken, int failed, int skippedForMemory, Duration hidden) {
+    }
+}
@@ -0,0 +1,66 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * A context that left the cache and was closed.
+ *
+ * @param testClass     the test class of the removed configuration: the class that dirtied it for a
+ *                      {@link Cause#REMOVED} context, the class that built it for an evicted one
+ * @param fingerprint   the {@link ConfigurationFingerprint} of the removed configuration
+ * @param cause         why the context left the cache
+ * @param hierarchyMode the hierarchy mode of a {@link Cause#REMOVED} context, {@code null} for an evicted one
+ * @param timestamp     when the context left the cache, before it was closed
+ * @param closeDuration the time spent closing the context
+ */
+public record ContextRemoval(Class<?> testClass, String fingerprint, Cause cause, DirtiesContext.HierarchyMode hierarchyMode,
+                             Instant timestamp, Duration closeDuration) {
+
+    /**
+     * Creates a removal of the given configuration.
+     *
+     * @param key           the removed configuration
+     * @param cause         why the context left the cache
+     * @param hierarchyMode the hierarchy mode of the removal, {@code null} for an eviction
+     * @param timestamp     when the context left the cache
+     * @param closeDuration the time spent closing the context
+     * @return a new {@code ContextRemoval}
+     */
+    public static ContextRemoval of(MergedContextConfiguration key, Cause cause, DirtiesContext.HierarchyMode hierarchyMode,
+                                    Instant timestamp, Duration closeDuration) {
+        return new ContextRemoval(key.getTestClass(), ConfigurationFingerprint.of(key), cause, hierarchyMode, timestamp, closeDuration);
+    }
+
+    /**
+     * Why a context left the cache.
+     */
+    public enum Cause {
+
+        /**
+         * Removed through {@link org.springframework.test.context.cache.ContextCache#remove}, typically because
+         * of {@code @DirtiesContext}.
+         */
+        REMOVED,
+
+        /**
+         * Evicted by the least recently used policy because the cache reached its maximum size.
+         */
+        EVICTED,
+
+        /**
+         * Closed by the {@link EarlyContextEvictor} because no remaining test class of the plan needs it.
+         */
+        EARLY_EVICTED,
+
+        /**
+         * Closed because the classpath changed since the context was built.
+         *
+         * @see ObservableContextCache#invalidateAll()
+         */
+        INVALIDATED
+    }
+}
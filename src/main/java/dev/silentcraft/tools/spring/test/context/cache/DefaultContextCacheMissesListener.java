@@ -1,5 +1,7 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.test.context.MergedContextConfiguration;
@@ -13,7 +15,7 @@ import org.springframework.test.context.MergedContextConfiguration;
  * any {@code ApplicationContext} is loaded.
  * <p>
  * The recorded data includes the test class, involved configuration classes, active profiles,
- * and the timestamp of each event.
+ * the timestamp of each event and, for context loads, the time spent building the context.
  *
  * <h2>Metrics Access</h2>
  * Collected metrics are accessible after the test suite via:
@@ -48,4 +50,14 @@ public class DefaultContextCacheMissesListener implements ContextCacheMissesList
     public void onCacheHit(MergedContextConfiguration hit) {
         ContextCacheMetricsRegistry.recordHit(hit);
     }
+
+    @Override
+    public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+        ContextCacheMetricsRegistry.recordLoad(key, loadDuration);
+    }
+
+    @Override
+    public void onContextRemoved(ContextRemoval removal) {
+        ContextCacheMetricsRegistry.recordRemoval(removal);
+    }
 }
@@ -0,0 +1,103 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * Closes cached contexts as soon as no remaining test class of the plan needs them.
+ * <p>
+ * {@code DefaultContextCache} keeps a context until the LRU policy pushes it out or the JVM exits, holding
+ * heap, threads and connection pools long after its last test class ran. Given the number of test classes of
+ * the plan using each configuration, this evictor counts them down as they finish and, when a configuration
+ * has no remaining user, removes its context from the cache on a background thread.
+ *
+ * <h2>Locking</h2>
+ * Removals synchronize on the {@link ObservableContextCache}, the monitor Spring's
+ * {@code DefaultCacheAwareContextLoaderDelegate} holds while it loads or closes contexts, so an eviction
+ * never interleaves with a lookup.
+ * <p>
+ * Configurations taking part in a context hierarchy are never evicted early, since a parent may still be
+ * needed by a child the plan does not know about.
+ *
+ * @see ContextCacheMetricsProperties#EARLY_EVICTION_ENABLED
+ */
+public final class EarlyContextEvictor implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(EarlyContextEvictor.class);
+
+    private final ObservableContextCache cache;
+    private final Map<MergedContextConfiguration, AtomicInteger> remainingUsers = new HashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("occ-early-eviction").daemon().factory());
+    private final AtomicInteger evicted = new AtomicInteger();
+
+    /**
+     * Creates an evictor for the given plan.
+     *
+     * @param cache the cache to evict from
+     * @param users the number of test classes of the plan using each configuration
+     */
+    public EarlyContextEvictor(ObservableContextCache cache, Map<MergedContextConfiguration, Integer> users) {
+        this.cache = cache;
+        Set<MergedContextConfiguration> parents = new HashSet<>();
+        users.keySet().forEach(config -> {
+            for (MergedContextConfiguration parent = config.getParent(); parent != null; parent = parent.getParent()) {
+                parents.add(parent);
+            }
+        });
+        users.forEach((config, count) -> {
+            if (config.getParent() == null && !parents.contains(config)) {
+                remainingUsers.put(config, new AtomicInteger(count));
+            }
+        });
+    }
+
+    /**
+     * Records that a test class using the given configuration has finished, evicting its context if it
+     * was the last one.
+     *
+     * @param config the configuration of the finished test class
+     */
+    public void release(MergedContextConfiguration config) {
+        AtomicInteger users = remainingUsers.get(config);
+        if (users != null && users.decrementAndGet() == 0) {
+            executor.execute(() -> evict(config));
+        }
+    }
+
+    /**
+     * Returns the number of contexts evicted so far.
+     *
+     * @return the number of early evictions
+     */
+    public int evictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Waits for the pending evictions and stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private void evict(MergedContextConfiguration config) {
+        synchronized (cache) {
+            if (!cache.contains(config)) {
+                return;
+            }
+            cache.remove(config, DirtiesContext.HierarchyMode.CURRENT_LEVEL, ContextRemoval.Cause.EARLY_EVICTED);
+        }
+        evicted.incrementAndGet();
+        log.debug("[OCC] Context of {} closed, no remaining test class needs it", config.getTestClass().getSimpleName());
+    }
+}
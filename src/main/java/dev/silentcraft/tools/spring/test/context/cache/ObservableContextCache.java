@@ -1,15 +1,27 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.SpringVersion;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
 import org.springframework.test.context.cache.ContextCache;
 import org.springframework.test.context.cache.DefaultContextCache;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link ContextCache} implementation that wraps the default {@link DefaultContextCache}
@@ -49,6 +61,39 @@ import org.springframework.test.context.cache.DefaultContextCache;
  * }
  * }</pre>
  *
+ * <h2>Load Timing</h2>
+ * A miss is always followed by the loader building the context and storing it with
+ * {@link #put(MergedContextConfiguration, ApplicationContext)}. The time elapsed between the two
+ * is reported to listeners through {@link ContextCacheMissesListener#onContextLoaded}.
+ *
+ * <h2>Prewarming</h2>
+ * When a {@link ContextPrewarmer} is set through {@link #prewarmWith(ContextPrewarmer)}, every lookup lets it
+ * start building the next configurations of the plan in the background. A lookup of a prewarmed configuration
+ * stores the prewarmed context and returns it; listeners still see a cache miss, followed by
+ * {@link ContextCacheMissesListener#onContextPrewarmed} with the build time and the part of it the test thread
+ * waited for, which is the only part reported as a load by default.
+ *
+ * <h2>Removals</h2>
+ * Every context removed through {@link #remove} is timed while it closes and reported to listeners through
+ * {@link ContextCacheMissesListener#onContextRemoved}. When the delegate is an {@link AsyncClosingContextCache},
+ * removals return as soon as the context is detached, and listeners are notified from the background thread once
+ * it is closed, including for contexts evicted by the least recently used policy.
+ *
+ * <h2>Pinning</h2>
+ * Contexts built by a {@link PinnedContext} test class, or whose fingerprint is listed in
+ * {@link ContextCacheMetricsProperties#PINNED_FINGERPRINTS}, are kept in this cache rather than in the delegate, so
+ * that its least recently used policy never evicts them. They do not count towards the delegate's maximum size and
+ * only leave the cache through {@link #remove}. Their hits are counted separately, see {@link #pinnedHits()}.
+ * A context built for a class without {@link PinnedContext} is promoted on the first hit from an annotated class:
+ * it is taken out of the delegate without being closed and kept pinned from then on. Configurations with a parent
+ * context, and contexts that are the parent of another cached context, are never pinned.
+ *
+ * <h2>Java Flight Recorder</h2>
+ * Hits, misses, puts (with the number of evicted contexts), removals and context loads are emitted
+ * as JFR events under the <em>Spring Test / Context Cache</em> category, carrying the test class
+ * and the {@link ConfigurationFingerprint} of the configuration. They are only populated when a
+ * recording enables them.
+ *
  * <h2>Thread Safety</h2>
  * Listener registration is thread-safe thanks to the use of a {@link CopyOnWriteArraySet}.
  *
@@ -60,17 +105,42 @@ import org.springframework.test.context.cache.DefaultContextCache;
 public final class ObservableContextCache implements ContextCache {
 
     private static final Logger log = LoggerFactory.getLogger(ObservableContextCache.class);
+    private static final Field DEFAULT_CONTEXT_MAP = defaultContextCacheField("contextMap");
+    private static final Field DEFAULT_HIERARCHY_MAP = defaultContextCacheField("hierarchyMap");
+    private static final boolean DEFAULT_CONTEXT_CACHE_DETACHABLE = defaultContextCacheDetachable();
 
     private final ContextCache delegate;
     private final Set<ContextCacheMissesListener> listeners = new CopyOnWriteArraySet<>();
+    private final Map<MergedContextConfiguration, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+    private final Set<String> pinnedFingerprints;
+    private final Map<MergedContextConfiguration, ApplicationContext> pinned = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pinnedHits = new ConcurrentHashMap<>();
+    private final Set<MergedContextConfiguration> storedKeys = ConcurrentHashMap.newKeySet();
+    private volatile ContextPrewarmer prewarmer;
 
     /**
-     * Constructs an {@code ObservableContextCache} that wraps the given {@link ContextCache} delegate.
+     * Constructs an {@code ObservableContextCache} that wraps the given {@link ContextCache} delegate, pinning the
+     * fingerprints listed in {@link ContextCacheMetricsProperties#PINNED_FINGERPRINTS}.
      *
      * @param delegate the underlying {@code ContextCache} to decorate and observe
      */
     public ObservableContextCache(ContextCache delegate) {
+        this(delegate, Set.copyOf(ContextCacheMetricsProperties.getList(ContextCacheMetricsProperties.PINNED_FINGERPRINTS)));
+    }
+
+    /**
+     * Constructs an {@code ObservableContextCache} that wraps the given {@link ContextCache} delegate.
+     *
+     * @param delegate           the underlying {@code ContextCache} to decorate and observe
+     * @param pinnedFingerprints the {@link ConfigurationFingerprint}s of the contexts to pin, on top of those built by
+     *                           {@link PinnedContext} test classes
+     */
+    public ObservableContextCache(ContextCache delegate, Set<String> pinnedFingerprints) {
         this.delegate = delegate;
+        this.pinnedFingerprints = Set.copyOf(pinnedFingerprints);
+        if (delegate instanceof AsyncClosingContextCache asyncClosing) {
+            asyncClosing.onRemoval(removal -> listeners.forEach(listener -> listener.onContextRemoved(removal)));
+        }
         log.debug("[OCC] New observableContextCache Created");
     }
 
@@ -96,17 +166,74 @@ public final class ObservableContextCache implements ContextCache {
         listeners.add(listener);
     }
 
+    /**
+     * Unregisters a listener previously passed to {@link #registerListener(ContextCacheMissesListener)}.
+     *
+     * @param listener the listener to unregister
+     */
+    public void unregisterListener(ContextCacheMissesListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts prewarming the contexts of the test plan with the given prewarmer, replacing any previous one.
+     *
+     * @param prewarmer the prewarmer to use, or {@code null} to stop prewarming
+     * @return the previous prewarmer, or {@code null} if none was set
+     */
+    public ContextPrewarmer prewarmWith(ContextPrewarmer prewarmer) {
+        ContextPrewarmer previous = this.prewarmer;
+        this.prewarmer = prewarmer;
+        return previous;
+    }
+
+    /**
+     * Returns the number of cache hits served by each pinned context.
+     *
+     * @return the hits by {@link ConfigurationFingerprint}, including pinned contexts never hit
+     * @see PinnedContext
+     */
+    public Map<String, Integer> pinnedHits() {
+        Map<String, Integer> hits = new HashMap<>();
+        pinnedHits.forEach((fingerprint, count) -> hits.put(fingerprint, count.get()));
+        return Map.copyOf(hits);
+    }
+
     @Override
     public boolean contains(MergedContextConfiguration key) {
-        return delegate.contains(key);
+        return pinned.containsKey(key) || delegate.contains(key);
     }
 
     @Override
     public ApplicationContext get(MergedContextConfiguration contextKey) {
-        ApplicationContext applicationContext = delegate.get(contextKey);
+        ContextPrewarmer currentPrewarmer = prewarmer;
+        ApplicationContext pinnedContext = pinned.get(contextKey);
+        ApplicationContext applicationContext = pinnedContext != null ? pinnedContext : delegate.get(contextKey);
+        if (applicationContext == null && currentPrewarmer != null) {
+            ContextPrewarmer.Prewarmed prewarmed = currentPrewarmer.take(contextKey);
+            if (prewarmed != null) {
+                store(contextKey, prewarmed.context());
+                commit(new ContextCacheMissEvent(), contextKey);
+                listeners.forEach(listener -> listener.onCacheMiss(contextKey));
+                listeners.forEach(listener -> listener.onContextPrewarmed(contextKey, prewarmed.buildDuration(), prewarmed.waited()));
+                currentPrewarmer.advance(contextKey, this::contains);
+                return prewarmed.context();
+            }
+        }
+        if (currentPrewarmer != null) {
+            currentPrewarmer.advance(contextKey, this::contains);
+        }
+        if (pinnedContext != null) {
+            pinnedHits.computeIfAbsent(ConfigurationFingerprint.of(contextKey), fingerprint -> new AtomicInteger()).incrementAndGet();
+        } else if (applicationContext != null && isPinned(contextKey)) {
+            promote(contextKey);
+        }
         if (applicationContext == null) {
+            pendingLoads.put(contextKey, PendingLoad.start(contextKey));
+            commit(new ContextCacheMissEvent(), contextKey);
             listeners.forEach(listener -> listener.onCacheMiss(contextKey));
         } else {
+            commit(new ContextCacheHitEvent(), contextKey);
             listeners.forEach(listener -> listener.onCacheHit(contextKey));
         }
 
@@ -115,17 +242,119 @@ public final class ObservableContextCache implements ContextCache {
 
     @Override
     public void put(MergedContextConfiguration key, ApplicationContext context) {
-        delegate.put(key, context);
+        ContextCachePutEvent putEvent = new ContextCachePutEvent();
+        if (putEvent.isEnabled()) {
+            int expectedSize = size() + (contains(key) ? 0 : 1);
+            store(key, context);
+            putEvent.cacheSize = size();
+            putEvent.evicted = Math.max(0, expectedSize - putEvent.cacheSize);
+            commit(putEvent, key);
+        } else {
+            store(key, context);
+        }
+
+        PendingLoad pendingLoad = pendingLoads.remove(key);
+        if (pendingLoad != null) {
+            Duration loadDuration = pendingLoad.complete();
+            listeners.forEach(listener -> listener.onContextLoaded(key, loadDuration));
+        }
     }
 
     @Override
     public void remove(MergedContextConfiguration key, DirtiesContext.HierarchyMode hierarchyMode) {
-        delegate.remove(key, hierarchyMode);
+        remove(key, hierarchyMode, ContextRemoval.Cause.REMOVED);
+    }
+
+    /**
+     * Removes and closes every cached context, pinned ones included.
+     * <p>
+     * Listeners are notified of each closed context with {@link ContextRemoval.Cause#INVALIDATED}.
+     *
+     * @return the number of contexts removed
+     * @see ClasspathFingerprint
+     */
+    public int invalidateAll() {
+        synchronized (this) {
+            int invalidated = 0;
+            for (MergedContextConfiguration key : List.copyOf(storedKeys)) {
+                if (contains(key)) {
+                    remove(key, DirtiesContext.HierarchyMode.CURRENT_LEVEL, ContextRemoval.Cause.INVALIDATED);
+                    invalidated++;
+                }
+            }
+            storedKeys.clear();
+            ConfigurationFingerprint.clear();
+            return invalidated;
+        }
+    }
+
+    void remove(MergedContextConfiguration key, DirtiesContext.HierarchyMode hierarchyMode, ContextRemoval.Cause cause) {
+        storedKeys.remove(key);
+        ContextCacheRemoveEvent removeEvent = new ContextCacheRemoveEvent();
+        removeEvent.begin();
+        MergedContextConfiguration root = key;
+        while (hierarchyMode == DirtiesContext.HierarchyMode.EXHAUSTIVE && root.getParent() != null) {
+            root = root.getParent();
+        }
+        ApplicationContext unpinned = pinned.remove(root);
+        if (delegate instanceof AsyncClosingContextCache asyncClosing && unpinned == null) {
+            asyncClosing.remove(key, hierarchyMode, cause);
+        } else {
+            // like the asynchronous path, only report a removal when a context was actually cached
+            boolean cached = unpinned != null || delegate.contains(key) || delegate.contains(root);
+            Instant timestamp = Instant.now();
+            long start = System.nanoTime();
+            delegate.remove(key, hierarchyMode);
+            if (unpinned instanceof ConfigurableApplicationContext configurable) {
+                configurable.close();
+            }
+            if (cached) {
+                ContextRemoval removal = ContextRemoval.of(key, cause, hierarchyMode, timestamp,
+                        Duration.ofNanos(System.nanoTime() - start));
+                listeners.forEach(listener -> listener.onContextRemoved(removal));
+            }
+        }
+        if (removeEvent.shouldCommit()) {
+            removeEvent.hierarchyMode = String.valueOf(hierarchyMode);
+            commit(removeEvent, key);
+        }
+    }
+
+    /**
+     * Waits until every context removed so far has been closed.
+     * <p>
+     * Returns immediately unless the delegate is an {@link AsyncClosingContextCache}.
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if all closes completed in time
+     */
+    public boolean awaitPendingCloses(Duration timeout) {
+        return !(delegate instanceof AsyncClosingContextCache asyncClosing) || asyncClosing.awaitPendingCloses(timeout);
+    }
+
+    @Override
+    public int getFailureCount(MergedContextConfiguration key) {
+        return delegate.getFailureCount(key);
+    }
+
+    @Override
+    public void incrementFailureCount(MergedContextConfiguration key) {
+        pendingLoads.remove(key);
+        delegate.incrementFailureCount(key);
+    }
+
+    /**
+     * Returns the number of contexts missed and not stored yet, failed loads excluded.
+     *
+     * @return the loads in progress
+     */
+    int pendingLoadCount() {
+        return pendingLoads.size();
     }
 
     @Override
     public int size() {
-        return delegate.size();
+        return delegate.size() + pinned.size();
     }
 
     @Override
@@ -135,7 +364,7 @@ public final class ObservableContextCache implements ContextCache {
 
     @Override
     public int getHitCount() {
-        return delegate.getHitCount();
+        return delegate.getHitCount() + pinnedHits.values().stream().mapToInt(AtomicInteger::get).sum();
     }
 
     @Override
@@ -145,16 +374,25 @@ public final class ObservableContextCache implements ContextCache {
 
     @Override
     public void reset() {
+        pendingLoads.clear();
+        pinned.clear();
+        pinnedHits.clear();
+        storedKeys.clear();
+        ConfigurationFingerprint.clear();
         delegate.reset();
     }
 
     @Override
     public void clear() {
+        pendingLoads.clear();
+        pinned.clear();
+        storedKeys.clear();
         delegate.clear();
     }
 
     @Override
     public void clearStatistics() {
+        pinnedHits.values().forEach(count -> count.set(0));
         delegate.clearStatistics();
     }
 
@@ -162,4 +400,125 @@ public final class ObservableContextCache implements ContextCache {
     public void logStatistics() {
         delegate.logStatistics();
     }
+
+    private void store(MergedContextConfiguration key, ApplicationContext context) {
+        storedKeys.add(key);
+        if (isPinned(key)) {
+            pinned.put(key, context);
+            pinnedHits.putIfAbsent(ConfigurationFingerprint.of(key), new AtomicInteger());
+        } else {
+            delegate.put(key, context);
+        }
+    }
+
+    /**
+     * Moves a context served by the delegate to the pinned contexts, without closing it.
+     */
+    private synchronized void promote(MergedContextConfiguration key) {
+        if (pinned.containsKey(key)) {
+            return;
+        }
+        ApplicationContext context = detachFromDelegate(key);
+        if (context != null) {
+            pinned.put(key, context);
+            pinnedHits.putIfAbsent(ConfigurationFingerprint.of(key), new AtomicInteger());
+            log.debug("[OCC] Pinned the context of {} on its first hit from a @PinnedContext class",
+                    key.getTestClass().getSimpleName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ApplicationContext detachFromDelegate(MergedContextConfiguration key) {
+        if (delegate instanceof AsyncClosingContextCache asyncClosing) {
+            return asyncClosing.detachWithoutClosing(key);
+        }
+        if (delegate instanceof DefaultContextCache && DEFAULT_CONTEXT_CACHE_DETACHABLE) {
+            Map<MergedContextConfiguration, ApplicationContext> contextMap =
+                    (Map<MergedContextConfiguration, ApplicationContext>) ReflectionUtils.getField(DEFAULT_CONTEXT_MAP, delegate);
+            Map<MergedContextConfiguration, ?> hierarchyMap =
+                    (Map<MergedContextConfiguration, ?>) ReflectionUtils.getField(DEFAULT_HIERARCHY_MAP, delegate);
+            synchronized (contextMap) {
+                return hierarchyMap.containsKey(key) ? null : contextMap.remove(key);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a field of Spring's {@code DefaultContextCache}, which offers no way of taking a context out without
+     * closing it.
+     */
+    private static Field defaultContextCacheField(String name) {
+        Field field = ReflectionUtils.findField(DefaultContextCache.class, name, Map.class);
+        if (field == null) {
+            return null;
+        }
+        try {
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        } catch (RuntimeException ex) {
+            log.debug("[OCC] DefaultContextCache#{} is not accessible", name, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Tells whether contexts can be taken out of Spring's {@code DefaultContextCache} to be pinned, warning once
+     * when this version of Spring no longer has the fields read to do so.
+     */
+    private static boolean defaultContextCacheDetachable() {
+        if (DEFAULT_CONTEXT_MAP != null && DEFAULT_HIERARCHY_MAP != null) {
+            return true;
+        }
+        log.warn("[OCC] DefaultContextCache of Spring {} has no accessible contextMap and hierarchyMap fields, "
+                + "contexts are only pinned by the @PinnedContext class that builds them", SpringVersion.getVersion());
+        return false;
+    }
+
+    /**
+     * Tells whether contexts built by non-pinned classes can be pinned on the hit of a {@code @PinnedContext} class
+     * with the {@code DefaultContextCache} of this version of Spring.
+     */
+    static boolean canDetachFromDefaultContextCache() {
+        return DEFAULT_CONTEXT_CACHE_DETACHABLE;
+    }
+
+    private boolean isPinned(MergedContextConfiguration key) {
+        return key.getParent() == null && (TestContextAnnotationUtils.hasAnnotation(key.getTestClass(), PinnedContext.class)
+                || !pinnedFingerprints.isEmpty() && pinnedFingerprints.contains(ConfigurationFingerprint.of(key)));
+    }
+
+    private static void commit(ContextCacheJfrEvent event, MergedContextConfiguration key) {
+        if (event.shouldCommit()) {
+            event.describe(key);
+            event.commit();
+        }
+    }
+
+    /**
+     * A context build in progress, started by a cache miss and completed by the matching put.
+     *
+     * @param startNanos the {@link System#nanoTime()} of the cache miss
+     * @param jfrEvent   the JFR load event spanning the build, {@code null} when JFR does not record it
+     */
+    private record PendingLoad(long startNanos, ContextLoadEvent jfrEvent) {
+
+        static PendingLoad start(MergedContextConfiguration key) {
+            ContextLoadEvent jfrEvent = new ContextLoadEvent();
+            if (!jfrEvent.isEnabled()) {
+                return new PendingLoad(System.nanoTime(), null);
+            }
+            jfrEvent.describe(key);
+            jfrEvent.begin();
+            return new PendingLoad(System.nanoTime(), jfrEvent);
+        }
+
+        Duration complete() {
+            Duration loadDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+            if (jfrEvent != null) {
+                jfrEvent.commit();
+            }
+            return loadDuration;
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pins the {@code ApplicationContext} of the annotated test class, so that the least recently used policy of
+ * the context cache never evicts it.
+ * <p>
+ * Meant for the context most of the suite shares, typically declared on a base test class: a burst of one-off
+ * configurations then no longer pushes it out of the cache, each eviction costing a full rebuild. The context is
+ * pinned when a class carrying this annotation builds it, or on the first hit from such a class when another class
+ * built it. Pinned contexts are kept by {@link ObservableContextCache}
+ * on top of {@code spring.test.context.cache.maxSize}; {@code @DirtiesContext} still removes and closes them.
+ * <p>
+ * Contexts can also be pinned by fingerprint through {@link ContextCacheMetricsProperties#PINNED_FINGERPRINTS}.
+ *
+ * <pre>
+ * &#64;PinnedContext
+ * &#64;CacheAwareSpringBootTest
+ * abstract class FullApplicationTest {
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface PinnedContext {
+}
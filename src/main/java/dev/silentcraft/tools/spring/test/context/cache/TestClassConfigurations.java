@@ -0,0 +1,48 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.test.context.BootstrapUtils;
+import org.springframework.test.context.BootstrapWith;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * Resolves the {@link MergedContextConfiguration} a test class will run with, before any of its tests is executed.
+ * <p>
+ * The configuration is built by the class's own {@code TestContextBootstrapper}, exactly as Spring does when the
+ * class is about to run; no context is loaded. Results are cached for the lifetime of the JVM.
+ */
+public final class TestClassConfigurations {
+
+    private static final Map<Class<?>, Optional<MergedContextConfiguration>> CONFIGURATIONS = new ConcurrentHashMap<>();
+
+    private TestClassConfigurations() {
+    }
+
+    /**
+     * Returns the merged configuration of the given test class.
+     * <p>
+     * Classes that are not Spring tests, i.e. not meta-annotated with {@link BootstrapWith}, and classes
+     * whose configuration cannot be resolved have none.
+     *
+     * @param testClass the test class to inspect
+     * @return the merged configuration, or {@code null} if the class has no resolvable Spring configuration
+     */
+    public static MergedContextConfiguration resolve(Class<?> testClass) {
+        return CONFIGURATIONS.computeIfAbsent(testClass, TestClassConfigurations::build).orElse(null);
+    }
+
+    private static Optional<MergedContextConfiguration> build(Class<?> testClass) {
+        if (!MergedAnnotations.from(testClass, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY).isPresent(BootstrapWith.class)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(BootstrapUtils.resolveTestContextBootstrapper(testClass).buildMergedContextConfiguration());
+        } catch (RuntimeException ex) {
+            return Optional.empty();
+        }
+    }
+}
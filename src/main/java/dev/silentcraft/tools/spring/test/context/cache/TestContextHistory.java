@@ -1,5 +1,6 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -90,6 +91,43 @@ public record TestContextHistory(List<Events> events) {
         return new TestContextHistory(allEvents);
     }
 
+    /**
+     * Returns a new {@code TestContextHistory} in which the most recent load event
+     * ({@link EventType#BUILD} or {@link EventType#REBUILD}) matching the given configuration
+     * and not yet timed carries the given load duration.
+     * <p>
+     * Returns {@code this} unchanged when no such event exists, e.g. when the load completed
+     * for a configuration whose miss was never recorded.
+     *
+     * @param config       the merged configuration of the context that finished loading
+     * @param loadDuration the time spent building the context
+     * @return a new {@code TestContextHistory} with the load duration applied
+     */
+    public TestContextHistory withLoadDuration(MergedContextConfiguration config, Duration loadDuration) {
+        String fingerprint = ConfigurationFingerprint.of(config);
+        for (int i = events.size() - 1; i >= 0; i--) {
+            Events event = events.get(i);
+            if (event.isLoad() && event.duration().isZero() && event.fingerprint().equals(fingerprint)) {
+                List<Events> allEvents = new ArrayList<>(events);
+                allEvents.set(i, event.withDuration(loadDuration));
+                return new TestContextHistory(allEvents);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the cumulated time spent building contexts for this test class.
+     *
+     * @return the sum of the durations of all load events, {@link Duration#ZERO} if none was timed
+     */
+    public Duration totalLoadDuration() {
+        return events.stream()
+                .filter(Events::isLoad)
+                .map(Events::duration)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+
     /**
      * Returns {@code true} if this context was loaded more than once during
      * the test suite execution, meaning Spring rebuilt the {@code ApplicationContext}
@@ -119,8 +157,12 @@ public record TestContextHistory(List<Events> events) {
      * @param timestamp      the time at which the event occurred
      * @param classes        the Spring configuration classes associated with the context
      * @param activeProfiles the active profiles in effect when the event occurred
+     * @param fingerprint    the {@link ConfigurationFingerprint} of the merged configuration, empty if unknown
+     * @param duration       the time spent building the context, {@link Duration#ZERO} for cache hits
+     *                       and for loads that have not completed yet
      */
-    public record Events(EventType type, Instant timestamp, List<String> classes, List<String> activeProfiles) {
+    public record Events(EventType type, Instant timestamp, List<String> classes, List<String> activeProfiles,
+                         String fingerprint, Duration duration) {
 
         /**
          * Constructs an immutable {@code Events} record.
@@ -129,12 +171,29 @@ public record TestContextHistory(List<Events> events) {
          * @param timestamp      the time at which the event occurred
          * @param classes        the Spring configuration classes associated with the context
          * @param activeProfiles the active profiles in effect when the event occurred
+         * @param fingerprint    the {@link ConfigurationFingerprint} of the merged configuration
+         * @param duration       the time spent building the context
          */
-        public Events(EventType type, Instant timestamp, List<String> classes, List<String> activeProfiles) {
+        public Events(EventType type, Instant timestamp, List<String> classes, List<String> activeProfiles,
+                      String fingerprint, Duration duration) {
             this.type = type;
             this.timestamp = timestamp;
             this.classes = List.copyOf(classes);
             this.activeProfiles = List.copyOf(activeProfiles);
+            this.fingerprint = fingerprint == null ? "" : fingerprint;
+            this.duration = duration == null ? Duration.ZERO : duration;
+        }
+
+        /**
+         * Constructs an immutable {@code Events} record with no fingerprint nor recorded duration.
+         *
+         * @param type           the {@link EventType} of this event
+         * @param timestamp      the time at which the event occurred
+         * @param classes        the Spring configuration classes associated with the context
+         * @param activeProfiles the active profiles in effect when the event occurred
+         */
+        public Events(EventType type, Instant timestamp, List<String> classes, List<String> activeProfiles) {
+            this(type, timestamp, classes, activeProfiles, "", Duration.ZERO);
         }
 
         /**
@@ -171,7 +230,9 @@ public record TestContextHistory(List<Events> events) {
                     Arrays.stream(config.getActiveProfiles())
                             .filter(profile -> !profile.isBlank())
                             .sorted()
-                            .toList()
+                            .toList(),
+                    ConfigurationFingerprint.of(config),
+                    Duration.ZERO
             );
         }
 
@@ -186,6 +247,26 @@ public record TestContextHistory(List<Events> events) {
         }
 
 
+        /**
+         * Returns a copy of this event carrying the given duration.
+         *
+         * @param duration the time spent building the context
+         * @return a new {@code Events} instance
+         */
+        public Events withDuration(Duration duration) {
+            return new Events(type, timestamp, classes, activeProfiles, fingerprint, duration);
+        }
+
+        /**
+         * Returns {@code true} if this event represents a context being built,
+         * i.e. a {@link EventType#BUILD} or a {@link EventType#REBUILD}.
+         *
+         * @return {@code true} for load events
+         */
+        public boolean isLoad() {
+            return type == EventType.BUILD || type == EventType.REBUILD;
+        }
+
         @Override
         public List<String> classes() {
             return List.copyOf(classes);
@@ -0,0 +1,112 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.time.Duration;
+
+import org.springframework.core.Conventions;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * Spring {@link org.springframework.test.context.TestExecutionListener} timing the other listeners around each test:
+ * the preparation of test instances, dependency injection included, and the before and after method callbacks, such
+ * as mock resets or transaction rollbacks.
+ * <p>
+ * A listener only sees its own callbacks, so the timing takes two instances registered by
+ * {@link CacheAwareSpringBootTestBootstrapper}: the {@link #opening()} one, ordered first, and the {@link #closing()}
+ * one, ordered last. Spring calls {@code prepareTestInstance} and {@code beforeTestMethod} in listener order and
+ * {@code afterTestMethod} in reverse order, so each callback is timed from the first of the two instances it reaches
+ * to the second. The start times are kept as attributes of the {@link TestContext}.
+ * <p>
+ * Only instances prepared with an already cached context are timed, since the preparation of the first instance also
+ * loads the context, whose build time the registry already records.
+ *
+ * @see TestInstanceOverheadRegistry
+ */
+public class TestInstanceOverheadListener extends AbstractTestExecutionListener {
+
+    private static final String PREPARATION_START = Conventions.getQualifiedAttributeName(TestInstanceOverheadListener.class,
+            "preparationStart");
+    private static final String BEFORE_METHOD_START = Conventions.getQualifiedAttributeName(TestInstanceOverheadListener.class,
+            "beforeMethodStart");
+    private static final String AFTER_METHOD_START = Conventions.getQualifiedAttributeName(TestInstanceOverheadListener.class,
+            "afterMethodStart");
+
+    private final boolean opening;
+
+    private TestInstanceOverheadListener(boolean opening) {
+        this.opening = opening;
+    }
+
+    /**
+     * Creates the listener ordered before every other listener.
+     *
+     * @return the opening listener
+     */
+    public static TestInstanceOverheadListener opening() {
+        return new TestInstanceOverheadListener(true);
+    }
+
+    /**
+     * Creates the listener ordered after every other listener.
+     *
+     * @return the closing listener
+     */
+    public static TestInstanceOverheadListener closing() {
+        return new TestInstanceOverheadListener(false);
+    }
+
+    /**
+     * Returns {@link Ordered#HIGHEST_PRECEDENCE} for the opening listener and {@link Ordered#LOWEST_PRECEDENCE} for
+     * the closing one.
+     *
+     * @return the order of this listener
+     */
+    @Override
+    public int getOrder() {
+        return opening ? Ordered.HIGHEST_PRECEDENCE : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void prepareTestInstance(TestContext testContext) {
+        if (opening) {
+            if (testContext.hasApplicationContext()) {
+                testContext.setAttribute(PREPARATION_START, System.nanoTime());
+            }
+        } else {
+            Duration elapsed = elapsedSince(testContext, PREPARATION_START);
+            if (elapsed != null) {
+                TestInstanceOverheadRegistry.recordPreparation(testContext.getTestClass(), elapsed);
+            }
+        }
+    }
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        if (opening) {
+            testContext.setAttribute(BEFORE_METHOD_START, System.nanoTime());
+        } else {
+            Duration elapsed = elapsedSince(testContext, BEFORE_METHOD_START);
+            if (elapsed != null) {
+                TestInstanceOverheadRegistry.recordBeforeMethod(testContext.getTestClass(), elapsed);
+            }
+        }
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        if (!opening) {
+            testContext.setAttribute(AFTER_METHOD_START, System.nanoTime());
+        } else {
+            Duration elapsed = elapsedSince(testContext, AFTER_METHOD_START);
+            if (elapsed != null) {
+                TestInstanceOverheadRegistry.recordAfterMethod(testContext.getTestClass(), elapsed);
+            }
+        }
+    }
+
+    private static Duration elapsedSince(TestContext testContext, String attribute) {
+        Object start = testContext.removeAttribute(attribute);
+        return start instanceof Long nanos ? Duration.ofNanos(System.nanoTime() - nanos) : null;
+    }
+}
@@ -0,0 +1,112 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the time Spring spends around each test of a class once its context is cached: preparing test
+ * instances and running the before and after method callbacks of its
+ * {@link org.springframework.test.context.TestExecutionListener}s.
+ * <p>
+ * Populated by {@link TestInstanceOverheadListener}. A cache hit saves the context build, but dependency injection,
+ * mock resets, transactions and the other listeners still run for every test instance and method; with
+ * {@code @TestInstance(PER_METHOD)} and many injected fields, that overhead adds up.
+ *
+ * <h2>Thread Safety</h2>
+ * Like {@link BeanUsageRegistry}, entries are immutable and updated atomically through {@link ConcurrentHashMap#merge}.
+ *
+ * @see TestInstanceOverheadListener
+ */
+public class TestInstanceOverheadRegistry {
+
+    private static final Map<TestContextKey, TestInstanceOverhead> OVERHEADS = new ConcurrentHashMap<>();
+
+    private TestInstanceOverheadRegistry() {
+    }
+
+    /**
+     * Clears all recorded overheads.
+     */
+    public static void clear() {
+        OVERHEADS.clear();
+    }
+
+    /**
+     * Records the preparation of a test instance whose context was already cached.
+     *
+     * @param testClass the test class
+     * @param duration  the time spent by the listeners preparing the instance
+     */
+    public static void recordPreparation(Class<?> testClass, Duration duration) {
+        OVERHEADS.merge(new TestContextKey(testClass), new TestInstanceOverhead(1, duration, 0, Duration.ZERO, Duration.ZERO),
+                TestInstanceOverhead::plus);
+    }
+
+    /**
+     * Records the before method callbacks of a test method.
+     *
+     * @param testClass the test class
+     * @param duration  the time spent by the listeners before the test method
+     */
+    public static void recordBeforeMethod(Class<?> testClass, Duration duration) {
+        OVERHEADS.merge(new TestContextKey(testClass), new TestInstanceOverhead(0, Duration.ZERO, 1, duration, Duration.ZERO),
+                TestInstanceOverhead::plus);
+    }
+
+    /**
+     * Records the after method callbacks of a test method.
+     *
+     * @param testClass the test class
+     * @param duration  the time spent by the listeners after the test method
+     */
+    public static void recordAfterMethod(Class<?> testClass, Duration duration) {
+        OVERHEADS.merge(new TestContextKey(testClass), new TestInstanceOverhead(0, Duration.ZERO, 0, Duration.ZERO, duration),
+                TestInstanceOverhead::plus);
+    }
+
+    /**
+     * Returns an immutable snapshot of the recorded overheads.
+     *
+     * @return the overhead of each test class
+     */
+    public static Map<TestContextKey, TestInstanceOverhead> snapshot() {
+        return Map.copyOf(OVERHEADS);
+    }
+
+    /**
+     * The time Spring spent around the tests of a class.
+     *
+     * @param preparedInstances the number of test instances prepared with a cached context
+     * @param preparation       the time spent preparing them
+     * @param testMethods       the number of test methods run
+     * @param beforeMethods     the time spent in the before method callbacks
+     * @param afterMethods      the time spent in the after method callbacks
+     */
+    public record TestInstanceOverhead(int preparedInstances, Duration preparation, int testMethods, Duration beforeMethods,
+                                       Duration afterMethods) {
+
+        /**
+         * Returns the whole overhead.
+         *
+         * @return the preparation and method callback time
+         */
+        public Duration total() {
+            return preparation.plus(beforeMethods).plus(afterMethods);
+        }
+
+        /**
+         * Returns the average overhead of a test method.
+         *
+         * @return the whole overhead divided by the number of test methods, {@link Duration#ZERO} if none ran
+         */
+        public Duration perTest() {
+            return testMethods == 0 ? Duration.ZERO : total().dividedBy(testMethods);
+        }
+
+        private TestInstanceOverhead plus(TestInstanceOverhead other) {
+            return new TestInstanceOverhead(preparedInstances + other.preparedInstances, preparation.plus(other.preparation),
+                    testMethods + other.testMethods, beforeMethods.plus(other.beforeMethods), afterMethods.plus(other.afterMethods));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring Boot test slices that can replace a full {@code @CacheAwareSpringBootTest} context
+ * when a test class only resolves beans belonging to one application layer.
+ *
+ * @see BeanUsageRegistry
+ */
+public enum TestSlice {
+
+    /**
+     * The test class only reaches the web layer: {@code @Controller} beans and their collaborators.
+     */
+    WEB_MVC("@WebMvcTest"),
+
+    /**
+     * The test class only reaches the persistence layer: repositories, {@code EntityManager} or {@code DataSource}.
+     */
+    DATA_JPA("@DataJpaTest"),
+
+    /**
+     * No slice matches: the class reaches several layers, or accesses the context directly.
+     */
+    NONE("");
+
+    private static final Set<String> DATA_TYPES = Set.of(
+            "org.springframework.data.repository.Repository",
+            "jakarta.persistence.EntityManager",
+            "jakarta.persistence.EntityManagerFactory",
+            "javax.sql.DataSource");
+
+    private final String annotation;
+
+    TestSlice(String annotation) {
+        this.annotation = annotation;
+    }
+
+    /**
+     * Returns the slice annotation to use in place of the full context, e.g. {@code @WebMvcTest}.
+     *
+     * @return the annotation name, empty for {@link #NONE}
+     */
+    public String annotation() {
+        return annotation;
+    }
+
+    /**
+     * Suggests the slice matching the types of the beans a test class depends on.
+     *
+     * @param beanTypes the types of every bean in the closure of the beans resolved by the test class
+     * @return {@link #WEB_MVC} when only the web layer is reached, {@link #DATA_JPA} when only the
+     * persistence layer is reached, {@link #NONE} otherwise
+     */
+    public static TestSlice suggest(Collection<Class<?>> beanTypes) {
+        boolean web = beanTypes.stream().anyMatch(type -> AnnotatedElementUtils.hasAnnotation(type, Controller.class));
+        boolean data = beanTypes.stream().anyMatch(TestSlice::isDataType);
+
+        if (web && !data) {
+            return WEB_MVC;
+        }
+        if (data && !web) {
+            return DATA_JPA;
+        }
+        return NONE;
+    }
+
+    private static boolean isDataType(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>(ClassUtils.getAllInterfacesForClassAsSet(type));
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        return hierarchy.stream().map(Class::getName).anyMatch(DATA_TYPES::contains);
+    }
+}
@@ -5,19 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serial;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
 import org.springframework.test.context.MergedContextConfiguration;
 
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import dev.silentcraft.tools.junit.execution.report.RegistrySnapshotFile;
+import dev.silentcraft.tools.junit.execution.report.RunSummary;
 import dev.silentcraft.tools.spring.test.context.cache.CacheAwareSpringBootTestBootstrapper;
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsProperties;
 import dev.silentcraft.tools.spring.test.context.cache.ContextCacheMetricsRegistry;
 
 class GlobalTestExecutionAnalyzerTest {
@@ -114,6 +121,49 @@ class GlobalTestExecutionAnalyzerTest {
         assertTrue(moduleBInReport, "Module B's report must include its own cache misses");
     }
 
+    @Test
+    void shouldDeleteBudgetReportOfPreviousRunWhenNoBudgetIsDeclared(@TempDir Path reportDir) throws Exception {
+        setActivated(true);
+        Path previousReport = Files.writeString(reportDir.resolve("TEST-ContextCacheBudget.xml"), "<testsuite/>");
+        SpringProperties.setProperty(ContextCacheMetricsProperties.JUNIT_REPORT_DIR, reportDir.toString());
+        try {
+            analyzer.testPlanExecutionFinished(null);
+        } finally {
+            SpringProperties.setProperty(ContextCacheMetricsProperties.JUNIT_REPORT_DIR, null);
+        }
+
+        assertFalse(Files.exists(previousReport),
+                "The budget report of a previous run must not be left in place when no budget is checked");
+    }
+
+    @Test
+    void shouldCheckBaselineOnlyOnceEveryForkOfTheRunWroteItsSnapshot(@TempDir Path tempDir) throws Exception {
+        setActivated(true);
+        Path snapshotDir = tempDir.resolve("snapshots");
+        Path baselineDir = tempDir.resolve("baseline");
+        Path pendingFork = Files.writeString(Files.createDirectories(snapshotDir)
+                .resolve(RegistrySnapshotFile.FILE_PREFIX + "1" + RegistrySnapshotFile.STARTED_SUFFIX), "run-1");
+        SpringProperties.setProperty(ContextCacheMetricsProperties.SNAPSHOT_DIR, snapshotDir.toString());
+        SpringProperties.setProperty(ContextCacheMetricsProperties.SNAPSHOT_RUN_ID, "run-1");
+        SpringProperties.setProperty(ContextCacheMetricsProperties.BASELINE_DIR, baselineDir.toString());
+        SpringProperties.setProperty(ContextCacheMetricsProperties.JUNIT_REPORT_DIR, tempDir.toString());
+        try {
+            analyzer.testPlanExecutionFinished(null);
+            boolean writtenWhileForkPending = Files.exists(baselineDir.resolve(RunSummary.FILE_NAME));
+            Files.delete(pendingFork);
+            analyzer.testPlanExecutionFinished(null);
+
+            assertFalse(writtenWhileForkPending, "The baseline must not be compared with a partial suite");
+            assertTrue(Files.exists(baselineDir.resolve(RunSummary.FILE_NAME)),
+                    "The fork completing the run must compare the suite with the baseline");
+        } finally {
+            SpringProperties.setProperty(ContextCacheMetricsProperties.SNAPSHOT_DIR, null);
+            SpringProperties.setProperty(ContextCacheMetricsProperties.SNAPSHOT_RUN_ID, null);
+            SpringProperties.setProperty(ContextCacheMetricsProperties.BASELINE_DIR, null);
+            SpringProperties.setProperty(ContextCacheMetricsProperties.JUNIT_REPORT_DIR, null);
+        }
+    }
+
     private static void setActivated(boolean value) throws Exception {
         Field field = CacheAwareSpringBootTestBootstrapper.class.getDeclaredField("activated");
         field.setAccessible(true);
@@ -0,0 +1,130 @@
+package dev.silentcraft.tools.junit.execution.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+import org.springframework.test.context.ActiveProfiles;
+
+import dev.silentcraft.tools.spring.test.context.cache.CacheAwareSpringBootTest;
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.TestApplication;
+
+class ConfigurationAffinityClassOrdererTest {
+
+    @Test
+    void orderClasses_shouldGroupClassesSharingConfiguration() {
+        // GIVEN
+        FakeClassOrdererContext context = new FakeClassOrdererContext(ZooFirstTest.class, BeachTest.class,
+                PlainTest.class, ZooSecondTest.class);
+
+        // WHEN
+        new ConfigurationAffinityClassOrderer().orderClasses(context);
+
+        // THEN
+        assertEquals(List.of(ZooFirstTest.class, ZooSecondTest.class, BeachTest.class, PlainTest.class), context.order());
+    }
+
+    @Test
+    void ofTestClass_shouldMatchForSameConfiguration_andBeNullForPlainClasses() {
+        assertEquals(ConfigurationFingerprint.ofTestClass(ZooFirstTest.class), ConfigurationFingerprint.ofTestClass(ZooSecondTest.class));
+        assertNotEquals(ConfigurationFingerprint.ofTestClass(ZooFirstTest.class), ConfigurationFingerprint.ofTestClass(BeachTest.class));
+        assertNull(ConfigurationFingerprint.ofTestClass(PlainTest.class));
+    }
+
+    @Test
+    void provideForClass_shouldLockConfiguration_whenEnabled() {
+        Set<ResourceLocksProvider.Lock> locks = new ConfigurationAffinityLocks(true).provideForClass(ZooFirstTest.class);
+
+        assertEquals(Set.of(new ResourceLocksProvider.Lock(ConfigurationAffinityLocks.LOCK_PREFIX
+                + ConfigurationFingerprint.ofTestClass(ZooFirstTest.class), ResourceAccessMode.READ_WRITE)), locks);
+    }
+
+    @Test
+    void provideForClass_shouldNotLock_whenDisabledOrNotSpring() {
+        assertEquals(Set.of(), new ConfigurationAffinityLocks(false).provideForClass(ZooFirstTest.class));
+        assertEquals(Set.of(), new ConfigurationAffinityLocks(true).provideForClass(PlainTest.class));
+    }
+
+    // --- fixtures ---
+
+    @ActiveProfiles("zoo")
+    @CacheAwareSpringBootTest(classes = TestApplication.class)
+    static class ZooFirstTest {
+    }
+
+    @ActiveProfiles("zoo")
+    @CacheAwareSpringBootTest(classes = TestApplication.class)
+    static class ZooSecondTest {
+    }
+
+    @ActiveProfiles("beach")
+    @CacheAwareSpringBootTest(classes = TestApplication.class)
+    static class BeachTest {
+    }
+
+    static class PlainTest {
+    }
+
+    private static class FakeClassOrdererContext implements ClassOrdererContext {
+        private final List<FakeClassDescriptor> descriptors;
+
+        private FakeClassOrdererContext(Class<?>... classes) {
+            this.descriptors = new ArrayList<>(Arrays.stream(classes).map(FakeClassDescriptor::new).toList());
+        }
+
+        @Override
+        public List<? extends ClassDescriptor> getClassDescriptors() {
+            return descriptors;
+        }
+
+        @Override
+        public Optional<String> getConfigurationParameter(String key) {
+            return Optional.empty();
+        }
+
+        private List<Class<?>> order() {
+            return descriptors.stream().<Class<?>>map(FakeClassDescriptor::getTestClass).toList();
+        }
+    }
+
+    private record FakeClassDescriptor(Class<?> testClass) implements ClassDescriptor {
+
+        @Override
+        public Class<?> getTestClass() {
+            return testClass;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return testClass.getSimpleName();
+        }
+
+        @Override
+        public boolean isAnnotated(Class<? extends Annotation> annotationType) {
+            return testClass.isAnnotationPresent(annotationType);
+        }
+
+        @Override
+        public <A extends Annotation> Optional<A> findAnnotation(Class<A> annotationType) {
+            return Optional.ofNullable(testClass.getAnnotation(annotationType));
+        }
+
+        @Override
+        public <A extends Annotation> List<A> findRepeatableAnnotations(Class<A> annotationType) {
+            return List.of(testClass.getAnnotationsByType(annotationType));
+        }
+    }
+}
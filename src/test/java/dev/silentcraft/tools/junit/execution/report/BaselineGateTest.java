@@ -0,0 +1,172 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class BaselineGateTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void runSummary_shouldCountBuildsPerConfigurationAndRebuildsPerClass() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 1000))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                        event(EventType.REUSE, "zoo", 0),
+                        event(EventType.REBUILD, "farm", 2000))));
+
+        // WHEN
+        RunSummary summary = RunSummary.of(snapshot);
+
+        // THEN
+        assertEquals(2, summary.contextsBuilt());
+        assertEquals(Duration.ofSeconds(3), summary.buildDuration());
+        assertEquals(Map.of(Integer.class.getName(), 1), summary.rebuilds());
+        assertEquals(2, summary.configurations().get("zoo").testClasses().size());
+    }
+
+    @Test
+    void write_thenRead_shouldRoundTripSummary() throws IOException {
+        // GIVEN
+        RunSummary summary = new RunSummary(3,
+                Map.of("zoo", new RunSummary.ConfigurationBuilds(3, Duration.ofMillis(4200), Set.of())),
+                Map.of(Integer.class.getName(), 2));
+        Path file = tempDir.resolve("baseline").resolve(RunSummary.FILE_NAME);
+
+        // WHEN
+        summary.write(file);
+
+        // THEN
+        assertEquals(summary, RunSummary.read(file));
+        assertTrue(Files.readString(file).startsWith("class.java.lang.Integer.rebuilds=2\n"));
+    }
+
+    @Test
+    void write_shouldRecordRunId() throws IOException {
+        // GIVEN
+        RunSummary summary = new RunSummary(1,
+                Map.of("zoo", new RunSummary.ConfigurationBuilds(1, Duration.ofMillis(1000), Set.of())), Map.of());
+        Path file = tempDir.resolve(RunSummary.FILE_NAME);
+
+        // WHEN
+        summary.write(file, "2026-04-16T09:00:00Z");
+
+        // THEN
+        assertEquals("2026-04-16T09:00:00Z", RunSummary.readRunId(file));
+        assertEquals(summary, RunSummary.read(file));
+    }
+
+    @Test
+    void read_shouldRejectOtherSchemas() throws IOException {
+        // GIVEN
+        Path file = Files.writeString(tempDir.resolve(RunSummary.FILE_NAME), "schema=2\ncontexts.built=1\n");
+
+        // WHEN / THEN
+        assertThrows(IOException.class, () -> RunSummary.read(file));
+    }
+
+    @Test
+    void compare_shouldFailOnNewContextAndNameItsTestClasses() {
+        // GIVEN
+        RunSummary baseline = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 1000)))));
+        RunSummary current = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 1000))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(event(EventType.REBUILD, "farm", 1500)))));
+
+        // WHEN
+        BaselineGate.Verdict verdict = BaselineGate.compare(baseline, current, 0, Duration.ofSeconds(10));
+
+        // THEN
+        assertTrue(verdict.regressed());
+        assertEquals(List.of("1 new distinct contexts (0 tolerated): 2 contexts built instead of 1"), verdict.failures());
+        assertEquals(List.of("new context farm built 1 times in 1.5 s, used by [java.lang.Integer]",
+                "java.lang.Integer triggers 1 rebuilds instead of 0"), verdict.causes());
+    }
+
+    @Test
+    void compare_shouldNotCountReplacedConfigurationAsNewContext() {
+        // GIVEN
+        RunSummary baseline = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 1000)))));
+        RunSummary current = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "farm", 1000)))));
+
+        // WHEN
+        BaselineGate.Verdict verdict = BaselineGate.compare(baseline, current, 0, Duration.ofSeconds(10));
+
+        // THEN
+        assertFalse(verdict.regressed());
+        assertEquals(List.of("new context farm built 1 times in 1.0 s, used by [java.lang.String]"), verdict.causes());
+    }
+
+    @Test
+    void compare_shouldFailWhenBuildTimeGrowsBeyondThreshold() {
+        // GIVEN
+        RunSummary baseline = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 1000)))));
+        RunSummary current = RunSummary.of(Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 13000)))));
+
+        // WHEN
+        BaselineGate.Verdict tolerant = BaselineGate.compare(baseline, current, 0, Duration.ofSeconds(20));
+        BaselineGate.Verdict strict = BaselineGate.compare(baseline, current, 0, Duration.ofSeconds(10));
+
+        // THEN
+        assertFalse(tolerant.regressed());
+        assertEquals(List.of("12.0 s more spent building contexts (10.0 s tolerated): 13.0 s instead of 1.0 s"), strict.failures());
+    }
+
+    @Test
+    void junitXmlReport_shouldWriteFailingTestCase() throws IOException {
+        // GIVEN
+        List<JUnitXmlReport.Check> checks = List.of(
+                new JUnitXmlReport.Check("passing", List.of()),
+                new JUnitXmlReport.Check("failing", List.of("1 new distinct contexts", "new context <farm>")));
+
+        // WHEN
+        Path file = JUnitXmlReport.write(tempDir, "ContextCacheBaseline", checks);
+
+        // THEN
+        String xml = Files.readString(file);
+        assertEquals("TEST-ContextCacheBaseline.xml", file.getFileName().toString());
+        assertTrue(xml.contains("tests=\"2\" failures=\"1\""));
+        assertTrue(xml.contains("<failure message=\"1 new distinct contexts\" type=\"AssertionError\">"));
+        assertTrue(xml.contains("new context &lt;farm&gt;"));
+    }
+
+    @Test
+    void junitXmlReport_shouldRecordRunIdAndBeDeletable() throws IOException {
+        // GIVEN
+        Path file = JUnitXmlReport.write(tempDir, "ContextCacheBudget", "run-1", List.of(new JUnitXmlReport.Check("maxContexts", List.of())));
+
+        // WHEN
+        String xml = Files.readString(file);
+        boolean deleted = JUnitXmlReport.delete(tempDir, "ContextCacheBudget");
+
+        // THEN
+        assertTrue(xml.contains("<property name=\"run.id\" value=\"run-1\"/>"));
+        assertTrue(deleted);
+        assertFalse(Files.exists(file));
+    }
+}
@@ -0,0 +1,118 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextCacheBudget;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class BudgetCheckTest {
+
+    private static final Map<TestContextKey, TestContextHistory> SNAPSHOT = Map.of(
+            new TestContextKey(String.class), new TestContextHistory(List.of(
+                    event(EventType.BUILD, 0, "zoo", List.of("test"), 1000))),
+            new TestContextKey(Long.class), new TestContextHistory(List.of(
+                    event(EventType.REUSE, 0, "zoo", List.of("test"), 0))),
+            new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                    event(EventType.REBUILD, 0, "farm", List.of("test", "slow"), 2500))));
+
+    @Test
+    void check_shouldOnlyReportBudgetsThatAreSet() {
+        // WHEN
+        List<JUnitXmlReport.Check> checks = BudgetCheck.check(SNAPSHOT, BudgetCheck.Budget.UNLIMITED, Map.of());
+
+        // THEN
+        assertTrue(checks.isEmpty());
+    }
+
+    @Test
+    void check_shouldNameClassesAndDeltasOfExtraContexts() {
+        // WHEN
+        List<JUnitXmlReport.Check> checks = BudgetCheck.check(SNAPSHOT,
+                new BudgetCheck.Budget(1, ContextCacheBudget.UNLIMITED, ContextCacheBudget.UNLIMITED), Map.of());
+
+        // THEN
+        assertEquals(List.of(new JUnitXmlReport.Check("maxContexts", List.of(
+                "2 distinct contexts built, budget 1",
+                "context zoo used by [java.lang.Long, java.lang.String] (reference configuration)",
+                "context farm used by [java.lang.Integer] - differs from zoo by +profile slow"))), checks);
+    }
+
+    @Test
+    void check_shouldPassWithinBudget() {
+        // WHEN
+        List<JUnitXmlReport.Check> checks = BudgetCheck.check(SNAPSHOT, new BudgetCheck.Budget(2, 4, 1), Map.of());
+
+        // THEN
+        assertEquals(3, checks.size());
+        assertTrue(checks.stream().noneMatch(JUnitXmlReport.Check::failed));
+    }
+
+    @Test
+    void check_shouldReportBuildSecondsByMostExpensiveConfiguration() {
+        // WHEN
+        JUnitXmlReport.Check check = BudgetCheck.check(SNAPSHOT,
+                new BudgetCheck.Budget(ContextCacheBudget.UNLIMITED, 3, ContextCacheBudget.UNLIMITED), Map.of()).getFirst();
+
+        // THEN
+        assertEquals("maxBuildSeconds", check.name());
+        assertEquals(List.of("3.5 s spent building contexts, budget 3 s",
+                "context farm built 1 times in 2.5 s, used by [java.lang.Integer] - differs from zoo by +profile slow",
+                "context zoo built 1 times in 1.0 s, used by [java.lang.Long, java.lang.String] (reference configuration)"),
+                check.failures());
+    }
+
+    @Test
+    void check_shouldLetClassBudgetOverrideDefaultRebuildBudget() {
+        // GIVEN
+        BudgetCheck.Budget budget = new BudgetCheck.Budget(ContextCacheBudget.UNLIMITED, ContextCacheBudget.UNLIMITED, 5);
+
+        // WHEN
+        JUnitXmlReport.Check lenient = BudgetCheck.check(SNAPSHOT, budget, Map.of()).getFirst();
+        JUnitXmlReport.Check strict = BudgetCheck.check(SNAPSHOT, budget, Map.of(Integer.class.getName(), 0)).getFirst();
+
+        // THEN
+        assertFalse(lenient.failed());
+        assertEquals(List.of("1 test classes exceed their rebuild budget",
+                "java.lang.Integer triggers 1 rebuilds, budget 0 - differs from zoo by +profile slow"), strict.failures());
+    }
+
+    @Test
+    void checkClassNames_shouldCountContextsOfEveryFork() {
+        // GIVEN
+        BudgetCheck.Budget budget = new BudgetCheck.Budget(1, ContextCacheBudget.UNLIMITED, ContextCacheBudget.UNLIMITED);
+        Map<String, TestContextHistory> firstFork = Map.of("com.acme.AlphaTest",
+                new TestContextHistory(List.of(event(EventType.BUILD, 0, "zoo", List.of("test"), 1000))));
+        Map<String, TestContextHistory> merged = Map.of("com.acme.AlphaTest", firstFork.get("com.acme.AlphaTest"),
+                "com.acme.BetaTest", new TestContextHistory(List.of(event(EventType.BUILD, 0, "farm", List.of("test", "slow"), 2500))));
+
+        // WHEN
+        JUnitXmlReport.Check fork = BudgetCheck.checkClassNames(firstFork, budget, Map.of()).getFirst();
+        JUnitXmlReport.Check suite = BudgetCheck.checkClassNames(merged, budget, Map.of()).getFirst();
+
+        // THEN
+        assertFalse(fork.failed());
+        assertEquals("2 distinct contexts built, budget 1", suite.failures().getFirst());
+    }
+
+    @Test
+    void stricter_shouldKeepLowestLimitSet() {
+        // GIVEN
+        BudgetCheck.Budget module = new BudgetCheck.Budget(3, ContextCacheBudget.UNLIMITED, 1);
+
+        // WHEN
+        BudgetCheck.Budget combined = module.stricter(new BudgetCheck.Budget(2, 30, ContextCacheBudget.UNLIMITED));
+
+        // THEN
+        assertEquals(new BudgetCheck.Budget(2, 30, 1), combined);
+    }
+}
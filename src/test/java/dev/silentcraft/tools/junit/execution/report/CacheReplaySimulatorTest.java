@@ -0,0 +1,186 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheReplaySimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void simulate_shouldPredictRecordedBuilds_whenReplayingRecordedRun() throws IOException {
+        // GIVEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(writeLog(
+                miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 2000),
+                miss(2, "FarmTest", "farm"), loaded(3, "FarmTest", "farm", 1000),
+                miss(4, "ZebraTest", "zoo"), loaded(5, "ZebraTest", "zoo", 2000)));
+
+        // WHEN
+        CacheReplaySimulator.Scenario scenario = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.RECORDED, 1);
+
+        // THEN
+        assertEquals(3, scenario.builds());
+        assertEquals(Duration.ofMillis(5000), scenario.buildDuration());
+    }
+
+    @Test
+    void simulate_shouldBuildEachConfigurationOnce_whenCacheIsLargeEnoughOrClassesAreGrouped() throws IOException {
+        // GIVEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(writeLog(
+                miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 2000),
+                miss(2, "FarmTest", "farm"), loaded(3, "FarmTest", "farm", 1000),
+                miss(4, "ZebraTest", "zoo"), loaded(5, "ZebraTest", "zoo", 2000)));
+
+        // WHEN
+        CacheReplaySimulator.Scenario larger = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.RECORDED, 2);
+        CacheReplaySimulator.Scenario grouped = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.GROUPED, 1);
+
+        // THEN
+        assertEquals(2, larger.builds());
+        assertEquals(2, grouped.builds());
+        assertEquals(Duration.ofMillis(3000), grouped.buildDuration());
+    }
+
+    @Test
+    void simulate_shouldDistinguishLruFromFifo() throws IOException {
+        // GIVEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(writeLog(
+                miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 1000),
+                miss(2, "FarmTest", "farm"), loaded(3, "FarmTest", "farm", 1000),
+                hit(4, "ZebraTest", "zoo"),
+                miss(5, "LionTest", "savanna"), loaded(6, "LionTest", "savanna", 1000),
+                hit(7, "TigerTest", "zoo")));
+
+        // WHEN
+        CacheReplaySimulator.Scenario lru = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.RECORDED, 2);
+        CacheReplaySimulator.Scenario fifo = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.FIFO,
+                CacheReplaySimulator.Ordering.RECORDED, 2);
+
+        // THEN
+        assertEquals(3, lru.builds());
+        assertEquals(4, fifo.builds());
+    }
+
+    @Test
+    void simulate_shouldNeverBuildMoreWithBeladyThanWithLru() throws IOException {
+        // GIVEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(writeLog(
+                miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 1000),
+                miss(2, "FarmTest", "farm"), loaded(3, "FarmTest", "farm", 1000),
+                miss(4, "LionTest", "savanna"), loaded(5, "LionTest", "savanna", 1000),
+                miss(6, "ZebraTest", "zoo"), loaded(7, "ZebraTest", "zoo", 1000),
+                miss(8, "CowTest", "farm"), loaded(9, "CowTest", "farm", 1000)));
+
+        // WHEN
+        CacheReplaySimulator.Scenario lru = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.RECORDED, 2);
+        CacheReplaySimulator.Scenario belady = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.BELADY,
+                CacheReplaySimulator.Ordering.RECORDED, 2);
+
+        // THEN
+        assertEquals(5, lru.builds());
+        assertEquals(3, belady.builds());
+    }
+
+    @Test
+    void simulate_shouldReplayDirtiesContextRemovals() throws IOException {
+        // GIVEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(writeLog(
+                miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 1000),
+                "{\"timestamp\":\"2026-04-16T09:00:02Z\",\"event\":\"REMOVED\",\"testClass\":\"ZooTest\",\"fingerprint\":\"zoo\","
+                        + "\"thread\":\"main\",\"durationMs\":50,\"hierarchyMode\":\"EXHAUSTIVE\"}",
+                "{\"timestamp\":\"2026-04-16T09:00:02.5Z\",\"event\":\"EVICTED\",\"testClass\":\"ZooTest\",\"fingerprint\":\"zoo\","
+                        + "\"thread\":\"main\",\"durationMs\":50}",
+                miss(3, "ZebraTest", "zoo"), loaded(4, "ZebraTest", "zoo", 1000)));
+
+        // WHEN
+        CacheReplaySimulator.Scenario scenario = CacheReplaySimulator.simulate(traces, CacheReplaySimulator.Policy.LRU,
+                CacheReplaySimulator.Ordering.RECORDED, 32);
+
+        // THEN
+        assertEquals(2, scenario.builds());
+    }
+
+    @Test
+    void load_shouldRejectMalformedLines() throws IOException {
+        // GIVEN
+        Path log = writeLog("not json", miss(0, "ZooTest", "zoo"));
+
+        // WHEN / THEN
+        assertThrows(IOException.class, () -> CacheReplaySimulator.load(log));
+    }
+
+    @Test
+    void load_shouldSkipTruncatedLastLine() throws IOException {
+        // GIVEN
+        String truncated = miss(2, "ZebraTest", "zoo");
+        Path log = writeLog(miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 1000),
+                truncated.substring(0, truncated.length() / 2));
+
+        // WHEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(log);
+
+        // THEN
+        assertEquals(1, traces.getFirst().accesses().size());
+        assertEquals(1, traces.getFirst().recordedBuilds());
+    }
+
+    @Test
+    void load_shouldSkipLastLineCutInUnicodeEscape() throws IOException {
+        // GIVEN
+        String escaped = miss(2, "Zebra\\u00e9Test", "zoo");
+        Path log = writeLog(miss(0, "ZooTest", "zoo"), loaded(1, "ZooTest", "zoo", 1000),
+                escaped.substring(0, escaped.indexOf("\\u") + 4));
+
+        // WHEN
+        List<CacheReplaySimulator.AccessTrace> traces = CacheReplaySimulator.load(log);
+
+        // THEN
+        assertEquals(1, traces.getFirst().accesses().size());
+    }
+
+    @Test
+    void load_shouldRejectInvalidUnicodeEscape() throws IOException {
+        // GIVEN
+        Path log = writeLog(miss(0, "Zoo\\u00zzTest", "zoo"), miss(1, "ZooTest", "zoo"));
+
+        // WHEN / THEN
+        assertThrows(IOException.class, () -> CacheReplaySimulator.load(log));
+    }
+
+    private Path writeLog(String... lines) throws IOException {
+        return Files.write(tempDir.resolve("context-cache-events-1.ndjson"), new ArrayList<>(List.of(lines)));
+    }
+
+    private static String miss(int second, String testClass, String fingerprint) {
+        return event(second, "MISS", testClass, fingerprint, "");
+    }
+
+    private static String hit(int second, String testClass, String fingerprint) {
+        return event(second, "HIT", testClass, fingerprint, "");
+    }
+
+    private static String loaded(int second, String testClass, String fingerprint, long millis) {
+        return event(second, "LOADED", testClass, fingerprint, ",\"durationMs\":" + millis);
+    }
+
+    private static String event(int second, String event, String testClass, String fingerprint, String extra) {
+        return "{\"timestamp\":\"2026-04-16T09:00:%02dZ\",\"event\":\"%s\",\"testClass\":\"com.acme.%s\",\"fingerprint\":\"%s\",\"thread\":\"main\"%s}"
+                .formatted(second, event, testClass, fingerprint, extra);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class ChromeTraceWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_shouldEmitThreadTrackSpansAndInstantMarkers() throws IOException {
+        // GIVEN
+        MergedContextConfiguration config = new MergedContextConfiguration(ChromeTraceWriterTest.class, null,
+                new Class<?>[]{String.class}, null, null);
+        ExecutionTimeline timeline = new ExecutionTimeline();
+        timeline.classStarted("[class:ZooTest]", "com.acme.ZooTest");
+        timeline.onCacheMiss(config);
+        timeline.onContextLoaded(config, Duration.ofMillis(5));
+        timeline.onCacheHit(config);
+        timeline.classFinished("[class:ZooTest]", "SUCCESSFUL");
+        Path target = tempDir.resolve("trace/timeline.json");
+
+        // WHEN
+        ChromeTraceWriter.write(timeline, target);
+
+        // THEN
+        String json = Files.readString(target);
+        assertTrue(json.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(json.contains("\"ph\":\"M\""));
+        assertTrue(json.contains("\"args\":{\"name\":\"" + Thread.currentThread().getName() + "\"}"));
+        assertTrue(json.contains("\"name\":\"com.acme.ZooTest\",\"cat\":\"test-class\",\"ph\":\"X\""));
+        assertTrue(json.contains("\"name\":\"build ChromeTraceWriterTest\",\"cat\":\"context-build\",\"ph\":\"X\""));
+        assertTrue(json.contains("\"cat\":\"cache-hit\",\"ph\":\"i\",\"s\":\"t\""));
+        assertTrue(json.endsWith("]}"));
+    }
+
+    @Test
+    void classFinished_shouldIgnoreUnknownClass() {
+        // GIVEN
+        ExecutionTimeline timeline = new ExecutionTimeline();
+
+        // WHEN
+        timeline.classFinished("[class:Unknown]", "SUCCESSFUL");
+
+        // THEN
+        assertEquals(0, timeline.spans().size());
+    }
+
+    @Test
+    void onContextLoaded_shouldStartSpanLoadDurationBeforeCompletion() {
+        // GIVEN
+        MergedContextConfiguration config = new MergedContextConfiguration(ChromeTraceWriterTest.class, null,
+                new Class<?>[]{String.class}, null, null);
+        ExecutionTimeline timeline = new ExecutionTimeline();
+
+        // WHEN
+        timeline.onContextLoaded(config, Duration.ofMillis(42));
+
+        // THEN
+        ExecutionTimeline.Span span = timeline.spans().get(0);
+        assertEquals(Duration.ofMillis(42), span.duration());
+        assertEquals(ExecutionTimeline.CONTEXT_BUILD, span.category());
+    }
+}
@@ -0,0 +1,75 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class ContextCacheMetricsIndexTest {
+
+    private final ContextCacheMetricsIndex index = ContextCacheMetricsIndex.of(Map.of(
+            new TestContextKey(String.class), new TestContextHistory(List.of(
+                    event(EventType.BUILD, 0, "zoo", List.of("test"), 100))),
+            new TestContextKey(Long.class), new TestContextHistory(List.of(
+                    event(EventType.REUSE, 2, "zoo", List.of("test"), 100))),
+            new TestContextKey(Test.class), new TestContextHistory(List.of(
+                    event(EventType.REBUILD, 1, "farm", List.of("test", "legacy"), 100),
+                    event(EventType.REBUILD, 3, "zoo", List.of("test"), 100)))));
+
+    @Test
+    void byFingerprint_shouldReturnEventsAndSharingClassesOfConfiguration() {
+        assertEquals(List.of("java.lang.String", "java.lang.Long", "org.junit.jupiter.api.Test"),
+                index.byFingerprint("zoo").stream().map(ContextCacheMetricsIndex.IndexedEvent::testClass).toList(),
+                "events are in chronological order");
+        assertEquals(1, index.byFingerprint("zoo", EventType.REUSE).size());
+        assertEquals(Set.of("java.lang.Long", "java.lang.String", "org.junit.jupiter.api.Test"), index.testClassesSharing("zoo"));
+        assertEquals(Set.of("farm", "zoo"), index.fingerprints());
+        assertTrue(index.byFingerprint("unknown").isEmpty());
+    }
+
+    @Test
+    void byProfile_shouldReturnEventsOfContextsWithProfileActive() {
+        // WHEN
+        List<ContextCacheMetricsIndex.IndexedEvent> legacyRebuilds = index.byProfile("legacy", EventType.REBUILD);
+
+        // THEN
+        assertEquals(1, legacyRebuilds.size());
+        assertEquals("farm", legacyRebuilds.get(0).event().fingerprint());
+        assertEquals(4, index.byProfile("test").size());
+        assertTrue(index.byProfile("legacy", EventType.REUSE).isEmpty());
+        assertEquals(Set.of("legacy", "test"), index.profiles());
+    }
+
+    @Test
+    void byType_shouldReturnEventsOfType() {
+        assertEquals(2, index.byType(EventType.REBUILD).size());
+        assertEquals(1, index.byType(EventType.BUILD).size());
+        assertEquals(2, index.byTestClass(Test.class.getName()).size());
+    }
+
+    @Test
+    void underPackage_shouldIncludeSubpackagesOnly() {
+        assertEquals(2, index.byPackage("java.lang").size());
+        assertTrue(index.byPackage("org.junit").isEmpty());
+        assertEquals(2, index.underPackage("org.junit").size());
+        assertTrue(index.underPackage("org.jun").isEmpty(), "a package prefix is not a parent package");
+        assertEquals(4, index.underPackage("").size());
+        assertEquals(Set.of("java.lang", "org.junit.jupiter.api"), index.packages());
+    }
+
+    @Test
+    void index_shouldBeReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> index.byType(EventType.BUILD).clear());
+        assertThrows(UnsupportedOperationException.class, () -> index.testClassesSharing("zoo").clear());
+    }
+}
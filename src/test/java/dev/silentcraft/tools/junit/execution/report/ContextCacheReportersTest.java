@@ -0,0 +1,82 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+class ContextCacheReportersTest {
+
+    private static final ContextCacheRun RUN = ContextCacheRun.of(Map.of(), Map.of(), Map.of());
+
+    @Test
+    void run_shouldRunReportersInParallel() {
+        // GIVEN two reporters that only complete once both have started
+        CountDownLatch started = new CountDownLatch(2);
+        ContextCacheReporter reporter = run -> {
+            started.countDown();
+            try {
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new IOException("reporters ran sequentially");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // WHEN
+        List<ContextCacheReporters.Outcome> outcomes = ContextCacheReporters.run(List.of(reporter, reporter), RUN, 2,
+                Duration.ofSeconds(10));
+
+        // THEN
+        assertEquals(2, outcomes.size());
+        assertTrue(outcomes.stream().allMatch(ContextCacheReporters.Outcome::succeeded), outcomes::toString);
+    }
+
+    @Test
+    void run_shouldIsolateFailingReporter() {
+        // GIVEN
+        ContextCacheReporter failing = run -> {
+            throw new IOException("disk full");
+        };
+        ContextCacheReporter succeeding = run -> {
+        };
+
+        // WHEN
+        List<ContextCacheReporters.Outcome> outcomes = ContextCacheReporters.run(List.of(failing, succeeding), RUN, 1,
+                Duration.ofSeconds(10));
+
+        // THEN
+        assertFalse(outcomes.get(0).succeeded());
+        assertEquals("disk full", outcomes.get(0).failure().getMessage());
+        assertTrue(outcomes.get(1).succeeded());
+    }
+
+    @Test
+    void run_shouldInterruptReportersExceedingTimeout() {
+        // GIVEN
+        ContextCacheReporter hanging = run -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // WHEN
+        List<ContextCacheReporters.Outcome> outcomes = ContextCacheReporters.run(List.of(hanging), RUN, 2, Duration.ofMillis(100));
+
+        // THEN
+        assertInstanceOf(TimeoutException.class, outcomes.get(0).failure());
+    }
+}
@@ -0,0 +1,55 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryLockTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void acquire_shouldBeReentrantForTheHoldingThread() throws Exception {
+        // GIVEN
+        try (DirectoryLock outer = DirectoryLock.acquire(tempDir)) {
+
+            // WHEN
+            try (DirectoryLock inner = DirectoryLock.acquire(tempDir.resolve("."))) {
+
+                // THEN
+                assertTrue(tempDir.resolve(DirectoryLock.FILE_NAME).toFile().exists());
+            }
+        }
+    }
+
+    @Test
+    void acquire_shouldWaitUntilTheDirectoryIsReleased() throws Exception {
+        // GIVEN
+        CountDownLatch acquired = new CountDownLatch(1);
+        CompletableFuture<Void> other;
+        try (DirectoryLock lock = DirectoryLock.acquire(tempDir)) {
+
+            // WHEN
+            other = CompletableFuture.runAsync(() -> {
+                try (DirectoryLock waiting = DirectoryLock.acquire(tempDir)) {
+                    acquired.countDown();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+
+            // THEN
+            assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        }
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        other.get(5, TimeUnit.SECONDS);
+    }
+}
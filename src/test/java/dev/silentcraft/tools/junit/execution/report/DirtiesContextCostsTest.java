@@ -0,0 +1,105 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.T0;
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.annotation.DirtiesContext;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class DirtiesContextCostsTest {
+
+    @Test
+    void attribute_shouldLinkRebuildToClassThatDirtiedContext() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, 0, "zoo", List.of(), 1000))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(event(EventType.REBUILD, 20, "zoo", List.of(), 1500))));
+        Map<TestContextKey, List<ContextRemoval>> removals = Map.of(
+                new TestContextKey(String.class), List.of(dirty(String.class, 10, "zoo")));
+
+        // WHEN
+        List<DirtiesContextCosts.Cost> costs = DirtiesContextCosts.attribute(snapshot, removals);
+
+        // THEN
+        assertEquals(1, costs.size());
+        DirtiesContextCosts.Cost cost = costs.getFirst();
+        assertEquals(String.class, cost.dirtyingClass());
+        assertEquals(1, cost.rebuilds());
+        assertEquals(Duration.ofMillis(1500), cost.rebuildDuration());
+        assertEquals(List.of(Integer.class), cost.rebuiltBy());
+        assertEquals("String's @DirtiesContext cost 1 rebuilds / 1.5 s downstream (rebuilt by Integer)", cost.describe());
+    }
+
+    @Test
+    void attribute_shouldLinkEachRemovalToOneRebuildOnly() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                        event(EventType.REBUILD, 20, "zoo", List.of(), 1000),
+                        event(EventType.REBUILD, 40, "zoo", List.of(), 1000))));
+        Map<TestContextKey, List<ContextRemoval>> removals = Map.of(
+                new TestContextKey(String.class), List.of(dirty(String.class, 10, "zoo")));
+
+        // WHEN
+        DirtiesContextCosts.Cost cost = DirtiesContextCosts.attribute(snapshot, removals).getFirst();
+
+        // THEN
+        assertEquals(1, cost.rebuilds());
+    }
+
+    @Test
+    void attribute_shouldNotLinkSecondRebuildToEarlierRemoval() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(event(EventType.REBUILD, 20, "zoo", List.of(), 1000))),
+                new TestContextKey(Short.class), new TestContextHistory(List.of(event(EventType.REBUILD, 40, "zoo", List.of(), 1000))));
+        Map<TestContextKey, List<ContextRemoval>> removals = Map.of(
+                new TestContextKey(Long.class), List.of(dirty(Long.class, 5, "zoo")),
+                new TestContextKey(String.class), List.of(dirty(String.class, 10, "zoo")));
+
+        // WHEN
+        List<DirtiesContextCosts.Cost> costs = DirtiesContextCosts.attribute(snapshot, removals);
+
+        // THEN
+        assertEquals(String.class, costs.getFirst().dirtyingClass());
+        assertEquals(List.of(Integer.class), costs.getFirst().rebuiltBy());
+        assertEquals(0, costs.get(1).rebuilds());
+    }
+
+    @Test
+    void attribute_shouldIgnoreRebuildsOfOtherConfigurationsAndEvictions() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                        event(EventType.REBUILD, 20, "farm", List.of(), 1000),
+                        event(EventType.REBUILD, 40, "zoo", List.of(), 1000))));
+        Map<TestContextKey, List<ContextRemoval>> removals = Map.of(
+                new TestContextKey(String.class), List.of(dirty(String.class, 10, "farm")),
+                new TestContextKey(Long.class), List.of(new ContextRemoval(Long.class, "zoo", ContextRemoval.Cause.EVICTED,
+                        null, T0.plusSeconds(30), Duration.ZERO)));
+
+        // WHEN
+        List<DirtiesContextCosts.Cost> costs = DirtiesContextCosts.attribute(snapshot, removals);
+
+        // THEN
+        assertEquals(1, costs.size());
+        assertEquals(1, costs.getFirst().rebuilds());
+        assertTrue(costs.getFirst().hierarchyModes().contains(DirtiesContext.HierarchyMode.EXHAUSTIVE));
+    }
+
+    private static ContextRemoval dirty(Class<?> testClass, long second, String fingerprint) {
+        return new ContextRemoval(testClass, fingerprint, ContextRemoval.Cause.REMOVED, DirtiesContext.HierarchyMode.EXHAUSTIVE,
+                T0.plusSeconds(second), Duration.ofMillis(50));
+    }
+}
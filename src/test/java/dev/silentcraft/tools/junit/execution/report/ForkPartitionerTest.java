@@ -0,0 +1,179 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.silentcraft.tools.spring.test.context.cache.ConfigurationFingerprint;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class ForkPartitionerTest {
+
+    /**
+     * Two test classes sharing a configuration whose {@code @Import} customizer hashes {@code Class} instances.
+     */
+    private static final String IMPORTING_TEST = "dev.silentcraft.tools.spring.test.context.cache.playground.config.ImportOnTestClassTest";
+    private static final String OTHER_IMPORTING_TEST =
+            "dev.silentcraft.tools.spring.test.context.cache.playground.config.ImportOnAnotherTestClassTest";
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<String, TestContextHistory> histories = new HashMap<>();
+    private final Map<String, SnapshotAggregator.ConfigurationBuilds> configurations = new HashMap<>();
+    private final Map<String, Duration> executionTimes = new HashMap<>();
+
+    @Test
+    void partition_shouldKeepEachConfigurationInOneFork() {
+        // GIVEN
+        configuration("zoo", 10);
+        configuration("beach", 10);
+        for (int i = 1; i <= 4; i++) {
+            testClass("com.acme.Zoo" + i + "Test", "zoo", 1);
+        }
+        testClass("com.acme.Beach1Test", "beach", 1);
+        testClass("com.acme.Beach2Test", "beach", 1);
+        executionTimes.put("com.acme.PlainTest", Duration.ofSeconds(2));
+
+        // WHEN
+        List<ForkPartitioner.Fork> forks = ForkPartitioner.partition(snapshot(), 2);
+
+        // THEN
+        assertEquals(Set.of("zoo"), forks.get(0).fingerprints());
+        assertEquals(4, forks.get(0).classes().size());
+        assertEquals(Set.of("beach"), forks.get(1).fingerprints());
+        assertEquals(List.of("com.acme.Beach1Test", "com.acme.Beach2Test", "com.acme.PlainTest"), forks.get(1).classes());
+        assertEquals(Duration.ofSeconds(14), forks.get(0).estimatedDuration());
+        assertEquals(Duration.ofSeconds(14), forks.get(1).estimatedDuration());
+    }
+
+    @Test
+    void partition_shouldSplitConfiguration_whenItExceedsFairShare() {
+        // GIVEN
+        configuration("zoo", 2);
+        for (int i = 1; i <= 4; i++) {
+            testClass("com.acme.Zoo" + i + "Test", "zoo", 10);
+        }
+
+        // WHEN
+        List<ForkPartitioner.Fork> forks = ForkPartitioner.partition(snapshot(), 2);
+
+        // THEN
+        assertEquals(2, forks.get(0).classes().size());
+        assertEquals(2, forks.get(1).classes().size());
+        assertEquals(Set.of("zoo"), forks.get(0).fingerprints());
+        assertEquals(Set.of("zoo"), forks.get(1).fingerprints());
+    }
+
+    @Test
+    void partition_shouldGroupClassesOfOneConfiguration_acrossSnapshotsOfDifferentJvms() throws Exception {
+        // GIVEN
+        writeSnapshotInForkedJvm(IMPORTING_TEST);
+        writeSnapshotInForkedJvm(OTHER_IMPORTING_TEST);
+        SnapshotAggregator.AggregatedSnapshot aggregated = SnapshotAggregator.aggregate(tempDir);
+
+        // WHEN
+        List<ForkPartitioner.Fork> forks = ForkPartitioner.partition(aggregated, 2);
+
+        // THEN
+        assertEquals(2, aggregated.snapshotCount());
+        assertEquals(Set.of(ConfigurationFingerprint.ofTestClass(Class.forName(IMPORTING_TEST))),
+                aggregated.configurations().keySet());
+        assertEquals(List.of(OTHER_IMPORTING_TEST, IMPORTING_TEST), forks.get(0).classes());
+        assertEquals(List.of(), forks.get(1).classes());
+    }
+
+    @Test
+    void partition_shouldGroupNestedClassesByTopLevelClassConfiguration() {
+        // GIVEN
+        configuration("zoo", 10);
+        configuration("beach", 10);
+        testClass("com.acme.ZooTest$Nested", "beach", 1);
+        testClass("com.acme.ZooTest", "zoo", 1);
+        testClass("com.acme.BeachTest", "beach", 1);
+
+        // WHEN
+        List<ForkPartitioner.Fork> forks = ForkPartitioner.partition(snapshot(), 2);
+
+        // THEN
+        ForkPartitioner.Fork zooFork = forks.stream().filter(fork -> fork.classes().contains("com.acme.ZooTest")).findFirst().orElseThrow();
+        assertEquals(Set.of("zoo"), zooFork.fingerprints());
+    }
+
+    @Test
+    void partition_shouldRejectNonPositiveForkCount() {
+        assertThrows(IllegalArgumentException.class, () -> ForkPartitioner.partition(snapshot(), 0));
+    }
+
+    @Test
+    void writeIncludesFiles_shouldListSourcePaths() throws IOException {
+        // GIVEN
+        List<ForkPartitioner.Fork> forks = List.of(
+                new ForkPartitioner.Fork(1, List.of("com.acme.ZooTest"), Set.of("zoo"), Duration.ZERO),
+                new ForkPartitioner.Fork(2, List.of("com.acme.BeachTest", "com.acme.PlainTest"), Set.of(), Duration.ZERO));
+
+        // WHEN
+        ForkPartitioner.writeIncludesFiles(forks, tempDir);
+
+        // THEN
+        assertEquals(List.of("com/acme/ZooTest.java"), Files.readAllLines(tempDir.resolve("fork-1.includes")));
+        assertEquals(List.of("com/acme/BeachTest.java", "com/acme/PlainTest.java"),
+                Files.readAllLines(tempDir.resolve("fork-2.includes")));
+    }
+
+    private void writeSnapshotInForkedJvm(String testClass) throws Exception {
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), SnapshotWriter.class.getName(), tempDir.toString(),
+                testClass)
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor(1, TimeUnit.MINUTES);
+        assertEquals(0, process.exitValue(), output);
+    }
+
+    private void configuration(String fingerprint, long buildSeconds) {
+        configurations.put(fingerprint, new SnapshotAggregator.ConfigurationBuilds(fingerprint, List.of(), 1, 1,
+                Duration.ofSeconds(buildSeconds)));
+    }
+
+    private void testClass(String name, String fingerprint, long executionSeconds) {
+        histories.put(name, new TestContextHistory(List.of(new TestContextHistory.Events(EventType.REUSE, Instant.now(),
+                List.of(), List.of(), fingerprint, Duration.ZERO))));
+        executionTimes.put(name, Duration.ofSeconds(executionSeconds));
+    }
+
+    private SnapshotAggregator.AggregatedSnapshot snapshot() {
+        return new SnapshotAggregator.AggregatedSnapshot(1, histories, configurations, executionTimes);
+    }
+
+    /**
+     * Writes, in a forked JVM, the snapshot of a test class that built its context and ran for one second.
+     */
+    static class SnapshotWriter {
+
+        public static void main(String[] args) throws Exception {
+            Class<?> testClass = Class.forName(args[1]);
+            TestContextHistory history = new TestContextHistory(List.of(new TestContextHistory.Events(EventType.BUILD,
+                    Instant.now(), List.of(), List.of(), ConfigurationFingerprint.ofTestClass(testClass), Duration.ofSeconds(5))));
+            RegistrySnapshotFile.write(Map.of(new TestContextKey(testClass), history),
+                    Map.of(testClass.getName(), Duration.ofSeconds(6)), Path.of(args[0]), null);
+        }
+    }
+}
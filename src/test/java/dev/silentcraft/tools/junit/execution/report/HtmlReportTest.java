@@ -0,0 +1,72 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class HtmlReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_shouldRenderSortableClassesConfigurationsAndTimeline() throws IOException {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(
+                        event(EventType.BUILD, 0, "zoo", List.of("test"), 1000))),
+                new TestContextKey(Long.class), new TestContextHistory(List.of(
+                        event(EventType.REUSE, 2, "zoo", List.of("test"), 0))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                        event(EventType.REBUILD, 3, "farm", List.of("test", "<slow>"), 2500))));
+        Path target = tempDir.resolve("reports/context-cache.html");
+
+        // WHEN
+        HtmlReport.write(snapshot, Map.of(Integer.class.getName(), Duration.ofMillis(2954)), target);
+
+        // THEN
+        String html = Files.readString(target);
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<p>3 test classes, 2 contexts built from 2 distinct configurations, 1 rebuilds, 3.5 s spent building contexts.</p>"));
+        assertTrue(html.indexOf("<tr><td>java.lang.Integer</td>") < html.indexOf("<tr><td>java.lang.String</td>"),
+                "classes are sorted by build time");
+        assertTrue(html.contains("<td class=\"num\" data-value=\"2954\">3.0 s</td>"));
+        assertTrue(html.contains("<details class=\"reference\"><summary><code>zoo</code> — 2 test classes, 1 builds, 1.0 s — reference configuration"));
+        assertTrue(html.contains("Differs from <code>zoo</code> by +profile &lt;slow&gt;"));
+        assertTrue(html.contains("<title>java.lang.Integer REBUILD — 2.5 s</title>"));
+        assertTrue(html.contains("<table class=\"sortable\">"));
+        assertFalse(html.contains("<link") || html.contains("src="), "no external asset");
+    }
+
+    @Test
+    void write_shouldStateWhenNoContextWasBuilt() throws IOException {
+        // GIVEN
+        Path target = tempDir.resolve("empty.html");
+
+        // WHEN
+        HtmlReport.write(Map.of(), Map.of(), target);
+
+        // THEN
+        assertTrue(Files.readString(target).contains("<p>No context was built.</p>"));
+    }
+
+    @Test
+    void escape_shouldEscapeMarkupCharacters() {
+        assertEquals("&lt;a href=&quot;x&quot;&gt;Tom &amp; Jerry&#39;s&lt;/a&gt;", HtmlReport.escape("<a href=\"x\">Tom & Jerry's</a>"));
+    }
+}
@@ -0,0 +1,63 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.T0;
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.annotation.DirtiesContext;
+
+import dev.silentcraft.tools.spring.test.context.cache.ContextRemoval;
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class JsonReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_shouldStreamEveryClassWithEventsRemovalsAndConfigurationDiffs() throws IOException {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(
+                        event(EventType.BUILD, 0, "zoo", List.of("test"), 1000))),
+                new TestContextKey(Long.class), new TestContextHistory(List.of(
+                        event(EventType.REUSE, 0, "zoo", List.of("test"), 0))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(
+                        event(EventType.REBUILD, 0, "farm", List.of("test", "slow"), 2500))));
+        Map<TestContextKey, List<ContextRemoval>> removals = Map.of(new TestContextKey(Integer.class), List.of(
+                new ContextRemoval(Integer.class, "farm", ContextRemoval.Cause.REMOVED, DirtiesContext.HierarchyMode.EXHAUSTIVE,
+                        T0.plusSeconds(5), Duration.ofMillis(120))));
+        Path target = tempDir.resolve("reports/context-cache.json");
+
+        // WHEN
+        JsonReport.write(snapshot, removals, Map.of(Integer.class.getName(), Duration.ofMillis(2954)), target);
+
+        // THEN
+        String json = Files.readString(target);
+        assertTrue(json.startsWith("{\"schemaVersion\":1,\"generatedAt\":\""));
+        assertTrue(json.contains("\"summary\":{\"testClasses\":3,\"contextsBuilt\":2,\"rebuilds\":1,\"distinctConfigurations\":2,"
+                + "\"buildMs\":3500,\"referenceFingerprint\":\"zoo\"}"));
+        assertTrue(json.contains("{\"fingerprint\":\"farm\",\"classes\":[\"Config\"],\"activeProfiles\":[\"test\",\"slow\"],"
+                + "\"builds\":1,\"buildMs\":2500,\"testClasses\":[\"java.lang.Integer\"],\"diff\":{\"addedClasses\":[],"
+                + "\"removedClasses\":[],\"addedProfiles\":[\"slow\"],\"removedProfiles\":[]}}"));
+        assertTrue(json.contains("\"testClasses\":[\"java.lang.Long\",\"java.lang.String\"],\"diff\":null}"));
+        assertTrue(json.contains("{\"testClass\":\"java.lang.Integer\",\"executionMs\":2954,\"rebuilds\":1,\"loadMs\":2500,"
+                + "\"events\":[{\"type\":\"REBUILD\",\"timestamp\":\"2026-04-16T09:00:00Z\",\"fingerprint\":\"farm\","
+                + "\"durationMs\":2500,\"classes\":[\"Config\"],\"activeProfiles\":[\"test\",\"slow\"]}],"
+                + "\"removals\":[{\"cause\":\"REMOVED\",\"timestamp\":\"2026-04-16T09:00:05Z\",\"fingerprint\":\"farm\","
+                + "\"hierarchyMode\":\"EXHAUSTIVE\",\"closeMs\":120}]}"));
+        assertTrue(json.contains("{\"testClass\":\"java.lang.Long\",\"executionMs\":null,"));
+        assertTrue(json.indexOf("java.lang.Integer\",\"executionMs") < json.indexOf("java.lang.String\",\"executionMs"));
+    }
+}
@@ -0,0 +1,76 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class NdjsonEventLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MergedContextConfiguration config = new MergedContextConfiguration(NdjsonEventLogTest.class, null,
+            new Class<?>[]{String.class}, null, null);
+
+    @Test
+    void close_shouldWriteEveryEventAsOneLineInOrder() throws IOException {
+        // GIVEN
+        NdjsonEventLog eventLog = NdjsonEventLog.open(tempDir.resolve("events"));
+
+        // WHEN
+        eventLog.onCacheMiss(config);
+        eventLog.onContextLoaded(config, Duration.ofMillis(1200));
+        eventLog.onCacheHit(config);
+        eventLog.close();
+
+        // THEN
+        List<String> lines = Files.readAllLines(eventLog.file());
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"event\":\"MISS\""));
+        assertTrue(lines.get(1).contains("\"event\":\"LOADED\""));
+        assertTrue(lines.get(1).endsWith("\"durationMs\":1200}"));
+        assertTrue(lines.get(2).contains("\"testClass\":\"" + NdjsonEventLogTest.class.getName() + "\""));
+    }
+
+    @Test
+    void writerThread_shouldPersistEventsBeforeClose() throws Exception {
+        // GIVEN
+        NdjsonEventLog eventLog = NdjsonEventLog.open(tempDir);
+
+        // WHEN
+        eventLog.onCacheMiss(config);
+        long deadline = System.nanoTime() + NdjsonEventLog.FLUSH_INTERVAL.multipliedBy(5).toNanos();
+        while (Files.size(eventLog.file()) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // THEN
+        try {
+            assertEquals(1, Files.readAllLines(eventLog.file()).size());
+        } finally {
+            eventLog.close();
+        }
+    }
+
+    @Test
+    void append_shouldBeIgnored_afterClose() throws IOException {
+        // GIVEN
+        NdjsonEventLog eventLog = NdjsonEventLog.open(tempDir);
+        eventLog.close();
+
+        // WHEN
+        eventLog.onCacheHit(config);
+
+        // THEN
+        assertEquals(0, Files.size(eventLog.file()));
+    }
+}
@@ -0,0 +1,54 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class ReuseDistanceHistogramTest {
+
+    private static final Instant T0 = Instant.parse("2026-04-16T09:00:00Z");
+
+    @Test
+    void of_shouldCountDistinctConfigurationsBetweenTwoUses() {
+        // GIVEN
+        CacheReplaySimulator.AccessTrace trace = trace("zoo", "zoo", "farm", "zoo", "savanna", "barn", "farm");
+
+        // WHEN
+        ReuseDistanceHistogram histogram = ReuseDistanceHistogram.of(List.of(trace));
+
+        // THEN
+        assertEquals(7, histogram.lookups());
+        assertEquals(4, histogram.coldLookups());
+        assertEquals(Map.of(0, 1L, 1, 1L, 2, 1L), histogram.buckets());
+        assertEquals("Reuse distance of 7 lookups: 4 cold, 0: 1, 1: 1, 2-3: 1", histogram.describe());
+    }
+
+    @Test
+    void of_shouldIgnoreRemovals() {
+        // GIVEN
+        CacheReplaySimulator.AccessTrace trace = new CacheReplaySimulator.AccessTrace(null, List.of(
+                new CacheReplaySimulator.Access(T0, "ZooTest", "zoo", false),
+                new CacheReplaySimulator.Access(T0.plusSeconds(1), "ZooTest", "zoo", true),
+                new CacheReplaySimulator.Access(T0.plusSeconds(2), "ZebraTest", "zoo", false)), Map.of(), 0, Duration.ZERO);
+
+        // WHEN
+        ReuseDistanceHistogram histogram = ReuseDistanceHistogram.of(List.of(trace));
+
+        // THEN
+        assertEquals(2, histogram.lookups());
+        assertEquals(Map.of(0, 1L), histogram.buckets());
+    }
+
+    private static CacheReplaySimulator.AccessTrace trace(String... fingerprints) {
+        List<CacheReplaySimulator.Access> accesses = Stream.iterate(0, i -> i + 1).limit(fingerprints.length)
+                .map(i -> new CacheReplaySimulator.Access(T0.plusSeconds(i), "Test" + i, fingerprints[i], false))
+                .toList();
+        return new CacheReplaySimulator.AccessTrace(null, accesses, Map.of(), 0, Duration.ZERO);
+    }
+}
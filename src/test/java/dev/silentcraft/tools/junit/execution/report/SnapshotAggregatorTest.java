@@ -0,0 +1,160 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class SnapshotAggregatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_thenRead_shouldRoundTripHistories() throws IOException {
+        // GIVEN
+        TestContextHistory history = new TestContextHistory(List.of(
+                event(EventType.BUILD, 0, "zoo", List.of("zoo"), 1200),
+                event(EventType.REUSE, 5, "zoo", List.of("zoo"), 0)));
+
+        // WHEN
+        Path file = RegistrySnapshotFile.write(Map.of(new TestContextKey(String.class), history),
+                Map.of(String.class.getName(), Duration.ofSeconds(3)), tempDir, "run-1");
+        Map<String, TestContextHistory> read = new HashMap<>();
+        Map<String, Duration> times = new HashMap<>();
+        RegistrySnapshotFile.Header header = RegistrySnapshotFile.read(file, read::put, times::put);
+
+        // THEN
+        assertEquals("run-1", header.runId());
+        assertEquals(ProcessHandle.current().pid(), header.pid());
+        assertEquals(Map.of(String.class.getName(), history), read);
+        assertEquals(Map.of(String.class.getName(), Duration.ofSeconds(3)), times);
+    }
+
+    @Test
+    void read_shouldRejectForeignFiles() throws IOException {
+        // GIVEN
+        Path file = Files.writeString(tempDir.resolve("context-cache-snapshot-1.bin"), "not a snapshot");
+
+        // WHEN / THEN
+        assertThrows(IOException.class, () -> RegistrySnapshotFile.read(file, (testClass, history) -> {
+        }, (testClass, duration) -> {
+        }));
+    }
+
+    @Test
+    void merge_shouldKeepOnlyEarliestBuild_acrossForks() throws IOException {
+        // GIVEN
+        Path firstFork = RegistrySnapshotFile.write(Map.of(new TestContextKey(String.class),
+                        new TestContextHistory(List.of(event(EventType.BUILD, 0, "zoo", List.of("zoo"), 1000)))),
+                Map.of(), tempDir.resolve("a"), null);
+        Path secondFork = RegistrySnapshotFile.write(Map.of(new TestContextKey(Integer.class),
+                        new TestContextHistory(List.of(event(EventType.BUILD, 3, "zoo", List.of("zoo"), 1500)))),
+                Map.of(), tempDir.resolve("b"), null);
+
+        // WHEN
+        SnapshotAggregator.AggregatedSnapshot aggregated = SnapshotAggregator.merge(List.of(firstFork, secondFork));
+
+        // THEN
+        assertEquals(2, aggregated.snapshotCount());
+        assertEquals(EventType.BUILD, aggregated.histories().get(String.class.getName()).events().get(0).type());
+        assertEquals(EventType.REBUILD, aggregated.histories().get(Integer.class.getName()).events().get(0).type());
+        SnapshotAggregator.ConfigurationBuilds zoo = aggregated.configurations().get("zoo");
+        assertEquals(2, zoo.builds());
+        assertEquals(Duration.ofMillis(2500), zoo.buildDuration());
+        assertEquals(2, aggregated.contextBuilds());
+        assertTrue(aggregated.report().get(1).startsWith("Configuration zoo [zoo] built 2 times"));
+    }
+
+    @Test
+    void aggregate_shouldIgnoreSnapshotsOfOtherRuns() throws IOException {
+        // GIVEN
+        Path stale = RegistrySnapshotFile.write(Map.of(new TestContextKey(String.class),
+                new TestContextHistory(List.of(event(EventType.BUILD, 0, "zoo", List.of("zoo"), 1000)))), Map.of(), tempDir, "run-1");
+        Files.move(stale, tempDir.resolve(RegistrySnapshotFile.FILE_PREFIX + "1" + RegistrySnapshotFile.FILE_SUFFIX));
+        RegistrySnapshotFile.write(Map.of(new TestContextKey(Integer.class),
+                new TestContextHistory(List.of(event(EventType.BUILD, 3, "beach", List.of("zoo"), 1500)))), Map.of(), tempDir, "run-2");
+        Files.writeString(tempDir.resolve(RegistrySnapshotFile.FILE_PREFIX + "2" + RegistrySnapshotFile.FILE_SUFFIX), "truncated");
+
+        // WHEN
+        SnapshotAggregator.AggregatedSnapshot current = SnapshotAggregator.aggregate(tempDir, "run-2");
+
+        // THEN
+        assertEquals(1, current.snapshotCount());
+        assertEquals(Set.of(Integer.class.getName()), current.histories().keySet());
+    }
+
+    @Test
+    void deleteStale_shouldDeleteSnapshotsOfOtherRuns() throws IOException {
+        // GIVEN
+        Path stale = RegistrySnapshotFile.write(Map.of(), Map.of(), tempDir, "run-1");
+        Files.move(stale, tempDir.resolve(RegistrySnapshotFile.FILE_PREFIX + "1" + RegistrySnapshotFile.FILE_SUFFIX));
+        Path current = RegistrySnapshotFile.write(Map.of(), Map.of(), tempDir, "run-2");
+
+        // WHEN
+        int deleted = SnapshotAggregator.deleteStale(tempDir, "run-2");
+
+        // THEN
+        assertEquals(1, deleted);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(current), files.toList());
+        }
+    }
+
+    @Test
+    void deleteStale_shouldDeleteStartMarkersOfOtherRuns() throws IOException {
+        // GIVEN
+        Path stale = RegistrySnapshotFile.markStarted(tempDir, "run-1", 1);
+        Path current = RegistrySnapshotFile.markStarted(tempDir, "run-2", 2);
+
+        // WHEN
+        SnapshotAggregator.deleteStale(tempDir, "run-2");
+
+        // THEN
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(current));
+    }
+
+    @Test
+    void pendingForks_shouldCountStartedForksOfTheRunWithoutSnapshot() throws IOException {
+        // GIVEN
+        RegistrySnapshotFile.markStarted(tempDir, "run-2");
+        RegistrySnapshotFile.markStarted(tempDir, "run-2", 1);
+        RegistrySnapshotFile.markStarted(tempDir, "run-1", 2);
+
+        // WHEN
+        int beforeSnapshot = SnapshotAggregator.pendingForks(tempDir, "run-2");
+        RegistrySnapshotFile.write(Map.of(), Map.of(), tempDir, "run-2");
+        int afterSnapshot = SnapshotAggregator.pendingForks(tempDir, "run-2");
+
+        // THEN
+        assertEquals(2, beforeSnapshot);
+        assertEquals(1, afterSnapshot);
+    }
+
+    @Test
+    void aggregate_shouldReturnEmptySnapshot_whenDirectoryIsMissing() throws IOException {
+        SnapshotAggregator.AggregatedSnapshot aggregated = SnapshotAggregator.aggregate(tempDir.resolve("missing"));
+
+        assertEquals(0, aggregated.snapshotCount());
+        assertEquals(0, aggregated.contextBuilds());
+    }
+}
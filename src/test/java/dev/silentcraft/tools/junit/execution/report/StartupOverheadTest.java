@@ -0,0 +1,74 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import static dev.silentcraft.tools.junit.execution.report.TestEvents.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextKey;
+
+class StartupOverheadTest {
+
+    @Test
+    void of_shouldSubtractBuildTimeFromExecutionTime() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(String.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 25_000))),
+                new TestContextKey(Long.class), new TestContextHistory(List.of(event(EventType.REBUILD, "zoo", 2_000))),
+                new TestContextKey(Integer.class), new TestContextHistory(List.of(event(EventType.REUSE, "zoo", 0))));
+        Map<String, Duration> classDurations = Map.of(
+                String.class.getName(), Duration.ofMillis(25_200),
+                Long.class.getName(), Duration.ofMillis(10_000),
+                Integer.class.getName(), Duration.ofMillis(300));
+
+        // WHEN
+        List<StartupOverhead.Ratio> ratios = StartupOverhead.of(snapshot, classDurations);
+
+        // THEN
+        assertEquals(2, ratios.size(), "classes that built no context have no ratio");
+        StartupOverhead.Ratio worst = ratios.get(0);
+        assertEquals(String.class.getName(), worst.testClass());
+        assertEquals(Duration.ofMillis(200), worst.testDuration());
+        assertEquals(125, worst.ratio(), 0.001);
+        assertEquals("java.lang.String: 25.0 s of context for 0.2 s of tests (125x)", worst.describe());
+        assertEquals(0.25, ratios.get(1).ratio(), 0.001);
+    }
+
+    @Test
+    void of_shouldCountNestedClassBuildsForTopLevelClass() {
+        // GIVEN
+        Map<TestContextKey, TestContextHistory> snapshot = Map.of(
+                new TestContextKey(Inner.class), new TestContextHistory(List.of(event(EventType.BUILD, "zoo", 3_000))));
+
+        // WHEN
+        List<StartupOverhead.Ratio> ratios = StartupOverhead.of(snapshot,
+                Map.of(StartupOverheadTest.class.getName(), Duration.ofMillis(2_000)));
+
+        // THEN
+        assertEquals(StartupOverheadTest.class.getName(), ratios.get(0).testClass());
+        assertEquals(Duration.ZERO, ratios.get(0).testDuration(), "a build longer than the recorded execution leaves no test time");
+    }
+
+    @Test
+    void dominatedBy_shouldRequireBothRatioAndBuildTime() {
+        StartupOverhead.Ratio quickContext = new StartupOverhead.Ratio("Quick", Duration.ofMillis(500), Duration.ofMillis(10));
+        StartupOverhead.Ratio slowContext = new StartupOverhead.Ratio("Slow", Duration.ofSeconds(25), Duration.ofMillis(200));
+
+        assertFalse(quickContext.dominatedBy(10, Duration.ofSeconds(1)));
+        assertTrue(slowContext.dominatedBy(10, Duration.ofSeconds(1)));
+        assertFalse(slowContext.dominatedBy(200, Duration.ofSeconds(1)));
+    }
+
+    @Nested
+    class Inner {
+    }
+}
@@ -0,0 +1,38 @@
+package dev.silentcraft.tools.junit.execution.report;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import dev.silentcraft.tools.spring.test.context.cache.EventType;
+import dev.silentcraft.tools.spring.test.context.cache.TestContextHistory;
+
+/**
+ * Recorded events shared by the report tests, all built from the {@code Config} configuration class.
+ */
+final class TestEvents {
+
+    /**
+     * Start of the recorded runs.
+     */
+    static final Instant T0 = Instant.parse("2026-04-16T09:00:00Z");
+
+    private TestEvents() {
+    }
+
+    /**
+     * Creates an event recorded at {@link #T0} without active profile.
+     */
+    static TestContextHistory.Events event(EventType type, String fingerprint, long durationMillis) {
+        return event(type, 0, fingerprint, List.of(), durationMillis);
+    }
+
+    /**
+     * Creates an event recorded some seconds after {@link #T0}.
+     */
+    static TestContextHistory.Events event(EventType type, long secondsAfterStart, String fingerprint, List<String> profiles,
+                                           long durationMillis) {
+        return new TestContextHistory.Events(type, T0.plusSeconds(secondsAfterStart), List.of("Config"), profiles, fingerprint,
+                Duration.ofMillis(durationMillis));
+    }
+}
@@ -0,0 +1,174 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.ContextCache;
+import org.springframework.test.context.cache.DefaultContextCache;
+
+class AsyncClosingContextCacheTest {
+
+    private final MergedContextConfiguration zoo = configuration(String.class, "zoo");
+    private final MergedContextConfiguration farm = configuration(Integer.class, "farm");
+    private final List<ContextRemoval> removals = new CopyOnWriteArrayList<>();
+
+    @Test
+    void remove_shouldDetachImmediately_andCloseInBackground() throws InterruptedException {
+        // GIVEN
+        CountDownLatch closing = new CountDownLatch(1);
+        GenericApplicationContext context = blockingContext(closing);
+        ObservableContextCache cache = observableCache(new AsyncClosingContextCache(4, 4));
+        cache.put(zoo, context);
+
+        // WHEN
+        cache.remove(zoo, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+        boolean cachedAfterRemove = cache.contains(zoo);
+        boolean activeAfterRemove = context.isActive();
+        closing.countDown();
+
+        // THEN
+        assertTrue(cache.awaitPendingCloses(Duration.ofSeconds(5)));
+        assertFalse(cachedAfterRemove);
+        assertTrue(activeAfterRemove);
+        assertFalse(context.isActive());
+        assertEquals(1, removals.size());
+        assertEquals(String.class, removals.getFirst().testClass());
+        assertEquals(ContextRemoval.Cause.REMOVED, removals.getFirst().cause());
+    }
+
+    @Test
+    void put_shouldCloseEvictedContext_whenMaxSizeIsReached() {
+        // GIVEN
+        GenericApplicationContext evicted = refreshedContext();
+        ObservableContextCache cache = observableCache(new AsyncClosingContextCache(1, 4));
+        cache.put(zoo, evicted);
+
+        // WHEN
+        cache.put(farm, refreshedContext());
+
+        // THEN
+        assertTrue(cache.awaitPendingCloses(Duration.ofSeconds(5)));
+        assertFalse(cache.contains(zoo));
+        assertTrue(cache.contains(farm));
+        assertFalse(evicted.isActive());
+        assertEquals(ContextRemoval.Cause.EVICTED, removals.getFirst().cause());
+        assertEquals(ConfigurationFingerprint.of(zoo), removals.getFirst().fingerprint());
+    }
+
+    @Test
+    void remove_shouldCloseOnCallingThread_whenQueueIsFull() throws InterruptedException {
+        // GIVEN
+        CountDownLatch closing = new CountDownLatch(1);
+        ObservableContextCache cache = observableCache(new AsyncClosingContextCache(4, 1));
+        MergedContextConfiguration zebra = configuration(Long.class, "zebra");
+        cache.put(zoo, blockingContext(closing));
+        cache.put(farm, refreshedContext());
+        GenericApplicationContext overflow = refreshedContext();
+        cache.put(zebra, overflow);
+        cache.remove(zoo, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+        cache.remove(farm, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+
+        // WHEN
+        cache.remove(zebra, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+        boolean closedByCaller = !overflow.isActive();
+        closing.countDown();
+
+        // THEN
+        assertTrue(cache.awaitPendingCloses(Duration.ofSeconds(5)));
+        assertTrue(closedByCaller);
+        assertEquals(3, removals.size());
+    }
+
+    @Test
+    void put_shouldNotLockCache_whileClosingEvictedContextOnCallingThread() throws InterruptedException {
+        // GIVEN
+        CountDownLatch closing = new CountDownLatch(1);
+        AsyncClosingContextCache cache = new AsyncClosingContextCache(1, 1);
+        MergedContextConfiguration zebra = configuration(Long.class, "zebra");
+        AtomicBoolean lookupDuringClose = new AtomicBoolean();
+        cache.put(zoo, blockingContext(closing));
+        cache.put(farm, refreshedContext());
+        cache.put(zebra, closingContext(() -> lookupDuringClose.set(
+                CompletableFuture.supplyAsync(() -> cache.contains(zoo)).completeOnTimeout(true, 1, TimeUnit.SECONDS).join() == Boolean.FALSE)));
+
+        // WHEN
+        cache.put(configuration(Double.class, "lion"), refreshedContext());
+        closing.countDown();
+
+        // THEN
+        assertTrue(cache.awaitPendingCloses(Duration.ofSeconds(5)));
+        assertTrue(lookupDuringClose.get());
+    }
+
+    @Test
+    void remove_shouldReportCloseDuration_whenClosingSynchronously() {
+        // GIVEN
+        GenericApplicationContext context = refreshedContext();
+        ObservableContextCache cache = observableCache(new DefaultContextCache());
+        cache.put(zoo, context);
+
+        // WHEN
+        cache.remove(zoo, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+
+        // THEN
+        assertFalse(context.isActive());
+        assertEquals(1, removals.size());
+        assertEquals(ContextRemoval.Cause.REMOVED, removals.getFirst().cause());
+    }
+
+    private ObservableContextCache observableCache(ContextCache delegate) {
+        ObservableContextCache cache = new ObservableContextCache(delegate);
+        cache.registerListener(new ContextCacheMissesListener() {
+            @Override
+            public void onCacheMiss(MergedContextConfiguration key) {
+            }
+
+            @Override
+            public void onCacheHit(MergedContextConfiguration key) {
+            }
+
+            @Override
+            public void onContextRemoved(ContextRemoval removal) {
+                removals.add(removal);
+            }
+        });
+        return cache;
+    }
+
+    private static MergedContextConfiguration configuration(Class<?> testClass, String profile) {
+        return new MergedContextConfiguration(testClass, null, new Class<?>[]{TestApplication.class}, new String[]{profile}, null);
+    }
+
+    private static GenericApplicationContext blockingContext(CountDownLatch closing) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("blocking", AutoCloseable.class, () -> () -> closing.await(5, TimeUnit.SECONDS));
+        context.refresh();
+        return context;
+    }
+
+    private static GenericApplicationContext closingContext(Runnable onClose) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("closing", AutoCloseable.class, () -> onClose::run);
+        context.refresh();
+        return context;
+    }
+
+    private static GenericApplicationContext refreshedContext() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,108 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+class BeanUsageRegistryTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        BeanUsageRegistry.clear();
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean("dataSource", DataSource.class, BeanUsageRegistryTest::fakeDataSource);
+        context.registerBean("greetingService", GreetingService.class);
+        context.registerBean("greetingController", GreetingController.class);
+        context.registerBean("unrelatedService", UnrelatedService.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void recordResolved_shouldComputeTransitiveClosure() {
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("greetingController"), false,
+                context.getBeanFactory());
+
+        BeanUsageRegistry.BeanUsage usage = BeanUsageRegistry.snapshot().get(new TestContextKey(BeanUsageRegistryTest.class));
+
+        assertEquals(Set.of("greetingController", "greetingService"), usage.beanClosure());
+        assertEquals(context.getBeanDefinitionCount(), usage.beanDefinitionCount());
+        assertTrue(usage.closureRatio() < 1.0);
+    }
+
+    @Test
+    void recordResolved_shouldSuggestWebMvcSlice_whenOnlyControllersAreReached() {
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("greetingController"), false,
+                context.getBeanFactory());
+
+        assertEquals(TestSlice.WEB_MVC, BeanUsageRegistry.snapshot().get(new TestContextKey(BeanUsageRegistryTest.class)).slice());
+    }
+
+    @Test
+    void recordResolved_shouldSuggestDataJpaSlice_whenOnlyPersistenceIsReached() {
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("dataSource"), false,
+                context.getBeanFactory());
+
+        assertEquals(TestSlice.DATA_JPA, BeanUsageRegistry.snapshot().get(new TestContextKey(BeanUsageRegistryTest.class)).slice());
+    }
+
+    @Test
+    void recordResolved_shouldNotSuggestSlice_whenContextIsAccessedDirectly() {
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("greetingController"), true,
+                context.getBeanFactory());
+
+        assertEquals(TestSlice.NONE, BeanUsageRegistry.snapshot().get(new TestContextKey(BeanUsageRegistryTest.class)).slice());
+    }
+
+    @Test
+    void recordResolved_shouldDropSlice_whenInstancesDisagree() {
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("greetingController"), false,
+                context.getBeanFactory());
+        BeanUsageRegistry.recordResolved(BeanUsageRegistryTest.class, Set.of("dataSource"), false,
+                context.getBeanFactory());
+
+        BeanUsageRegistry.BeanUsage usage = BeanUsageRegistry.snapshot().get(new TestContextKey(BeanUsageRegistryTest.class));
+
+        assertEquals(TestSlice.NONE, usage.slice());
+        assertEquals(Set.of("greetingController", "dataSource"), usage.resolvedBeans());
+    }
+
+    private static DataSource fakeDataSource() {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> null);
+    }
+
+    @Service
+    static class GreetingService {
+    }
+
+    @Service
+    static class UnrelatedService {
+    }
+
+    @Controller
+    static class GreetingController {
+        private final GreetingService greetingService;
+
+        GreetingController(GreetingService greetingService) {
+            this.greetingService = greetingService;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class CacheCostRollupTest {
+
+    private final CacheCostRollup rollup = new CacheCostRollup();
+
+    @Test
+    void snapshot_shouldRollBuildsUpThePackageTree() {
+        // GIVEN
+        rollup.recordBuild(String.class, "zoo");
+        rollup.recordLoad(String.class, Duration.ofSeconds(3));
+        rollup.recordBuild(Map.class, "farm");
+        rollup.recordLoad(Map.class, Duration.ofSeconds(1));
+        rollup.recordBuild(Test.class, "zoo");
+        rollup.recordLoad(Test.class, Duration.ofSeconds(4));
+
+        // WHEN
+        CacheCostRollup.Rollup snapshot = rollup.snapshot();
+
+        // THEN
+        assertEquals(List.of("java", "java.lang", "java.util", "org", "org.junit", "org.junit.jupiter", "org.junit.jupiter.api"),
+                snapshot.packages().stream().map(CacheCostRollup.Totals::name).toList(), "parents come before their subpackages");
+        Map<String, CacheCostRollup.Totals> packages = snapshot.packages().stream()
+                .collect(Collectors.toMap(CacheCostRollup.Totals::name, Function.identity()));
+        assertEquals(new CacheCostRollup.Totals("java", 2, Duration.ofSeconds(4), 2), packages.get("java"));
+        assertEquals(new CacheCostRollup.Totals("java.lang", 1, Duration.ofSeconds(3), 1), packages.get("java.lang"));
+        assertEquals(4, packages.get("org.junit.jupiter.api").depth());
+        assertEquals(Duration.ofSeconds(8), snapshot.buildDuration());
+        assertEquals(0.5, snapshot.share(packages.get("java")));
+    }
+
+    @Test
+    void snapshot_shouldCountDistinctContextsByModule() {
+        // GIVEN
+        rollup.recordBuild(CacheCostRollupTest.class, "zoo");
+        rollup.recordBuild(CacheCostRollupTest.class, "zoo");
+        rollup.recordBuild(TestContextKey.class, "farm");
+
+        // WHEN
+        List<CacheCostRollup.Totals> modules = rollup.snapshot().modules();
+
+        // THEN
+        assertTrue(modules.stream().anyMatch(module -> module.name().equals("spring-test-context-cache-metrics")
+                        || module.name().equals("project")),
+                () -> "test and main classes of this project count for its module: " + modules);
+        assertEquals(3, modules.stream().mapToInt(CacheCostRollup.Totals::builds).sum());
+        assertEquals(2, modules.stream().mapToInt(CacheCostRollup.Totals::distinctContexts).max().orElseThrow());
+    }
+
+    @Test
+    void moduleOf_shouldNameDirectoryHoldingBuildOutput() {
+        String module = CacheCostRollup.moduleOf(CacheCostRollupTest.class);
+
+        assertEquals(module, CacheCostRollup.moduleOf(CacheCostRollup.class), "main and test classes share the module");
+    }
+
+    @Test
+    void clear_shouldForgetRecordedBuilds() {
+        // GIVEN
+        rollup.recordBuild(String.class, "zoo");
+
+        // WHEN
+        rollup.clear();
+
+        // THEN
+        assertTrue(rollup.snapshot().modules().isEmpty());
+        assertTrue(rollup.snapshot().packages().isEmpty());
+    }
+}
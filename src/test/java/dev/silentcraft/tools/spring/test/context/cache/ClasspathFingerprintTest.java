@@ -0,0 +1,61 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClasspathFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path classes;
+    private Path testClasses;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        classes = Files.createDirectories(tempDir.resolve("target/classes"));
+        testClasses = Files.createDirectories(tempDir.resolve("target/test-classes"));
+        Files.writeString(classes.resolve("application.properties"), "zoo.name=savanna");
+        Files.writeString(testClasses.resolve("ZooTest.class"), "test");
+    }
+
+    @Test
+    void of_shouldChange_whenResourceChanges() throws IOException {
+        // GIVEN
+        String before = fingerprint();
+
+        // WHEN
+        Path resource = Files.writeString(classes.resolve("application.properties"), "zoo.name=jungle!");
+        Files.setLastModifiedTime(resource, FileTime.from(Instant.parse("2026-04-16T09:00:00Z")));
+
+        // THEN
+        assertNotEquals(before, fingerprint());
+    }
+
+    @Test
+    void of_shouldNotChange_whenOnlyTestCodeChanges() throws IOException {
+        // GIVEN
+        String before = fingerprint();
+
+        // WHEN
+        Files.writeString(testClasses.resolve("ZebraTest.class"), "new test");
+
+        // THEN
+        assertEquals(before, fingerprint());
+    }
+
+    private String fingerprint() {
+        return ClasspathFingerprint.of(List.of(classes, testClasses), ClasspathFingerprint.DEFAULT_IGNORED_PATHS);
+    }
+}
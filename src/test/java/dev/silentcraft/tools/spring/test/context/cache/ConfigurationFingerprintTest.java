@@ -0,0 +1,145 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class ConfigurationFingerprintTest {
+
+    @Test
+    void of_shouldIgnoreTestClass() {
+        MergedContextConfiguration first = new MergedContextConfiguration(String.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null);
+        MergedContextConfiguration second = new MergedContextConfiguration(Integer.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null);
+
+        assertEquals(ConfigurationFingerprint.of(first), ConfigurationFingerprint.of(second));
+    }
+
+    @Test
+    void of_shouldDifferWhenProfilesDiffer() {
+        MergedContextConfiguration zoo = new MergedContextConfiguration(String.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null);
+        MergedContextConfiguration beach = new MergedContextConfiguration(String.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"beach"}, null);
+
+        assertNotEquals(ConfigurationFingerprint.of(zoo), ConfigurationFingerprint.of(beach));
+    }
+
+    @Test
+    void of_shouldBeStableForEqualConfigurations() {
+        String expected = ConfigurationFingerprint.of(new MergedContextConfiguration(String.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null));
+
+        String fingerprint = ConfigurationFingerprint.of(new UncachedConfiguration());
+
+        assertEquals(16, fingerprint.length());
+        assertEquals(expected, fingerprint);
+    }
+
+    @Test
+    void of_shouldBeTheSameInAnotherJvm() throws Exception {
+        // GIVEN
+        List<String> expected = FingerprintPrinter.fingerprints();
+
+        // WHEN
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), FingerprintPrinter.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor(1, TimeUnit.MINUTES);
+
+        // THEN
+        assertEquals(0, process.exitValue(), output);
+        assertEquals(expected, output.lines().filter(line -> line.startsWith("fingerprint=")).toList(), output);
+    }
+
+    /**
+     * Prints, in a forked JVM, the fingerprints of configurations whose customizers hash identity-based values.
+     */
+    static class FingerprintPrinter {
+
+        public static void main(String[] args) throws IOException {
+            for (String fingerprint : fingerprints()) {
+                System.out.println(fingerprint);
+            }
+        }
+
+        static List<String> fingerprints() {
+            try {
+                MergedContextConfiguration customized = new MergedContextConfiguration(String.class, null,
+                        new Class<?>[]{TestApplication.class}, null, new String[]{"zoo"}, List.of(), null,
+                        Set.of(new ClassHoldingCustomizer(TestApplication.class)), null, null, null);
+                Class<?> importing = Class.forName(
+                        "dev.silentcraft.tools.spring.test.context.cache.playground.config.ImportOnTestClassTest");
+                return List.of("fingerprint=" + ConfigurationFingerprint.of(customized),
+                        "fingerprint=" + ConfigurationFingerprint.ofTestClass(importing));
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Customizer without {@code toString()} whose hash code is the identity hash code of a class.
+     */
+    private static final class ClassHoldingCustomizer implements ContextCustomizer {
+
+        private final Class<?> type;
+
+        private ClassHoldingCustomizer(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ClassHoldingCustomizer customizer && type == customizer.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type);
+        }
+    }
+
+    /**
+     * Equal to the configurations above but of another type, so the fingerprint is recomputed
+     * from its properties instead of being served from the cache.
+     */
+    private static class UncachedConfiguration extends MergedContextConfiguration {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        UncachedConfiguration() {
+            super(Long.class, null, new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
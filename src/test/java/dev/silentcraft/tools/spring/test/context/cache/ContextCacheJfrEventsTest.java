@@ -0,0 +1,58 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class ContextCacheJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldEmitEventsForFullContextLifecycle() throws Exception {
+        ObservableContextCache cache = new ObservableContextCache();
+        MergedContextConfiguration config = new MergedContextConfiguration(ContextCacheJfrEventsTest.class, null,
+                new Class<?>[]{TestApplication.class}, new String[]{"jfr"}, null);
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+
+        Path dump = tempDir.resolve("context-cache.jfr");
+        try (Recording recording = new Recording()) {
+            List.of("Hit", "Miss", "Put", "Remove").forEach(name -> recording.enable("dev.silentcraft.ContextCache" + name));
+            recording.enable("dev.silentcraft.ContextLoad");
+            recording.start();
+
+            cache.get(config);
+            cache.put(config, context);
+            cache.get(config);
+            cache.remove(config, DirtiesContext.HierarchyMode.CURRENT_LEVEL);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<String> names = events.stream().map(event -> event.getEventType().getName()).toList();
+
+        assertEquals(List.of("dev.silentcraft.ContextCacheMiss", "dev.silentcraft.ContextCachePut",
+                "dev.silentcraft.ContextLoad", "dev.silentcraft.ContextCacheHit", "dev.silentcraft.ContextCacheRemove"), names);
+        assertTrue(events.stream().allMatch(event ->
+                ContextCacheJfrEventsTest.class.getName().equals(event.getString("testClass"))
+                        && ConfigurationFingerprint.of(config).equals(event.getString("fingerprint"))));
+        assertTrue(Files.size(dump) > 0);
+    }
+}
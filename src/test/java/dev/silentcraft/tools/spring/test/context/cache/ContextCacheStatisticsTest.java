@@ -0,0 +1,78 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class ContextCacheStatisticsTest {
+
+    private final ObservableContextCache cache = new ObservableContextCache();
+    private final ContextCacheStatistics statistics = new ContextCacheStatistics(cache);
+
+    @Test
+    void callbacks_shouldUpdateCounters() {
+        // GIVEN
+        MergedContextConfiguration zoo = config(String.class, "zoo");
+        MergedContextConfiguration farm = config(Long.class, "farm");
+
+        // WHEN
+        statistics.onCacheMiss(zoo);
+        statistics.onContextLoaded(zoo, Duration.ofMillis(1200));
+        statistics.onCacheHit(zoo);
+        statistics.onCacheHit(zoo);
+        statistics.onCacheMiss(farm);
+        statistics.onContextLoaded(farm, Duration.ofMillis(3400));
+        statistics.onCacheMiss(zoo);
+
+        // THEN
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(3, statistics.getMissCount());
+        assertEquals(0.4, statistics.getHitRatio(), 0.001);
+        assertEquals(4600, statistics.getCumulativeBuildMillis());
+        assertEquals(List.of("java.lang.Long: 1 builds, 3.4 s", "java.lang.String: 1 builds, 1.2 s"), statistics.getTopOffenders());
+    }
+
+    @Test
+    void getBuildsInProgress_shouldNotCountFailedLoads() {
+        // GIVEN
+        MergedContextConfiguration zoo = config(String.class, "zoo");
+        MergedContextConfiguration farm = config(Long.class, "farm");
+        cache.get(zoo);
+        cache.get(farm);
+
+        // WHEN
+        cache.incrementFailureCount(zoo);
+
+        // THEN
+        assertEquals(1, statistics.getBuildsInProgress());
+    }
+
+    @Test
+    void statistics_shouldBeReadableAsMXBean() throws Exception {
+        // GIVEN
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(ContextCacheStatistics.OBJECT_NAME);
+        statistics.onCacheHit(config(String.class, "zoo"));
+
+        // WHEN
+        server.registerMBean(statistics, name);
+
+        // THEN
+        assertEquals(1L, server.getAttribute(name, "HitCount"));
+        assertEquals(0, server.getAttribute(name, "Size"));
+        assertArrayEquals(new String[0], (String[]) server.getAttribute(name, "TopOffenders"));
+    }
+
+    private static MergedContextConfiguration config(Class<?> testClass, String profile) {
+        return new MergedContextConfiguration(testClass, null, new Class<?>[]{TestApplication.class}, new String[]{profile}, null);
+    }
+}
@@ -0,0 +1,156 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class ContextPrewarmerTest {
+
+    private final MergedContextConfiguration zoo = TestClassConfigurations.resolve(ZooFixture.class);
+    private final MergedContextConfiguration beach = TestClassConfigurations.resolve(BeachFixture.class);
+    private final ObservableContextCache cache = new ObservableContextCache();
+    private final SpyListener spy = new SpyListener();
+
+    @AfterEach
+    void tearDown() {
+        ContextPrewarmer prewarmer = cache.prewarmWith(null);
+        if (prewarmer != null) {
+            prewarmer.close();
+        }
+        cache.remove(beach, null);
+    }
+
+    @Test
+    void get_shouldReturnPrewarmedContext_andReportMissAndLoad() {
+        // GIVEN
+        ContextPrewarmer prewarmer = new ContextPrewarmer(List.of(zoo, beach, zoo), 1, 1.0);
+        cache.prewarmWith(prewarmer);
+        cache.registerListener(spy);
+
+        // WHEN
+        ApplicationContext zooContext = cache.get(zoo);
+        ApplicationContext beachContext = cache.get(beach);
+
+        // THEN
+        assertNull(zooContext);
+        assertNotNull(beachContext);
+        assertTrue(cache.contains(beach));
+        assertEquals(List.of("miss:ZooFixture", "miss:BeachFixture", "loaded:BeachFixture"), spy.events);
+        ContextPrewarmer.Stats stats = prewarmer.stats();
+        assertEquals(1, stats.started());
+        assertEquals(1, stats.taken());
+    }
+
+    @Test
+    void get_shouldReportOnlyWaitedPartOfPrewarmedBuildAsLoad() throws InterruptedException {
+        // GIVEN
+        ContextPrewarmer prewarmer = new ContextPrewarmer(List.of(zoo, beach), 1, 1.0);
+        cache.prewarmWith(prewarmer);
+        cache.registerListener(spy);
+        cache.get(zoo);
+        Thread.sleep(100);
+
+        // WHEN
+        cache.get(beach);
+
+        // THEN
+        assertEquals(1, spy.loadDurations.size());
+        Duration waited = spy.loadDurations.getFirst();
+        assertEquals(spy.prewarmedBuild.minus(prewarmer.stats().hidden()), waited);
+        assertTrue(waited.compareTo(spy.prewarmedBuild) < 0, "Time hidden behind test execution must not be reported as load");
+    }
+
+    @Test
+    void advance_shouldNotStartBuilds_aboveMemoryCeiling() {
+        // GIVEN
+        ContextPrewarmer prewarmer = new ContextPrewarmer(List.of(zoo, beach), 1, 0.0);
+        cache.prewarmWith(prewarmer);
+
+        // WHEN
+        cache.get(zoo);
+
+        // THEN
+        assertNull(cache.get(beach));
+        assertEquals(0, prewarmer.stats().started());
+        assertEquals(1, prewarmer.stats().skippedForMemory());
+    }
+
+    @Test
+    void advance_shouldCountConfigurationSkippedForMemoryOnce() {
+        // GIVEN
+        ContextPrewarmer prewarmer = new ContextPrewarmer(List.of(zoo, beach), 1, 0.0);
+
+        // WHEN
+        prewarmer.advance(null, config -> config == zoo);
+        prewarmer.advance(null, config -> config == zoo);
+        prewarmer.advance(zoo, config -> false);
+
+        // THEN
+        assertEquals(0, prewarmer.stats().started());
+        assertEquals(1, prewarmer.stats().skippedForMemory());
+    }
+
+    @Test
+    void advance_shouldSkipCachedConfigurations() {
+        // GIVEN
+        ContextPrewarmer prewarmer = new ContextPrewarmer(List.of(zoo, beach), 1, 1.0);
+
+        // WHEN
+        prewarmer.advance(zoo, config -> true);
+
+        // THEN
+        assertEquals(0, prewarmer.stats().started());
+        assertNull(prewarmer.take(beach));
+    }
+
+    // --- fixtures ---
+
+    @ActiveProfiles("zoo")
+    @CacheAwareSpringBootTest(classes = TestApplication.class)
+    static class ZooFixture {
+    }
+
+    @ActiveProfiles("beach")
+    @CacheAwareSpringBootTest(classes = TestApplication.class)
+    static class BeachFixture {
+    }
+
+    private static class SpyListener implements ContextCacheMissesListener {
+        private final List<String> events = new ArrayList<>();
+        private final List<Duration> loadDurations = new ArrayList<>();
+        private Duration prewarmedBuild;
+
+        @Override
+        public void onCacheMiss(MergedContextConfiguration key) {
+            events.add("miss:" + key.getTestClass().getSimpleName());
+        }
+
+        @Override
+        public void onCacheHit(MergedContextConfiguration key) {
+            events.add("hit:" + key.getTestClass().getSimpleName());
+        }
+
+        @Override
+        public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+            events.add("loaded:" + key.getTestClass().getSimpleName());
+            loadDurations.add(loadDuration);
+        }
+
+        @Override
+        public void onContextPrewarmed(MergedContextConfiguration key, Duration buildDuration, Duration waited) {
+            prewarmedBuild = buildDuration;
+            ContextCacheMissesListener.super.onContextPrewarmed(key, buildDuration, waited);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+class EarlyContextEvictorTest {
+
+    private final MergedContextConfiguration zoo = new MergedContextConfiguration(String.class, null,
+            new Class<?>[]{TestApplication.class}, new String[]{"zoo"}, null);
+    private final ObservableContextCache cache = new ObservableContextCache();
+
+    @Test
+    void release_shouldCloseContext_whenLastUserFinishes() {
+        // GIVEN
+        GenericApplicationContext context = refreshedContext();
+        cache.put(zoo, context);
+        EarlyContextEvictor evictor = new EarlyContextEvictor(cache, Map.of(zoo, 2));
+
+        // WHEN
+        evictor.release(zoo);
+        boolean cachedAfterFirstUser = cache.contains(zoo);
+        evictor.release(zoo);
+        evictor.close();
+
+        // THEN
+        assertTrue(cachedAfterFirstUser);
+        assertFalse(cache.contains(zoo));
+        assertFalse(context.isActive());
+        assertEquals(1, evictor.evictedCount());
+    }
+
+    @Test
+    void release_shouldReportEarlyEviction_notRemoval() {
+        // GIVEN
+        List<ContextRemoval> removals = new CopyOnWriteArrayList<>();
+        cache.registerListener(new ContextCacheMissesListener() {
+            @Override
+            public void onCacheMiss(MergedContextConfiguration key) {
+            }
+
+            @Override
+            public void onCacheHit(MergedContextConfiguration key) {
+            }
+
+            @Override
+            public void onContextRemoved(ContextRemoval removal) {
+                removals.add(removal);
+            }
+        });
+        cache.put(zoo, refreshedContext());
+        EarlyContextEvictor evictor = new EarlyContextEvictor(cache, Map.of(zoo, 1));
+
+        // WHEN
+        evictor.release(zoo);
+        evictor.close();
+
+        // THEN
+        assertEquals(1, removals.size());
+        assertEquals(ContextRemoval.Cause.EARLY_EVICTED, removals.getFirst().cause());
+    }
+
+    @Test
+    void release_shouldKeepContextHierarchies() {
+        // GIVEN
+        MergedContextConfiguration child = new MergedContextConfiguration(Integer.class, null,
+                new Class<?>[]{TestApplication.class}, null, new String[]{"zoo"}, null, null, zoo);
+        cache.put(zoo, refreshedContext());
+        EarlyContextEvictor evictor = new EarlyContextEvictor(cache, Map.of(zoo, 1, child, 1));
+
+        // WHEN
+        evictor.release(zoo);
+        evictor.release(child);
+        evictor.close();
+
+        // THEN
+        assertTrue(cache.contains(zoo));
+        assertEquals(0, evictor.evictedCount());
+    }
+
+    @Test
+    void release_shouldIgnoreContextsNoLongerCached() {
+        // GIVEN
+        EarlyContextEvictor evictor = new EarlyContextEvictor(cache, Map.of(zoo, 1));
+
+        // WHEN
+        evictor.release(zoo);
+        evictor.close();
+
+        // THEN
+        assertEquals(0, evictor.evictedCount());
+    }
+
+    private static GenericApplicationContext refreshedContext() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        return context;
+    }
+}
@@ -1,8 +1,10 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
 import java.io.Serial;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -10,9 +12,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.SpringVersion;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.MergedContextConfiguration;
 import org.springframework.test.context.cache.ContextCache;
+import org.springframework.test.context.cache.DefaultContextCache;
 
 class ObservableContextCacheTest {
 
@@ -50,10 +54,199 @@ class ObservableContextCacheTest {
         Assertions.assertEquals(1, spyContextCacheListener.cacheMissesCount());
     }
 
+    @Test
+    void put_triggersOnContextLoaded_whenPrecededByCacheMiss() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new FakeContextCache());
+        SpyContextCacheListener spyContextCacheListener = new SpyContextCacheListener();
+        cache.registerListener(spyContextCacheListener);
+        FakeMergedContextConfiguration contextConfiguration = new FakeMergedContextConfiguration();
+
+        // WHEN
+        cache.get(contextConfiguration);
+        cache.put(contextConfiguration, new GenericApplicationContext());
+
+        // THEN
+        Assertions.assertEquals(1, spyContextCacheListener.contextLoadedCount());
+    }
+
+    @Test
+    void put_doesNotTriggerOnContextLoaded_withoutCacheMiss() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new FakeContextCache());
+        SpyContextCacheListener spyContextCacheListener = new SpyContextCacheListener();
+        cache.registerListener(spyContextCacheListener);
+
+        // WHEN
+        cache.put(new FakeMergedContextConfiguration(), new GenericApplicationContext());
+
+        // THEN
+        Assertions.assertEquals(0, spyContextCacheListener.contextLoadedCount());
+    }
+
+    @Test
+    void put_shouldKeepPinnedContext_whenDelegateEvicts() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(1), Set.of());
+        MergedContextConfiguration pinnedConfig = configuration(PinnedTest.class, "full");
+        cache.put(pinnedConfig, new GenericApplicationContext());
+
+        // WHEN
+        cache.put(configuration(String.class, "one-off"), new GenericApplicationContext());
+        cache.put(configuration(Integer.class, "another-one-off"), new GenericApplicationContext());
+        cache.get(pinnedConfig);
+
+        // THEN
+        Assertions.assertTrue(cache.contains(pinnedConfig));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Map.of(ConfigurationFingerprint.of(pinnedConfig), 1), cache.pinnedHits());
+    }
+
+    @Test
+    void get_shouldPromoteContext_onFirstHitFromPinnedClass() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(1), Set.of());
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        cache.put(configuration(String.class, "full"), context);
+        MergedContextConfiguration pinnedConfig = configuration(PinnedTest.class, "full");
+
+        // WHEN
+        cache.get(pinnedConfig);
+        cache.put(configuration(Integer.class, "one-off"), new GenericApplicationContext());
+
+        // THEN
+        Assertions.assertSame(context, cache.get(pinnedConfig));
+        Assertions.assertTrue(context.isActive());
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Map.of(ConfigurationFingerprint.of(pinnedConfig), 1), cache.pinnedHits());
+    }
+
+    @Test
+    void get_shouldPromoteContext_whenDelegateClosesAsynchronously() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new AsyncClosingContextCache(1, 1), Set.of());
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        cache.put(configuration(String.class, "full"), context);
+
+        // WHEN
+        cache.get(configuration(PinnedTest.class, "full"));
+        cache.put(configuration(Integer.class, "one-off"), new GenericApplicationContext());
+
+        // THEN
+        Assertions.assertSame(context, cache.get(configuration(Long.class, "full")));
+        Assertions.assertTrue(context.isActive());
+    }
+
+    @Test
+    void put_shouldPinConfiguredFingerprints() {
+        // GIVEN
+        MergedContextConfiguration pinnedConfig = configuration(String.class, "full");
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(1),
+                Set.of(ConfigurationFingerprint.of(pinnedConfig)));
+        cache.put(pinnedConfig, new GenericApplicationContext());
+
+        // WHEN
+        cache.put(configuration(Integer.class, "one-off"), new GenericApplicationContext());
+
+        // THEN
+        Assertions.assertTrue(cache.contains(pinnedConfig));
+    }
+
+    @Test
+    void remove_shouldClosePinnedContext() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(1), Set.of());
+        MergedContextConfiguration pinnedConfig = configuration(PinnedTest.class, "full");
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        cache.put(pinnedConfig, context);
+
+        // WHEN
+        cache.remove(pinnedConfig, DirtiesContext.HierarchyMode.EXHAUSTIVE);
+
+        // THEN
+        Assertions.assertFalse(cache.contains(pinnedConfig));
+        Assertions.assertFalse(context.isActive());
+    }
+
+    @Test
+    void invalidateAll_shouldCloseEveryCachedContext() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(4), Set.of());
+        List<ContextRemoval> removals = new CopyOnWriteArrayList<>();
+        cache.registerListener(new SpyContextCacheListener() {
+            @Override
+            public void onContextRemoved(ContextRemoval removal) {
+                removals.add(removal);
+            }
+        });
+        GenericApplicationContext pinnedContext = new GenericApplicationContext();
+        pinnedContext.refresh();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        cache.put(configuration(PinnedTest.class, "full"), pinnedContext);
+        cache.put(configuration(String.class, "one-off"), context);
+
+        // WHEN
+        int invalidated = cache.invalidateAll();
+
+        // THEN
+        Assertions.assertEquals(2, invalidated);
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertFalse(pinnedContext.isActive());
+        Assertions.assertFalse(context.isActive());
+        Assertions.assertTrue(removals.stream().allMatch(removal -> removal.cause() == ContextRemoval.Cause.INVALIDATED));
+    }
+
+    @Test
+    void remove_shouldOnlyReportContextsThatWereCached() {
+        // GIVEN
+        ObservableContextCache cache = new ObservableContextCache(new DefaultContextCache(4), Set.of());
+        List<ContextRemoval> removals = new CopyOnWriteArrayList<>();
+        cache.registerListener(new SpyContextCacheListener() {
+            @Override
+            public void onContextRemoved(ContextRemoval removal) {
+                removals.add(removal);
+            }
+        });
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        cache.put(configuration(String.class, "cached"), context);
+
+        // WHEN
+        cache.remove(configuration(String.class, "never-cached"), DirtiesContext.HierarchyMode.EXHAUSTIVE);
+        cache.remove(configuration(String.class, "cached"), DirtiesContext.HierarchyMode.EXHAUSTIVE);
+        cache.remove(configuration(String.class, "cached"), DirtiesContext.HierarchyMode.EXHAUSTIVE);
+
+        // THEN
+        Assertions.assertEquals(1, removals.size());
+        Assertions.assertEquals(ConfigurationFingerprint.of(configuration(String.class, "cached")), removals.getFirst().fingerprint());
+    }
+
+    @Test
+    void defaultContextCache_shouldExposeTheFieldsReadToPinContexts_inSupportedSpringVersions() {
+        // GIVEN the supported Spring Framework 6.x, whose DefaultContextCache keeps its contexts in contextMap and hierarchyMap
+        String springVersion = SpringVersion.getVersion();
+        Assertions.assertTrue(springVersion.startsWith("6."), "Supported Spring Framework range is 6.x, got " + springVersion);
+
+        // WHEN / THEN
+        Assertions.assertTrue(ObservableContextCache.canDetachFromDefaultContextCache());
+    }
+
+    private static MergedContextConfiguration configuration(Class<?> testClass, String profile) {
+        return new MergedContextConfiguration(testClass, null, new Class<?>[]{TestApplication.class}, new String[]{profile}, null);
+    }
+
+    @PinnedContext
+    static class PinnedTest {
+    }
 
     private static class SpyContextCacheListener implements ContextCacheMissesListener {
         private final List<Integer> cacheHitCount = new CopyOnWriteArrayList<>();
         private final List<Integer> cacheMissesCount = new CopyOnWriteArrayList<>();
+        private final List<Duration> contextLoads = new CopyOnWriteArrayList<>();
 
         @Override
         public void onCacheMiss(MergedContextConfiguration key) {
@@ -65,6 +258,15 @@ class ObservableContextCacheTest {
             cacheHitCount.add(cacheHitCount.size() + 1);
         }
 
+        @Override
+        public void onContextLoaded(MergedContextConfiguration key, Duration loadDuration) {
+            contextLoads.add(loadDuration);
+        }
+
+        public Integer contextLoadedCount() {
+            return contextLoads.size();
+        }
+
         public Integer cacheHitCount() {
             return cacheHitCount.size();
         }
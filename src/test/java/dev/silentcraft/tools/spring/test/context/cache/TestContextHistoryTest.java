@@ -1,6 +1,7 @@
 package dev.silentcraft.tools.spring.test.context.cache;
 
 import java.io.Serial;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -134,6 +135,33 @@ class TestContextHistoryTest {
         assertEquals(EventType.REUSE, event.type());
     }
 
+    @Test
+    void withLoadDuration_shouldTimeMatchingLoadEvent() {
+        MergedContextConfiguration config = new FakeMergedContextConfiguration(
+                new Class<?>[]{String.class},
+                new String[]{"zoo"}
+        );
+        TestContextHistory history = TestContextHistory.withFirst(TestContextHistory.Events.newMiss(config))
+                .withNew(TestContextHistory.Events.newHit(config));
+
+        TestContextHistory timed = history.withLoadDuration(config, Duration.ofSeconds(3));
+
+        assertEquals(Duration.ofSeconds(3), timed.events().get(0).duration());
+        assertEquals(Duration.ZERO, timed.events().get(1).duration());
+        assertEquals(Duration.ofSeconds(3), timed.totalLoadDuration());
+    }
+
+    @Test
+    void withLoadDuration_shouldIgnoreLoadOfAnotherConfiguration() {
+        MergedContextConfiguration zoo = new FakeMergedContextConfiguration(new Class<?>[]{String.class}, new String[]{"zoo"});
+        MergedContextConfiguration beach = new FakeMergedContextConfiguration(new Class<?>[]{String.class}, new String[]{"beach"});
+        TestContextHistory history = TestContextHistory.withFirst(TestContextHistory.Events.newMiss(zoo));
+
+        TestContextHistory timed = history.withLoadDuration(beach, Duration.ofSeconds(3));
+
+        assertEquals(Duration.ZERO, timed.totalLoadDuration());
+    }
+
     private static class FakeMergedContextConfiguration extends MergedContextConfiguration {
 
         @Serial
@@ -142,7 +170,7 @@ class TestContextHistoryTest {
         private final String[] activeProfiles;
 
         FakeMergedContextConfiguration(Class<?>[] classes, String[] activeProfiles) {
-            super(null, null, null, null, null);
+            super(null, null, classes, activeProfiles, null);
             this.classes = classes;
             this.activeProfiles = activeProfiles;
         }
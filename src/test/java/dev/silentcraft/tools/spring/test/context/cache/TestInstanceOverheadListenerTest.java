@@ -0,0 +1,91 @@
+package dev.silentcraft.tools.spring.test.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+class TestInstanceOverheadListenerTest {
+
+    private static final long HOOK_MILLIS = 20;
+
+    @BeforeEach
+    void setUp() {
+        TestInstanceOverheadRegistry.clear();
+    }
+
+    @Test
+    void listeners_shouldTimeOtherListenersWithCachedContext() throws Exception {
+        // GIVEN a slow listener surrounded by the opening and closing listeners
+        TestContextManager manager = new TestContextManager(SampleTest.class);
+        manager.getTestExecutionListeners().add(0, TestInstanceOverheadListener.opening());
+        manager.getTestExecutionListeners().add(TestInstanceOverheadListener.closing());
+        Method testMethod = SampleTest.class.getDeclaredMethod("test");
+
+        // WHEN
+        manager.prepareTestInstance(new SampleTest());
+        SampleTest instance = new SampleTest();
+        manager.prepareTestInstance(instance);
+        manager.beforeTestMethod(instance, testMethod);
+        manager.afterTestMethod(instance, testMethod, null);
+
+        // THEN
+        TestInstanceOverheadRegistry.TestInstanceOverhead overhead = TestInstanceOverheadRegistry.snapshot()
+                .get(new TestContextKey(SampleTest.class));
+        assertNotNull(overhead);
+        assertEquals(1, overhead.preparedInstances(), "the instance loading the context is not timed");
+        assertEquals(1, overhead.testMethods());
+        assertTrue(overhead.preparation().compareTo(Duration.ofMillis(HOOK_MILLIS)) >= 0, overhead::toString);
+        assertTrue(overhead.beforeMethods().compareTo(Duration.ofMillis(HOOK_MILLIS)) >= 0, overhead::toString);
+        assertTrue(overhead.afterMethods().compareTo(Duration.ofMillis(HOOK_MILLIS)) >= 0, overhead::toString);
+        assertEquals(overhead.total(), overhead.perTest());
+    }
+
+    @Test
+    void listeners_shouldBeOrderedAroundEveryOtherListener() {
+        assertTrue(TestInstanceOverheadListener.opening().getOrder() < new BeanUsageTestExecutionListener().getOrder());
+        assertTrue(TestInstanceOverheadListener.closing().getOrder() > new BeanUsageTestExecutionListener().getOrder());
+    }
+
+    @ContextConfiguration(classes = SampleTest.EmptyConfiguration.class)
+    @TestExecutionListeners(SlowListener.class)
+    static class SampleTest {
+
+        void test() {
+        }
+
+        @Configuration
+        static class EmptyConfiguration {
+        }
+    }
+
+    static class SlowListener extends AbstractTestExecutionListener {
+
+        @Override
+        public void prepareTestInstance(TestContext testContext) throws InterruptedException {
+            testContext.getApplicationContext();
+            Thread.sleep(HOOK_MILLIS);
+        }
+
+        @Override
+        public void beforeTestMethod(TestContext testContext) throws InterruptedException {
+            Thread.sleep(HOOK_MILLIS);
+        }
+
+        @Override
+        public void afterTestMethod(TestContext testContext) throws InterruptedException {
+            Thread.sleep(HOOK_MILLIS);
+        }
+    }
+}